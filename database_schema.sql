@@ -1,6 +1,6 @@
 -- ====================================================================
 -- Recipe & Meal Planner - MySQL Database Schema
--- Version: 3.0 (MySQL Integration)
+-- Version: 3.3 (Meal plans)
 -- ====================================================================
 
 -- Create database
@@ -17,8 +17,8 @@ CREATE TABLE IF NOT EXISTS recipes (
     name                VARCHAR(500) NOT NULL,
     description         TEXT,
     cuisine             VARCHAR(100),
-    total_time_mins     INT DEFAULT 30,
-    created_by          INT DEFAULT 0,          -- 0 = system/CSV recipe, >0 = user ID
+    total_time_mins     INT NOT NULL DEFAULT 30,
+    created_by          INT NOT NULL DEFAULT 0, -- 0 = system/CSV recipe, >0 = user ID
     source_url          VARCHAR(1000),
     image_url           VARCHAR(1000),
     raw_ingredients     TEXT,                   -- Full ingredient text with quantities
@@ -31,17 +31,71 @@ CREATE TABLE IF NOT EXISTS recipes (
 -- INDEXES for better search performance (Optional but recommended)
 -- ====================================================================
 
--- Index for recipe name search
-CREATE INDEX idx_recipe_name ON recipes(name(100));
+-- Composite (sort column, id) indexes back keyset pagination
+-- (RecipeRepository.findPage): WHERE (col, id) > (?, ?) ORDER BY col, id LIMIT ?
+-- becomes a single index seek. They also serve plain lookups on the column.
+
+-- Recipe name ordering and name lookups
+CREATE INDEX idx_name_id ON recipes(name, id);
 
 -- Index for cuisine filtering
 CREATE INDEX idx_cuisine ON recipes(cuisine);
 
--- Index for finding user recipes
-CREATE INDEX idx_created_by ON recipes(created_by);
+-- Finding user recipes and creator ordering
+CREATE INDEX idx_created_by_id ON recipes(created_by, id);
+
+-- Time-based queries and time ordering
+CREATE INDEX idx_time_id ON recipes(total_time_mins, id);
+
+-- Full-text search (SearchStrategy.FULLTEXT, RecipeRepository.searchFullText).
+-- A B-tree cannot serve LIKE '%term%'; these inverted indexes answer
+-- MATCH ... AGAINST directly. The name-only index lets name matches be
+-- weighted above ingredient matches. Words shorter than
+-- innodb_ft_min_token_size (default 3) and InnoDB stopwords are not indexed.
+CREATE FULLTEXT INDEX ft_name_ingredients ON recipes(name, raw_ingredients);
+CREATE FULLTEXT INDEX ft_name ON recipes(name);
+
+-- Upgrading a database created with schema 3.0:
+-- DROP INDEX idx_recipe_name ON recipes;
+-- DROP INDEX idx_created_by ON recipes;
+-- DROP INDEX idx_time ON recipes;
+-- UPDATE recipes SET total_time_mins = 30 WHERE total_time_mins IS NULL;
+-- UPDATE recipes SET created_by = 0 WHERE created_by IS NULL;
+-- ALTER TABLE recipes MODIFY total_time_mins INT NOT NULL DEFAULT 30,
+--                     MODIFY created_by INT NOT NULL DEFAULT 0;
+-- then run the three CREATE INDEX statements above.
+--
+-- Upgrading a database created with schema 3.1:
+-- run the two CREATE FULLTEXT INDEX statements above.
+--
+-- Upgrading a database created with schema 3.2:
+-- run the meal plan CREATE TABLE and CREATE INDEX statements below.
+
+-- ====================================================================
+-- MEAL PLANS TABLES
+-- Weekly plans from MealPlanService; one entry per day and meal
+-- ====================================================================
+
+CREATE TABLE IF NOT EXISTS meal_plans (
+    id                  INT PRIMARY KEY AUTO_INCREMENT,
+    user_id             INT NOT NULL,           -- Users are in-memory, so no foreign key yet
+    name                VARCHAR(200) NOT NULL,
+    week_start          DATE NOT NULL,
+    created_at          TIMESTAMP DEFAULT CURRENT_TIMESTAMP
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+CREATE TABLE IF NOT EXISTS meal_plan_entries (
+    meal_plan_id        INT NOT NULL,
+    day_of_week         TINYINT NOT NULL,       -- 0 = Monday ... 6 = Sunday
+    meal_type           VARCHAR(20) NOT NULL,   -- MealType name: BREAKFAST, LUNCH, DINNER
+    recipe_id           INT NOT NULL,
+    PRIMARY KEY (meal_plan_id, day_of_week, meal_type),
+    CONSTRAINT fk_entry_plan FOREIGN KEY (meal_plan_id) REFERENCES meal_plans(id) ON DELETE CASCADE,
+    CONSTRAINT fk_entry_recipe FOREIGN KEY (recipe_id) REFERENCES recipes(id) ON DELETE CASCADE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
--- Index for time-based queries
-CREATE INDEX idx_time ON recipes(total_time_mins);
+-- A user's plans, newest week first (MealPlanRepository.findByUserId)
+CREATE INDEX idx_meal_plans_user ON meal_plans(user_id, week_start);
 
 -- ====================================================================
 -- OPTIONAL: Users table (for future enhancement)
@@ -70,7 +124,7 @@ ALTER TABLE recipes
 -- Run these to check if setup was successful
 -- ====================================================================
 
--- Check if table was created
+-- Check if tables were created
 SHOW TABLES;
 
 -- Check table structure
@@ -89,15 +143,27 @@ SELECT COUNT(*) as recipe_count FROM recipes;
 -- Get all recipes
 -- SELECT * FROM recipes LIMIT 10;
 
+-- Next page of recipes by name after ('Aloo Gobi', 42)
+-- SELECT * FROM recipes WHERE (name, id) > ('Aloo Gobi', 42) ORDER BY name, id LIMIT 50;
+
 -- Search recipes by name
 -- SELECT id, name, cuisine, total_time_mins FROM recipes WHERE name LIKE '%paneer%';
 
+-- Full-text search: all words required, last word as a prefix, best matches first
+-- SELECT id, name, MATCH(name, raw_ingredients) AGAINST ('+paneer +butt*' IN BOOLEAN MODE) AS relevance
+-- FROM recipes WHERE MATCH(name, raw_ingredients) AGAINST ('+paneer +butt*' IN BOOLEAN MODE)
+-- ORDER BY relevance DESC LIMIT 20;
+
 -- Get recipes by cuisine
 -- SELECT COUNT(*) as count, cuisine FROM recipes GROUP BY cuisine ORDER BY count DESC;
 
 -- Get quick recipes (under 30 minutes)
 -- SELECT name, total_time_mins FROM recipes WHERE total_time_mins <= 30 ORDER BY total_time_mins;
 
+-- Show a meal plan day by day
+-- SELECT e.day_of_week, e.meal_type, r.name FROM meal_plan_entries e
+-- JOIN recipes r ON r.id = e.recipe_id WHERE e.meal_plan_id = 1 ORDER BY e.day_of_week, e.meal_type;
+
 -- ====================================================================
 -- END OF SCHEMA
 -- ====================================================================
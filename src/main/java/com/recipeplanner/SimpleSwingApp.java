@@ -1,7 +1,13 @@
 package com.recipeplanner;
 
 import com.recipeplanner.model.*;
+import com.recipeplanner.repository.RecipeOrder;
+import com.recipeplanner.repository.RecipePage;
+import com.recipeplanner.search.AutocompleteIndex;
+import com.recipeplanner.search.PantryMatcher;
 import com.recipeplanner.service.AuthenticationService;
+import com.recipeplanner.service.MealPlanConstraints;
+import com.recipeplanner.service.MealPlanService;
 import com.recipeplanner.service.RecipeService;
 import com.recipeplanner.util.InMemoryDataSeeder;
 import com.recipeplanner.exceptions.AuthenticationException;
@@ -28,23 +34,41 @@ public class SimpleSwingApp extends JFrame {
     // Services
     private AuthenticationService authService = new AuthenticationService();
     private RecipeService recipeService = new RecipeService();
+    private MealPlanService mealPlanService = new MealPlanService(recipeService);
     
     // Current user
     private User currentUser;
     
     // UI Components
-    private JPanel recipeCardsPanel;
+    private JList<RecipeSummary> recipeList;
+    private RecipeListModel recipeListModel;
+    private RecipeCardRenderer recipeCardRenderer;
     private JTextField searchField;
+    private JPopupMenu suggestionPopup;
     private JLabel statusLabel;
     private JLabel userLabel;
     private JButton backButton;
     private JButton removeRecipeBtn;
     
     // Store all recipes for reference
-    private List<Recipe> allRecipes;
+    private List<RecipeSummary> allRecipes;
+    private boolean viewingAllRecipes;
     
-    // Shopping list to accumulate ingredients from multiple recipes
-    private java.util.Map<String, List<String>> shoppingList = new java.util.LinkedHashMap<>();
+    // Recipe load in progress (replaced and cancelled when a newer one starts)
+    private SwingWorker<?, ?> currentLoad;
+    
+    // Keyset paging of the full catalogue: more pages load as the list is scrolled
+    private static final int PAGE_SIZE = 50;
+    private RecipeOrder pagedOrder = RecipeOrder.BY_NAME;
+    private RecipePage.Cursor nextPageCursor;
+    private int pagedTotal;
+    
+    // "What can I cook" search settings
+    private static final int PANTRY_MAX_MISSING = 2;
+    private static final int PANTRY_RESULT_LIMIT = 100;
+    
+    // Shopping list combining the ingredients of multiple recipes
+    private final ShoppingList shoppingList = new ShoppingList();
     
     public static void main(String[] args) {
         // Load custom Lexend font
@@ -59,7 +83,7 @@ public class SimpleSwingApp extends JFrame {
         
         SwingUtilities.invokeLater(() -> {
             SimpleSwingApp app = new SimpleSwingApp();
-            app.showLoginDialog();
+            app.initializeData();
         });
     }
     
@@ -104,25 +128,227 @@ public class SimpleSwingApp extends JFrame {
         setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
         setLocationRelativeTo(null);
         
-        // Initialize data
-        initializeData();
-        
-        // Create UI components
+        // Create UI components (data is loaded afterwards by initializeData)
         createUI();
     }
     
     /**
      * Initializes data storage with MySQL and loads recipes from database.
+     * Seeding runs on a background thread while a progress window is shown;
+     * the login dialog opens once it finishes.
      */
     private void initializeData() {
-        try {
-            // Initialize all data (users, ingredients, and MySQL recipes)
-            InMemoryDataSeeder seeder = new InMemoryDataSeeder();
-            seeder.seedAllData();
+        JDialog progressDialog = new JDialog(this, "Loading", false);
+        progressDialog.setUndecorated(true);
+        
+        JPanel panel = new JPanel(new BorderLayout(0, 10));
+        panel.setBackground(MINT_BG);
+        panel.setBorder(BorderFactory.createCompoundBorder(
+            BorderFactory.createLineBorder(DARK_GREEN),
+            new EmptyBorder(20, 25, 20, 25)));
+        
+        JLabel titleLabel = new JLabel("Recipe & Meal Planner");
+        titleLabel.setFont(getLexendFont(Font.BOLD, 18));
+        titleLabel.setForeground(DARK_GREEN);
+        panel.add(titleLabel, BorderLayout.NORTH);
+        
+        JLabel stepLabel = new JLabel("Starting...");
+        stepLabel.setFont(getLexendFont(Font.PLAIN, 13));
+        panel.add(stepLabel, BorderLayout.CENTER);
+        
+        JProgressBar progressBar = new JProgressBar(0, 100);
+        progressBar.setStringPainted(true);
+        progressBar.setForeground(DARK_GREEN);
+        panel.add(progressBar, BorderLayout.SOUTH);
+        
+        progressDialog.add(panel);
+        progressDialog.setSize(420, 140);
+        progressDialog.setLocationRelativeTo(null);
+        progressDialog.setVisible(true);
+        
+        SwingWorker<Void, String> seedWorker = new SwingWorker<Void, String>() {
+            @Override
+            protected Void doInBackground() {
+                // Initialize all data (users, ingredients, and MySQL recipes)
+                InMemoryDataSeeder seeder = new InMemoryDataSeeder();
+                seeder.seedAllData((message, percent) -> {
+                    publish(message);
+                    setProgress(Math.max(0, Math.min(100, percent)));
+                });
+                // Build the suggestion index here, not on the first keystroke
+                recipeService.prepareSuggestions();
+                return null;
+            }
             
-        } catch (Exception e) {
-            System.err.println("Error initializing data: " + e.getMessage());
-            e.printStackTrace();
+            @Override
+            protected void process(List<String> messages) {
+                stepLabel.setText(messages.get(messages.size() - 1));
+            }
+            
+            @Override
+            protected void done() {
+                try {
+                    get();
+                } catch (InterruptedException | java.util.concurrent.ExecutionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    System.err.println("Error initializing data: " + cause.getMessage());
+                    cause.printStackTrace();
+                }
+                progressDialog.dispose();
+                showLoginDialog();
+            }
+        };
+        seedWorker.addPropertyChangeListener(e -> {
+            if ("progress".equals(e.getPropertyName())) {
+                progressBar.setValue((Integer) e.getNewValue());
+            }
+        });
+        seedWorker.execute();
+    }
+    
+    /**
+     * Runs a recipe query on a background thread and shows the results when it finishes.
+     * Starting a new load cancels the one in progress, so a slow search that
+     * was superseded can never overwrite newer results.
+     * 
+     * @param query The query to run off the Event Dispatch Thread
+     * @param allRecipesView true if the results are the full catalogue
+     * @param statusMessage Builds the status bar text from the result count
+     */
+    private void loadRecipesAsync(java.util.function.Supplier<List<RecipeSummary>> query, boolean allRecipesView,
+                                  java.util.function.IntFunction<String> statusMessage) {
+        if (currentLoad != null && !currentLoad.isDone()) {
+            currentLoad.cancel(true);
+        }
+        viewingAllRecipes = allRecipesView;
+        allRecipes = new java.util.ArrayList<>();
+        updateRecipeList(allRecipes);
+        statusLabel.setText("Loading recipes...");
+        
+        currentLoad = new RecipeLoadWorker(query, statusMessage);
+        currentLoad.execute();
+    }
+    
+    /**
+     * Shows the full catalogue page by page in the given order.
+     * Only the first page is fetched now; the rest follow as the user scrolls.
+     * 
+     * @param order The ordering to page through
+     */
+    private void loadPagedRecipes(RecipeOrder order) {
+        if (currentLoad != null && !currentLoad.isDone()) {
+            currentLoad.cancel(true);
+        }
+        viewingAllRecipes = true;
+        pagedOrder = order;
+        nextPageCursor = null;
+        pagedTotal = -1;
+        allRecipes = new java.util.ArrayList<>();
+        updateRecipeList(allRecipes);
+        statusLabel.setText("Loading recipes...");
+        
+        currentLoad = new PageLoadWorker(order, null);
+        currentLoad.execute();
+    }
+    
+    /**
+     * Fetches the next page when the last loaded cards come into view.
+     */
+    private void loadMoreIfNearEnd() {
+        if (!viewingAllRecipes || nextPageCursor == null ||
+            (currentLoad != null && !currentLoad.isDone())) {
+            return;
+        }
+        int lastVisible = recipeList.getLastVisibleIndex();
+        if (lastVisible >= recipeListModel.getSize() - PAGE_SIZE / 5) {
+            currentLoad = new PageLoadWorker(pagedOrder, nextPageCursor);
+            currentLoad.execute();
+        }
+    }
+    
+    /**
+     * Background fetch of one catalogue page (plus the total count on the first page).
+     */
+    private class PageLoadWorker extends SwingWorker<RecipePage<RecipeSummary>, Void> {
+        private final RecipeOrder order;
+        private final RecipePage.Cursor after;
+        private int total = -1;
+        
+        PageLoadWorker(RecipeOrder order, RecipePage.Cursor after) {
+            this.order = order;
+            this.after = after;
+        }
+        
+        @Override
+        protected RecipePage<RecipeSummary> doInBackground() {
+            if (after == null) {
+                total = recipeService.getRecipeCount();
+            }
+            return recipeService.getRecipeSummaryPage(order, after, PAGE_SIZE);
+        }
+        
+        @Override
+        protected void done() {
+            if (this != currentLoad || isCancelled()) {
+                return;
+            }
+            try {
+                RecipePage<RecipeSummary> page = get();
+                if (total >= 0) {
+                    pagedTotal = total;
+                }
+                recipeListModel.addRecipes(page.getRecipes());
+                allRecipes.addAll(page.getRecipes());
+                nextPageCursor = page.getNextCursor();
+                statusLabel.setText("Showing " + allRecipes.size() +
+                    (pagedTotal >= 0 ? " of " + pagedTotal : "") + " recipes" +
+                    (order == RecipeOrder.BY_NAME ? "" : " (sorted by " + order.getDisplayName().toLowerCase() + ")"));
+            } catch (InterruptedException | java.util.concurrent.ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                System.err.println("Error loading recipes: " + cause.getMessage());
+                statusLabel.setText("Error loading recipes: " + cause.getMessage());
+                return;
+            }
+            // A short page may not fill the window, so no scroll event would follow
+            SwingUtilities.invokeLater(SimpleSwingApp.this::loadMoreIfNearEnd);
+        }
+    }
+    
+    /**
+     * Background recipe query whose results are shown all at once.
+     * Searches and filters return a complete ranked list, so there is nothing
+     * to show early; the full catalogue is paged by PageLoadWorker instead.
+     */
+    private class RecipeLoadWorker extends SwingWorker<List<RecipeSummary>, Void> {
+        private final java.util.function.Supplier<List<RecipeSummary>> query;
+        private final java.util.function.IntFunction<String> statusMessage;
+        
+        RecipeLoadWorker(java.util.function.Supplier<List<RecipeSummary>> query,
+                         java.util.function.IntFunction<String> statusMessage) {
+            this.query = query;
+            this.statusMessage = statusMessage;
+        }
+        
+        @Override
+        protected List<RecipeSummary> doInBackground() {
+            return query.get();
+        }
+        
+        @Override
+        protected void done() {
+            if (this != currentLoad || isCancelled()) {
+                return;
+            }
+            try {
+                List<RecipeSummary> recipes = get();
+                recipeListModel.addRecipes(recipes);
+                allRecipes = new java.util.ArrayList<>(recipes);
+                statusLabel.setText(statusMessage.apply(recipes.size()));
+            } catch (InterruptedException | java.util.concurrent.ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                System.err.println("Error loading recipes: " + cause.getMessage());
+                statusLabel.setText("Error loading recipes: " + cause.getMessage());
+            }
         }
     }
     
@@ -536,7 +762,11 @@ public class SimpleSwingApp extends JFrame {
                 }
             }
         });
-        searchField.addActionListener(e -> searchRecipes());
+        searchField.addActionListener(e -> {
+            suggestionPopup.setVisible(false);
+            searchRecipes();
+        });
+        installSearchSuggestions();
         searchPanel.add(searchField);
         
         // Sort button
@@ -544,6 +774,16 @@ public class SimpleSwingApp extends JFrame {
         sortBtn.addActionListener(e -> sortRecipesByTime());
         searchPanel.add(sortBtn);
         
+        // Pantry button
+        JButton pantryBtn = createOutlineButton("What Can I Cook?");
+        pantryBtn.addActionListener(e -> searchByPantry());
+        searchPanel.add(pantryBtn);
+        
+        // Meal plan button
+        JButton planBtn = createOutlineButton("Plan My Week");
+        planBtn.addActionListener(e -> planWeek());
+        searchPanel.add(planBtn);
+        
         // Combine header
         JPanel fullHeaderPanel = new JPanel(new BorderLayout());
         fullHeaderPanel.setBackground(MINT_BG);
@@ -552,13 +792,29 @@ public class SimpleSwingApp extends JFrame {
         
         mainPanel.add(fullHeaderPanel, BorderLayout.NORTH);
         
-        // Recipe cards panel - single column layout
-        recipeCardsPanel = new JPanel();
-        recipeCardsPanel.setLayout(new BoxLayout(recipeCardsPanel, BoxLayout.Y_AXIS));
-        recipeCardsPanel.setBackground(MINT_BG);
-        recipeCardsPanel.setBorder(new EmptyBorder(20, 40, 20, 40));
-        
-        JScrollPane scrollPane = new JScrollPane(recipeCardsPanel);
+        // Recipe cards - single column, virtualized: one renderer stamps the visible cards
+        recipeListModel = new RecipeListModel();
+        recipeCardRenderer = new RecipeCardRenderer();
+        recipeList = new JList<RecipeSummary>(recipeListModel) {
+            @Override
+            public boolean getScrollableTracksViewportWidth() {
+                return true; // Cards stretch to the window width
+            }
+            
+            @Override
+            public int getScrollableUnitIncrement(Rectangle visibleRect, int orientation, int direction) {
+                return 16;
+            }
+        };
+        recipeList.setCellRenderer(recipeCardRenderer);
+        recipeList.setFixedCellHeight(recipeCardRenderer.getCellHeight());
+        recipeList.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        recipeList.setBackground(MINT_BG);
+        recipeList.setBorder(new EmptyBorder(20, 40, 20, 40));
+        installRecipeCardActions();
+        
+        JScrollPane scrollPane = new JScrollPane(recipeList);
+        scrollPane.getVerticalScrollBar().addAdjustmentListener(e -> loadMoreIfNearEnd());
         scrollPane.setBorder(null);
         scrollPane.getVerticalScrollBar().setUnitIncrement(16);
         scrollPane.getViewport().setBackground(MINT_BG);
@@ -568,6 +824,59 @@ public class SimpleSwingApp extends JFrame {
         return mainPanel;
     }
     
+    /**
+     * Shows completion suggestions under the search field while the user types.
+     * Suggestions come from RecipeService's in-memory prefix index.
+     */
+    private void installSearchSuggestions() {
+        suggestionPopup = new JPopupMenu();
+        suggestionPopup.setFocusable(false);
+        
+        searchField.getDocument().addDocumentListener(new javax.swing.event.DocumentListener() {
+            public void insertUpdate(javax.swing.event.DocumentEvent e) {
+                SwingUtilities.invokeLater(() -> updateSearchSuggestions());
+            }
+            public void removeUpdate(javax.swing.event.DocumentEvent e) {
+                SwingUtilities.invokeLater(() -> updateSearchSuggestions());
+            }
+            public void changedUpdate(javax.swing.event.DocumentEvent e) {
+            }
+        });
+    }
+    
+    /**
+     * Refreshes the suggestion popup for the current search text.
+     */
+    private void updateSearchSuggestions() {
+        String prefix = searchField.getText().trim();
+        suggestionPopup.setVisible(false);
+        suggestionPopup.removeAll();
+        
+        if (prefix.isEmpty() || prefix.equals("Search recipes...") || !searchField.hasFocus()) {
+            return;
+        }
+        
+        for (AutocompleteIndex.Suggestion suggestion : recipeService.getSuggestions(prefix, 8)) {
+            String label = suggestion.getType() == AutocompleteIndex.SuggestionType.RECIPE
+                ? suggestion.getText()
+                : suggestion.getText() + "  (" + suggestion.getType().name().toLowerCase() + ")";
+            JMenuItem item = new JMenuItem(label);
+            item.setFont(getLexendFont(Font.PLAIN, 13));
+            item.addActionListener(e -> {
+                recipeService.recordSuggestionSelection(suggestion.getText());
+                searchField.setText(suggestion.getText());
+                suggestionPopup.setVisible(false);
+                searchRecipes();
+            });
+            suggestionPopup.add(item);
+        }
+        
+        if (suggestionPopup.getComponentCount() > 0) {
+            suggestionPopup.show(searchField, 0, searchField.getHeight());
+            searchField.requestFocusInWindow();
+        }
+    }
+    
     /**
      * Creates an outlined button with consistent style.
      */
@@ -609,9 +918,7 @@ public class SimpleSwingApp extends JFrame {
      * Loads all recipes into the list.
      */
     private void loadAllRecipes() {
-        allRecipes = recipeService.getAllRecipes();
-        updateRecipeList(allRecipes);
-        statusLabel.setText("Loaded " + allRecipes.size() + " recipes");
+        loadPagedRecipes(RecipeOrder.BY_NAME);
         
         // Hide back button when viewing all recipes
         if (backButton != null) {
@@ -624,102 +931,108 @@ public class SimpleSwingApp extends JFrame {
     
     /**
      * Updates the recipe cards display - single column with spacing.
+     * Only the model changes; cards are painted on demand for the visible rows.
+     */
+    private void updateRecipeList(List<RecipeSummary> recipes) {
+        recipeListModel.setRecipes(recipes);
+        recipeList.clearSelection();
+        recipeList.ensureIndexIsVisible(0);
+    }
+    
+    /**
+     * Forwards clicks on the painted card buttons to their actions.
+     * Double-click or Enter on a card opens the recipe.
      */
-    private void updateRecipeList(List<Recipe> recipes) {
-        recipeCardsPanel.removeAll();
+    private void installRecipeCardActions() {
+        MouseAdapter mouseHandler = new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                if (!SwingUtilities.isLeftMouseButton(e)) {
+                    return;
+                }
+                int index = cardIndexAt(e.getPoint());
+                if (index < 0) {
+                    return;
+                }
+                RecipeSummary recipe = recipeListModel.getElementAt(index);
+                JButton button = cardButtonAt(index, e.getPoint());
+                if (button != null) {
+                    runCardAction(button, recipe);
+                } else if (e.getClickCount() == 2) {
+                    withFullRecipe(recipe, SimpleSwingApp.this::showModernRecipeCard);
+                }
+            }
+            
+            @Override
+            public void mouseMoved(MouseEvent e) {
+                int index = cardIndexAt(e.getPoint());
+                boolean overButton = index >= 0 && cardButtonAt(index, e.getPoint()) != null;
+                recipeList.setCursor(overButton ? Cursor.getPredefinedCursor(Cursor.HAND_CURSOR)
+                                                : Cursor.getDefaultCursor());
+            }
+        };
+        recipeList.addMouseListener(mouseHandler);
+        recipeList.addMouseMotionListener(mouseHandler);
         
-        for (Recipe recipe : recipes) {
-            JPanel card = createRecipeCard(recipe);
-            card.setAlignmentX(Component.LEFT_ALIGNMENT);
-            card.setMaximumSize(new Dimension(Integer.MAX_VALUE, card.getPreferredSize().height + 50));
-            recipeCardsPanel.add(card);
-            recipeCardsPanel.add(Box.createVerticalStrut(15)); // Spacing between cards
+        recipeList.getInputMap().put(KeyStroke.getKeyStroke(KeyEvent.VK_ENTER, 0), "openRecipe");
+        recipeList.getActionMap().put("openRecipe", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                RecipeSummary selected = recipeList.getSelectedValue();
+                if (selected != null) {
+                    withFullRecipe(selected, SimpleSwingApp.this::showModernRecipeCard);
+                }
+            }
+        });
+    }
+    
+    /**
+     * Gets the index of the card under a point, or -1 if the point is between cards.
+     */
+    private int cardIndexAt(Point point) {
+        int index = recipeList.locationToIndex(point);
+        if (index < 0 || !recipeList.getCellBounds(index, index).contains(point)) {
+            return -1;
         }
-        
-        recipeCardsPanel.revalidate();
-        recipeCardsPanel.repaint();
+        return index;
     }
     
     /**
-     * Creates a modern recipe card matching the design.
+     * Finds the card button under a point by laying out the renderer for that card.
      */
-    private JPanel createRecipeCard(Recipe recipe) {
-        JPanel card = new JPanel();
-        card.setLayout(new BorderLayout());
-        card.setBackground(Color.WHITE);
-        card.setBorder(createRoundedBorder(new Color(220, 220, 220), 15, 18));
-        
-        // Content panel
-        JPanel contentPanel = new JPanel();
-        contentPanel.setLayout(new BoxLayout(contentPanel, BoxLayout.Y_AXIS));
-        contentPanel.setBackground(Color.WHITE);
-        
-        // Recipe name
-        JLabel nameLabel = new JLabel(recipe.getName());
-        nameLabel.setFont(getLexendFont(Font.BOLD, 18));
-        nameLabel.setForeground(new Color(33, 33, 33));
-        nameLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
-        contentPanel.add(nameLabel);
-        
-        contentPanel.add(Box.createVerticalStrut(12));
-        
-        // Meta info panel (time and servings)
-        JPanel metaPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
-        metaPanel.setBackground(Color.WHITE);
-        metaPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
-        
-        // Time label
-        JLabel timeLabel = new JLabel(recipe.getFormattedTime());
-        timeLabel.setFont(getLexendFont(Font.PLAIN, 13));
-        timeLabel.setForeground(new Color(100, 100, 100));
-        metaPanel.add(timeLabel);
-        
-        contentPanel.add(metaPanel);
-        contentPanel.add(Box.createVerticalStrut(8));
-        
-        // Ingredients count
-        int ingredientCount = recipe.getRawIngredientsText() != null ? 
-            recipe.getRawIngredientsText().split(",").length : 0;
-        JLabel ingredientsLabel = new JLabel(ingredientCount + " ingredients");
-        ingredientsLabel.setFont(getLexendFont(Font.PLAIN, 13));
-        ingredientsLabel.setForeground(DARK_GREEN);
-        ingredientsLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
-        contentPanel.add(ingredientsLabel);
-        
-        contentPanel.add(Box.createVerticalStrut(15));
-        
-        // Buttons panel
-        JPanel buttonsPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 6, 0));
-        buttonsPanel.setBackground(Color.WHITE);
-        buttonsPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
-        
-        // Add to Grocery button
-        JButton groceryButton = createOutlineButton("Add to Grocery");
-        groceryButton.setFont(getLexendFont(Font.PLAIN, 11));
-        groceryButton.addActionListener(e -> addRecipeToGroceryList(recipe));
-        buttonsPanel.add(groceryButton);
-        
-        // View Recipe button
-        JButton viewButton = createOutlineButton("View Recipe");
-        viewButton.setFont(getLexendFont(Font.PLAIN, 11));
-        viewButton.addActionListener(e -> showModernRecipeCard(recipe));
-        buttonsPanel.add(viewButton);
-        
-        // Add to My Recipes button
-        JButton addToMyBtn = createOutlineButton("+ My Recipes");
-        addToMyBtn.setFont(getLexendFont(Font.PLAIN, 11));
-        addToMyBtn.addActionListener(e -> addToMyRecipesAction(recipe));
-        buttonsPanel.add(addToMyBtn);
-        
-        // Delete button (red X)
-        JButton deleteButton = new JButton("X");
-        deleteButton.setFont(getLexendFont(Font.BOLD, 12));
-        deleteButton.setForeground(new Color(211, 47, 47));
-        deleteButton.setBackground(new Color(255, 235, 238));
-        deleteButton.setBorder(createRoundedBorder(new Color(211, 47, 47), 10, 6));
-        deleteButton.setFocusPainted(false);
-        deleteButton.setCursor(new Cursor(Cursor.HAND_CURSOR));
-        deleteButton.addActionListener(e -> {
+    private JButton cardButtonAt(int index, Point point) {
+        Rectangle bounds = recipeList.getCellBounds(index, index);
+        Component card = recipeCardRenderer.getListCellRendererComponent(
+            recipeList, recipeListModel.getElementAt(index), index, false, false);
+        card.setBounds(bounds);
+        layoutTree(card);
+        Component hit = SwingUtilities.getDeepestComponentAt(card, point.x - bounds.x, point.y - bounds.y);
+        return hit instanceof JButton ? (JButton) hit
+                                      : (JButton) SwingUtilities.getAncestorOfClass(JButton.class, hit);
+    }
+    
+    private static void layoutTree(Component component) {
+        if (component instanceof Container) {
+            Container container = (Container) component;
+            container.doLayout();
+            for (Component child : container.getComponents()) {
+                layoutTree(child);
+            }
+        }
+    }
+    
+    /**
+     * Runs the action of a card button for the given recipe.
+     * Actions that need ingredients or instructions load the full recipe first.
+     */
+    private void runCardAction(JButton button, RecipeSummary recipe) {
+        if (button == recipeCardRenderer.groceryButton) {
+            withFullRecipe(recipe, this::addRecipeToGroceryList);
+        } else if (button == recipeCardRenderer.viewButton) {
+            withFullRecipe(recipe, this::showModernRecipeCard);
+        } else if (button == recipeCardRenderer.addToMyButton) {
+            withFullRecipe(recipe, this::addToMyRecipesAction);
+        } else if (button == recipeCardRenderer.deleteButton) {
             int confirm = JOptionPane.showConfirmDialog(this,
                 "Remove '" + recipe.getName() + "' from your recipes?",
                 "Confirm Removal",
@@ -728,23 +1041,207 @@ public class SimpleSwingApp extends JFrame {
                 recipeService.deleteRecipe(recipe.getId());
                 loadAllRecipes();
             }
-        });
-        buttonsPanel.add(deleteButton);
+        }
+    }
+    
+    /**
+     * Loads the full recipe behind a card in the background, then runs the action
+     * with it on the Event Dispatch Thread. Cards only hold a RecipeSummary, so
+     * instructions and the complete ingredient list are fetched on demand.
+     * 
+     * @param summary The card's recipe summary
+     * @param action What to do with the full recipe
+     */
+    private void withFullRecipe(RecipeSummary summary, java.util.function.Consumer<Recipe> action) {
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        new SwingWorker<Recipe, Void>() {
+            @Override
+            protected Recipe doInBackground() {
+                return recipeService.getRecipeById(summary.getId());
+            }
+            
+            @Override
+            protected void done() {
+                setCursor(Cursor.getDefaultCursor());
+                try {
+                    Recipe recipe = get();
+                    if (recipe == null) {
+                        statusLabel.setText("'" + summary.getName() + "' is no longer available");
+                        return;
+                    }
+                    action.accept(recipe);
+                } catch (InterruptedException | java.util.concurrent.ExecutionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    System.err.println("Error loading recipe: " + cause.getMessage());
+                    statusLabel.setText("Error loading recipe: " + cause.getMessage());
+                }
+            }
+        }.execute();
+    }
+    
+    /**
+     * Converts full recipes (search results already in memory) to card summaries.
+     */
+    private static List<RecipeSummary> toSummaries(List<Recipe> recipes) {
+        List<RecipeSummary> summaries = new java.util.ArrayList<>(recipes.size());
+        for (Recipe recipe : recipes) {
+            summaries.add(RecipeSummary.of(recipe));
+        }
+        return summaries;
+    }
+    
+    /**
+     * List model over the current recipe list.
+     * Replacing the contents fires a single change event instead of one per recipe.
+     */
+    @SuppressWarnings("serial") // Never serialized, like the rest of the UI
+    private static class RecipeListModel extends AbstractListModel<RecipeSummary> {
+        private List<RecipeSummary> recipes = new java.util.ArrayList<>();
+        
+        public void setRecipes(List<RecipeSummary> newRecipes) {
+            int oldSize = recipes.size();
+            recipes = new java.util.ArrayList<>(newRecipes);
+            if (oldSize > 0) {
+                fireIntervalRemoved(this, 0, oldSize - 1);
+            }
+            if (!recipes.isEmpty()) {
+                fireIntervalAdded(this, 0, recipes.size() - 1);
+            }
+        }
         
-        contentPanel.add(buttonsPanel);
+        public void addRecipes(List<RecipeSummary> moreRecipes) {
+            if (moreRecipes.isEmpty()) {
+                return;
+            }
+            int first = recipes.size();
+            recipes.addAll(moreRecipes);
+            fireIntervalAdded(this, first, recipes.size() - 1);
+        }
         
-        card.add(contentPanel, BorderLayout.CENTER);
+        @Override
+        public int getSize() {
+            return recipes.size();
+        }
         
-        return card;
+        @Override
+        public RecipeSummary getElementAt(int index) {
+            return recipes.get(index);
+        }
+    }
+    
+    /**
+     * Modern recipe card matching the design, used as a rubber stamp:
+     * one instance is filled in and painted for each visible recipe, so the
+     * component count stays constant however many recipes are listed.
+     */
+    @SuppressWarnings("serial") // Never serialized, like the rest of the UI
+    private class RecipeCardRenderer extends JPanel implements ListCellRenderer<RecipeSummary> {
+        private final JLabel nameLabel = new JLabel();
+        private final JLabel timeLabel = new JLabel();
+        private final JLabel ingredientsLabel = new JLabel();
+        private final JButton groceryButton = createOutlineButton("Add to Grocery");
+        private final JButton viewButton = createOutlineButton("View Recipe");
+        private final JButton addToMyButton = createOutlineButton("+ My Recipes");
+        private final JButton deleteButton = new JButton("X");
+        private final JPanel card = new JPanel(new BorderLayout());
+        private final javax.swing.border.Border cardBorder = createRoundedBorder(new Color(220, 220, 220), 15, 18);
+        private final javax.swing.border.Border selectedCardBorder = createRoundedBorder(DARK_GREEN, 15, 18);
+        
+        RecipeCardRenderer() {
+            // Outer panel provides the spacing between cards
+            super(new BorderLayout());
+            setBackground(MINT_BG);
+            setBorder(new EmptyBorder(0, 0, 15, 0));
+            
+            card.setBackground(Color.WHITE);
+            card.setBorder(cardBorder);
+            
+            // Content panel
+            JPanel contentPanel = new JPanel();
+            contentPanel.setLayout(new BoxLayout(contentPanel, BoxLayout.Y_AXIS));
+            contentPanel.setBackground(Color.WHITE);
+            
+            // Recipe name
+            nameLabel.setFont(getLexendFont(Font.BOLD, 18));
+            nameLabel.setForeground(new Color(33, 33, 33));
+            nameLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+            contentPanel.add(nameLabel);
+            
+            contentPanel.add(Box.createVerticalStrut(12));
+            
+            // Meta info panel (time)
+            JPanel metaPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 0));
+            metaPanel.setBackground(Color.WHITE);
+            metaPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
+            timeLabel.setFont(getLexendFont(Font.PLAIN, 13));
+            timeLabel.setForeground(new Color(100, 100, 100));
+            metaPanel.add(timeLabel);
+            
+            contentPanel.add(metaPanel);
+            contentPanel.add(Box.createVerticalStrut(8));
+            
+            // Ingredients count
+            ingredientsLabel.setFont(getLexendFont(Font.PLAIN, 13));
+            ingredientsLabel.setForeground(DARK_GREEN);
+            ingredientsLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+            contentPanel.add(ingredientsLabel);
+            
+            contentPanel.add(Box.createVerticalStrut(15));
+            
+            // Buttons panel
+            JPanel buttonsPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 6, 0));
+            buttonsPanel.setBackground(Color.WHITE);
+            buttonsPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
+            
+            groceryButton.setFont(getLexendFont(Font.PLAIN, 11));
+            buttonsPanel.add(groceryButton);
+            viewButton.setFont(getLexendFont(Font.PLAIN, 11));
+            buttonsPanel.add(viewButton);
+            addToMyButton.setFont(getLexendFont(Font.PLAIN, 11));
+            buttonsPanel.add(addToMyButton);
+            
+            // Delete button (red X)
+            deleteButton.setFont(getLexendFont(Font.BOLD, 12));
+            deleteButton.setForeground(new Color(211, 47, 47));
+            deleteButton.setBackground(new Color(255, 235, 238));
+            deleteButton.setBorder(createRoundedBorder(new Color(211, 47, 47), 10, 6));
+            deleteButton.setFocusPainted(false);
+            buttonsPanel.add(deleteButton);
+            
+            contentPanel.add(buttonsPanel);
+            card.add(contentPanel, BorderLayout.CENTER);
+            add(card, BorderLayout.CENTER);
+        }
+        
+        /**
+         * Gets the height of one card including the spacing below it.
+         * All cards have the same height, so the list never measures each row.
+         */
+        int getCellHeight() {
+            nameLabel.setText("Recipe");
+            timeLabel.setText("30 mins");
+            ingredientsLabel.setText("10 ingredients");
+            return getPreferredSize().height;
+        }
+        
+        @Override
+        public Component getListCellRendererComponent(JList<? extends RecipeSummary> list, RecipeSummary recipe,
+                                                      int index, boolean isSelected, boolean cellHasFocus) {
+            nameLabel.setText(recipe.getName());
+            timeLabel.setText(recipe.getFormattedTime());
+            ingredientsLabel.setText(recipe.getIngredientCount() + " ingredients");
+            card.setBorder(isSelected ? selectedCardBorder : cardBorder);
+            return this;
+        }
     }
     
     /**
      * Adds recipe ingredients to grocery/shopping list.
      */
     private void addRecipeToGroceryList(Recipe recipe) {
-        String ingredientsText = recipe.getRawIngredientsText();
+        RecipeIngredients ingredients = recipeService.getIngredients(recipe);
         
-        if (ingredientsText == null || ingredientsText.trim().isEmpty()) {
+        if (ingredients.isEmpty()) {
             JOptionPane.showMessageDialog(this,
                 "This recipe has no ingredients listed",
                 "No Ingredients",
@@ -752,25 +1249,24 @@ public class SimpleSwingApp extends JFrame {
             return;
         }
         
-        String[] ingredients = ingredientsText.split(",");
-        List<String> ingredientsList = new java.util.ArrayList<>();
-        
-        for (String ingredient : ingredients) {
-            String trimmed = ingredient.trim();
-            if (!trimmed.isEmpty()) {
-                ingredientsList.add(trimmed);
-            }
+        if (shoppingList.containsRecipe(recipe.getId())) {
+            JOptionPane.showMessageDialog(this,
+                "\"" + recipe.getName() + "\" is already in your grocery list.",
+                "Already Added",
+                JOptionPane.INFORMATION_MESSAGE);
+            return;
         }
         
-        shoppingList.put(recipe.getName(), ingredientsList);
+        shoppingList.addRecipe(recipe, ingredients);
         
         JOptionPane.showMessageDialog(this,
-            "Added " + ingredientsList.size() + " ingredients from:\n\"" + 
-            recipe.getName() + "\"\n\nClick 'View my ingredient list' to see all.",
+            "Added " + ingredients.size() + " ingredients from:\n\"" + 
+            recipe.getName() + "\"\n\nYour list now has " + shoppingList.getItemCount() +
+            " items. Click 'View my ingredient list' to see all.",
             "Added to Grocery List",
             JOptionPane.INFORMATION_MESSAGE);
         
-        statusLabel.setText("Added " + ingredientsList.size() + " ingredients to grocery list");
+        statusLabel.setText("Added " + ingredients.size() + " ingredients to grocery list");
     }
     
     /**
@@ -863,16 +1359,12 @@ public class SimpleSwingApp extends JFrame {
         contentPanel.add(Box.createVerticalStrut(12));
         
         // Ingredients list with green bullets
-        if (recipe.getRawIngredientsText() != null && !recipe.getRawIngredientsText().isEmpty()) {
-            String[] ingredients = recipe.getRawIngredientsText().split(",");
-            for (String ingredient : ingredients) {
-                if (!ingredient.trim().isEmpty()) {
-                    JPanel ingredientPanel = createGreenIngredientItem(ingredient.trim());
-                    ingredientPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
-                    contentPanel.add(ingredientPanel);
-                    contentPanel.add(Box.createVerticalStrut(10));
-                }
-            }
+        RecipeIngredients ingredients = recipeService.getIngredients(recipe);
+        for (int i = 0; i < ingredients.size(); i++) {
+            JPanel ingredientPanel = createGreenIngredientItem(ingredients.getText(i));
+            ingredientPanel.setAlignmentX(Component.LEFT_ALIGNMENT);
+            contentPanel.add(ingredientPanel);
+            contentPanel.add(Box.createVerticalStrut(10));
         }
         
         contentPanel.add(Box.createVerticalStrut(20));
@@ -987,20 +1479,46 @@ public class SimpleSwingApp extends JFrame {
             return;
         }
         
-        List<Recipe> results = recipeService.searchRecipes(searchTerm, "name");
-        allRecipes = results;
-        updateRecipeList(results);
-        statusLabel.setText("Found " + results.size() + " recipe(s) matching '" + searchTerm + "'");
+        loadRecipesAsync(() -> toSummaries(recipeService.searchRecipes(searchTerm, "name")), false,
+                         count -> "Found " + count + " recipe(s) matching '" + searchTerm + "'");
+    }
+    
+    /**
+     * Asks for the ingredients the user has and lists recipes they can cook.
+     * Recipes missing up to PANTRY_MAX_MISSING ingredients are included.
+     */
+    private void searchByPantry() {
+        String input = JOptionPane.showInputDialog(this,
+            "Enter the ingredients you have, separated by commas:",
+            "What Can I Cook?",
+            JOptionPane.QUESTION_MESSAGE);
+        if (input == null || input.trim().isEmpty()) {
+            return;
+        }
+        
+        List<String> pantry = new java.util.ArrayList<>();
+        for (String item : input.split(",")) {
+            if (!item.trim().isEmpty()) {
+                pantry.add(item.trim());
+            }
+        }
+        
+        loadRecipesAsync(() -> {
+            List<RecipeSummary> results = new java.util.ArrayList<>();
+            for (PantryMatcher.PantryMatch match : recipeService.findRecipesByPantry(pantry, PANTRY_MAX_MISSING, PANTRY_RESULT_LIMIT)) {
+                results.add(RecipeSummary.of(match.getRecipe()));
+            }
+            return results;
+        }, false, count -> "Found " + count + " recipe(s) you can cook with at most " +
+                           PANTRY_MAX_MISSING + " missing ingredient(s)");
     }
     
     /**
      * Shows only user's recipes.
      */
     private void showMyRecipes() {
-        List<Recipe> myRecipes = recipeService.getUserRecipes(currentUser.getId());
-        allRecipes = myRecipes;
-        updateRecipeList(myRecipes);
-        statusLabel.setText("Your recipes: " + myRecipes.size());
+        int userId = currentUser.getId();
+        loadRecipesAsync(() -> recipeService.getUserRecipeSummaries(userId), false, count -> "Your recipes: " + count);
         
         // Show back button and refresh the panel
         if (backButton != null) {
@@ -1019,45 +1537,60 @@ public class SimpleSwingApp extends JFrame {
      * Shows statistics dialog.
      */
     private void showStatistics() {
-        List<Recipe> recipes = recipeService.getAllRecipes();
-        
-        // Count by cuisine
-        int northIndian = 0;
-        int southIndian = 0;
-        int other = 0;
+        statusLabel.setText("Calculating statistics...");
         
-        for (Recipe recipe : recipes) {
-            String cuisine = recipe.getCuisine();
-            if (cuisine != null) {
-                if (cuisine.toLowerCase().contains("north")) {
-                    northIndian++;
-                } else if (cuisine.toLowerCase().contains("south")) {
-                    southIndian++;
-                } else {
-                    other++;
+        new SwingWorker<int[], Void>() {
+            @Override
+            protected int[] doInBackground() {
+                // Count by cuisine: {total, north, south, other}, streaming the table
+                int[] counts = {0, 0, 0, 0};
+                counts[0] = recipeService.forEachRecipe(recipe -> {
+                    String cuisine = recipe.getCuisine();
+                    if (cuisine != null) {
+                        if (cuisine.toLowerCase().contains("north")) {
+                            counts[1]++;
+                        } else if (cuisine.toLowerCase().contains("south")) {
+                            counts[2]++;
+                        } else {
+                            counts[3]++;
+                        }
+                    }
+                });
+                return counts;
+            }
+            
+            @Override
+            protected void done() {
+                int[] counts;
+                try {
+                    counts = get();
+                } catch (InterruptedException | java.util.concurrent.ExecutionException e) {
+                    statusLabel.setText("Error calculating statistics");
+                    return;
                 }
+                statusLabel.setText(" ");
+                
+                String message = String.format(
+                    "Total Recipes: %d\n\n" +
+                    "By Cuisine:\n" +
+                    "  North Indian: %d\n" +
+                    "  South Indian: %d\n" +
+                    "  Other: %d\n\n" +
+                    "User: %s (%s)\n" +
+                    "Admin Privileges: %s",
+                    counts[0],
+                    counts[1],
+                    counts[2],
+                    counts[3],
+                    currentUser.getUsername(),
+                    currentUser.getUserType(),
+                    currentUser.isAdmin() ? "Yes" : "No"
+                );
+                
+                JOptionPane.showMessageDialog(SimpleSwingApp.this, message, "Statistics", 
+                    JOptionPane.INFORMATION_MESSAGE);
             }
-        }
-        
-        String message = String.format(
-            "Total Recipes: %d\n\n" +
-            "By Cuisine:\n" +
-            "  North Indian: %d\n" +
-            "  South Indian: %d\n" +
-            "  Other: %d\n\n" +
-            "User: %s (%s)\n" +
-            "Admin Privileges: %s",
-            recipes.size(),
-            northIndian,
-            southIndian,
-            other,
-            currentUser.getUsername(),
-            currentUser.getUserType(),
-            currentUser.isAdmin() ? "Yes" : "No"
-        );
-        
-        JOptionPane.showMessageDialog(this, message, "Statistics", 
-            JOptionPane.INFORMATION_MESSAGE);
+        }.execute();
     }
     
     /**
@@ -1072,7 +1605,7 @@ public class SimpleSwingApp extends JFrame {
         if (confirm == JOptionPane.YES_OPTION) {
             setVisible(false);
             currentUser = null;
-            recipeCardsPanel.removeAll();
+            recipeListModel.setRecipes(new java.util.ArrayList<>());
             showLoginDialog();
         }
     }
@@ -1087,6 +1620,12 @@ public class SimpleSwingApp extends JFrame {
             return;
         }
         
+        if (viewingAllRecipes) {
+            // Full catalogue: page through it in time order instead of sorting it here
+            loadPagedRecipes(RecipeOrder.BY_TIME);
+            return;
+        }
+        
         // Sort by cooking time using Java 8 lambda
         allRecipes.sort((r1, r2) -> Integer.compare(r1.getTotalTimeInMins(), r2.getTotalTimeInMins()));
         
@@ -1094,6 +1633,211 @@ public class SimpleSwingApp extends JFrame {
         statusLabel.setText("Recipes sorted by cooking time (shortest first)");
     }
     
+    /**
+     * Generates a meal plan for the coming week on a background thread,
+     * then shows it day by day.
+     */
+    private void planWeek() {
+        statusLabel.setText("Planning meals...");
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        
+        // Ingredients the plan needs, for the summary; filled by the worker
+        ShoppingList planIngredients = new ShoppingList();
+        new SwingWorker<MealPlan, Void>() {
+            @Override
+            protected MealPlan doInBackground() {
+                MealPlan plan = mealPlanService.generatePlan(new MealPlanConstraints.ConstraintsBuilder().build());
+                for (Recipe recipe : plan.getRecipes()) {
+                    planIngredients.addRecipe(recipe, recipeService.getIngredients(recipe));
+                }
+                return plan;
+            }
+            
+            @Override
+            protected void done() {
+                setCursor(Cursor.getDefaultCursor());
+                MealPlan plan;
+                try {
+                    plan = get();
+                } catch (InterruptedException | java.util.concurrent.ExecutionException e) {
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    System.err.println("Error planning meals: " + cause.getMessage());
+                    statusLabel.setText("Error planning meals: " + cause.getMessage());
+                    return;
+                }
+                if (plan.getMealCount() == 0) {
+                    statusLabel.setText(" ");
+                    JOptionPane.showMessageDialog(SimpleSwingApp.this,
+                        "No recipes fit the meal plan time limits.",
+                        "No Meal Plan",
+                        JOptionPane.INFORMATION_MESSAGE);
+                    return;
+                }
+                showMealPlan(plan, planIngredients);
+            }
+        }.execute();
+    }
+    
+    /**
+     * Shows a generated meal plan day by day.
+     * The plan can be regenerated, added to the grocery list or saved.
+     * 
+     * @param plan The plan to show
+     * @param planIngredients Combined ingredients of the planned recipes
+     */
+    private void showMealPlan(MealPlan plan, ShoppingList planIngredients) {
+        JDialog dialog = new JDialog(this, "Meal Plan", true);
+        dialog.setUndecorated(true); // Remove title bar (no duplicate close button)
+        dialog.setSize(700, 750);
+        dialog.setLocationRelativeTo(this);
+        dialog.setLayout(new BorderLayout());
+        
+        // Main panel with mint background
+        JPanel mainPanel = new JPanel(new BorderLayout());
+        mainPanel.setBackground(MINT_BG);
+        mainPanel.setBorder(new EmptyBorder(25, 30, 25, 30));
+        
+        // Header
+        JPanel headerPanel = new JPanel(new BorderLayout());
+        headerPanel.setBackground(MINT_BG);
+        
+        JLabel titleLabel = new JLabel(plan.getName());
+        titleLabel.setFont(getLexendFont(Font.BOLD, 24));
+        titleLabel.setForeground(new Color(33, 33, 33));
+        headerPanel.add(titleLabel, BorderLayout.WEST);
+        
+        // Close button
+        JButton closeBtn = new JButton("X");
+        closeBtn.setFont(getLexendFont(Font.BOLD, 14));
+        closeBtn.setForeground(new Color(100, 100, 100));
+        closeBtn.setContentAreaFilled(false);
+        closeBtn.setBorder(createRoundedBorder(new Color(180, 180, 180), 10, 5));
+        closeBtn.setPreferredSize(new Dimension(35, 35));
+        closeBtn.setCursor(new Cursor(Cursor.HAND_CURSOR));
+        closeBtn.setFocusPainted(false);
+        closeBtn.addActionListener(e -> dialog.dispose());
+        headerPanel.add(closeBtn, BorderLayout.EAST);
+        
+        mainPanel.add(headerPanel, BorderLayout.NORTH);
+        
+        // One card per day, one row per meal
+        JPanel contentPanel = new JPanel();
+        contentPanel.setLayout(new BoxLayout(contentPanel, BoxLayout.Y_AXIS));
+        contentPanel.setBackground(MINT_BG);
+        contentPanel.setBorder(new EmptyBorder(20, 0, 20, 0));
+        
+        for (java.time.DayOfWeek day : java.time.DayOfWeek.values()) {
+            JPanel dayCard = createShoppingCard(
+                day.getDisplayName(java.time.format.TextStyle.FULL, java.util.Locale.getDefault()) + ", " +
+                plan.getDate(day).format(java.time.format.DateTimeFormatter.ofPattern("d MMM")));
+            for (MealType mealType : MealType.values()) {
+                Recipe recipe = plan.getRecipe(day, mealType);
+                JPanel mealRow = new JPanel(new BorderLayout(10, 0));
+                mealRow.setBackground(Color.WHITE);
+                mealRow.setAlignmentX(Component.LEFT_ALIGNMENT);
+                
+                JLabel mealLabel = new JLabel(mealType.getDisplayName() + ": " + (recipe != null
+                    ? recipe.getName() + " (" + recipe.getTotalTimeInMins() + " mins)"
+                    : "No recipe fits"));
+                mealLabel.setFont(getLexendFont(Font.PLAIN, 13));
+                mealLabel.setForeground(new Color(80, 80, 80));
+                mealRow.add(mealLabel, BorderLayout.CENTER);
+                
+                if (recipe != null) {
+                    JButton viewButton = createOutlineButton("View");
+                    viewButton.addActionListener(e -> showModernRecipeCard(recipe));
+                    mealRow.add(viewButton, BorderLayout.EAST);
+                }
+                
+                dayCard.add(mealRow);
+                dayCard.add(Box.createVerticalStrut(5));
+            }
+            contentPanel.add(dayCard);
+            contentPanel.add(Box.createVerticalStrut(15));
+        }
+        
+        // Scroll pane
+        JScrollPane scrollPane = new JScrollPane(contentPanel);
+        scrollPane.setBorder(null);
+        scrollPane.getVerticalScrollBar().setUnitIncrement(16);
+        scrollPane.getViewport().setBackground(MINT_BG);
+        mainPanel.add(scrollPane, BorderLayout.CENTER);
+        
+        // Footer with summary and plan actions
+        JPanel footerPanel = new JPanel(new BorderLayout());
+        footerPanel.setBackground(MINT_BG);
+        footerPanel.setBorder(new EmptyBorder(15, 0, 0, 0));
+        
+        JLabel summaryLabel = new JLabel(plan.getMealCount() + " meals, " +
+                                         planIngredients.getItemCount() + " ingredients to buy");
+        summaryLabel.setFont(getLexendFont(Font.PLAIN, 13));
+        summaryLabel.setForeground(new Color(100, 100, 100));
+        footerPanel.add(summaryLabel, BorderLayout.WEST);
+        
+        JPanel planButtons = new JPanel(new FlowLayout(FlowLayout.RIGHT, 10, 0));
+        planButtons.setBackground(MINT_BG);
+        
+        JButton regenerateButton = createOutlineButton("Regenerate");
+        regenerateButton.addActionListener(e -> {
+            dialog.dispose();
+            planWeek();
+        });
+        planButtons.add(regenerateButton);
+        
+        JButton groceryButton = createOutlineButton("Add to Grocery");
+        groceryButton.addActionListener(e -> {
+            int added = 0;
+            for (Recipe recipe : plan.getRecipes()) {
+                if (!shoppingList.containsRecipe(recipe.getId())) {
+                    shoppingList.addRecipe(recipe, recipeService.getIngredients(recipe));
+                    added++;
+                }
+            }
+            statusLabel.setText("Added " + added + " planned recipe(s) to grocery list");
+            groceryButton.setEnabled(false);
+        });
+        planButtons.add(groceryButton);
+        
+        JButton saveButton = createOutlineButton("Save Plan");
+        saveButton.addActionListener(e -> {
+            saveButton.setEnabled(false);
+            new SwingWorker<MealPlan, Void>() {
+                @Override
+                protected MealPlan doInBackground() {
+                    return mealPlanService.savePlan(plan, currentUser);
+                }
+                
+                @Override
+                protected void done() {
+                    try {
+                        MealPlan saved = get();
+                        if (saved.getId() != 0) {
+                            statusLabel.setText("Saved meal plan \"" + saved.getName() + "\"");
+                            return;
+                        }
+                    } catch (InterruptedException | java.util.concurrent.ExecutionException ex) {
+                        Throwable cause = ex.getCause() != null ? ex.getCause() : ex;
+                        System.err.println("Error saving meal plan: " + cause.getMessage());
+                    }
+                    JOptionPane.showMessageDialog(dialog,
+                        "The meal plan could not be saved.",
+                        "Save Failed",
+                        JOptionPane.ERROR_MESSAGE);
+                    saveButton.setEnabled(true);
+                }
+            }.execute();
+        });
+        planButtons.add(saveButton);
+        
+        footerPanel.add(planButtons, BorderLayout.EAST);
+        mainPanel.add(footerPanel, BorderLayout.SOUTH);
+        
+        statusLabel.setText("Planned " + plan.getMealCount() + " meals needing " +
+                            planIngredients.getItemCount() + " ingredients");
+        dialog.add(mainPanel);
+        dialog.setVisible(true);
+    }
+    
     /**
      * Displays the shopping list in a modern mint-themed dialog.
      */
@@ -1147,52 +1891,58 @@ public class SimpleSwingApp extends JFrame {
         contentPanel.setBackground(MINT_BG);
         contentPanel.setBorder(new EmptyBorder(20, 0, 20, 0));
         
-        int totalItems = 0;
-        
-        // Display ingredients organized by recipe in cards
-        for (java.util.Map.Entry<String, List<String>> entry : shoppingList.entrySet()) {
-            String recipeName = entry.getKey();
-            List<String> ingredients = entry.getValue();
+        // Recipes card, with a button to take each recipe off the list
+        JPanel recipesCard = createShoppingCard("Recipes");
+        for (Recipe recipe : shoppingList.getRecipes()) {
+            JPanel recipeRow = new JPanel(new BorderLayout(10, 0));
+            recipeRow.setBackground(Color.WHITE);
+            recipeRow.setAlignmentX(Component.LEFT_ALIGNMENT);
             
-            // Recipe card
-            JPanel recipeCard = new JPanel();
-            recipeCard.setLayout(new BoxLayout(recipeCard, BoxLayout.Y_AXIS));
-            recipeCard.setBackground(Color.WHITE);
-            recipeCard.setBorder(createRoundedBorder(new Color(220, 220, 220), 15, 15));
-            recipeCard.setAlignmentX(Component.LEFT_ALIGNMENT);
+            int occurrences = shoppingList.getOccurrences(recipe.getId());
+            JLabel recipeLabel = new JLabel(recipe.getName() + (occurrences > 1 ? " (x" + occurrences + ")" : ""));
+            recipeLabel.setFont(getLexendFont(Font.PLAIN, 13));
+            recipeLabel.setForeground(new Color(80, 80, 80));
+            recipeRow.add(recipeLabel, BorderLayout.CENTER);
             
-            // Recipe name
-            JLabel recipeLabel = new JLabel(recipeName);
-            recipeLabel.setFont(getLexendFont(Font.BOLD, 16));
-            recipeLabel.setForeground(DARK_GREEN);
-            recipeLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
-            recipeCard.add(recipeLabel);
-            recipeCard.add(Box.createVerticalStrut(10));
+            JButton removeButton = createOutlineButton("Remove");
+            removeButton.addActionListener(e -> {
+                shoppingList.removeRecipe(recipe.getId());
+                dialog.dispose();
+                statusLabel.setText("Removed \"" + recipe.getName() + "\" from grocery list");
+                if (!shoppingList.isEmpty()) {
+                    viewShoppingList();
+                }
+            });
+            recipeRow.add(removeButton, BorderLayout.EAST);
             
-            // Ingredients
-            for (String ingredient : ingredients) {
-                JPanel ingredientRow = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 2));
-                ingredientRow.setBackground(Color.WHITE);
-                ingredientRow.setAlignmentX(Component.LEFT_ALIGNMENT);
-                
-                JLabel bullet = new JLabel("*");
-                bullet.setFont(getLexendFont(Font.BOLD, 12));
-                bullet.setForeground(DARK_GREEN);
-                ingredientRow.add(bullet);
-                ingredientRow.add(Box.createHorizontalStrut(10));
-                
-                JLabel ingredientLabel = new JLabel(ingredient);
-                ingredientLabel.setFont(getLexendFont(Font.PLAIN, 13));
-                ingredientLabel.setForeground(new Color(80, 80, 80));
-                ingredientRow.add(ingredientLabel);
-                
-                recipeCard.add(ingredientRow);
-                totalItems++;
-            }
+            recipesCard.add(recipeRow);
+            recipesCard.add(Box.createVerticalStrut(5));
+        }
+        contentPanel.add(recipesCard);
+        contentPanel.add(Box.createVerticalStrut(15));
+        
+        // Combined ingredients card
+        JPanel itemsCard = createShoppingCard("Ingredients");
+        for (ShoppingList.ShoppingItem item : shoppingList.getItems()) {
+            JPanel ingredientRow = new JPanel(new FlowLayout(FlowLayout.LEFT, 0, 2));
+            ingredientRow.setBackground(Color.WHITE);
+            ingredientRow.setAlignmentX(Component.LEFT_ALIGNMENT);
             
-            contentPanel.add(recipeCard);
-            contentPanel.add(Box.createVerticalStrut(15));
+            JLabel bullet = new JLabel("*");
+            bullet.setFont(getLexendFont(Font.BOLD, 12));
+            bullet.setForeground(DARK_GREEN);
+            ingredientRow.add(bullet);
+            ingredientRow.add(Box.createHorizontalStrut(10));
+            
+            JLabel ingredientLabel = new JLabel(item.getName() + " - " + item.getQuantityText());
+            ingredientLabel.setFont(getLexendFont(Font.PLAIN, 13));
+            ingredientLabel.setForeground(new Color(80, 80, 80));
+            ingredientRow.add(ingredientLabel);
+            
+            itemsCard.add(ingredientRow);
         }
+        contentPanel.add(itemsCard);
+        contentPanel.add(Box.createVerticalStrut(15));
         
         // Scroll pane
         JScrollPane scrollPane = new JScrollPane(contentPanel);
@@ -1206,7 +1956,8 @@ public class SimpleSwingApp extends JFrame {
         footerPanel.setBackground(MINT_BG);
         footerPanel.setBorder(new EmptyBorder(15, 0, 0, 0));
         
-        JLabel summaryLabel = new JLabel("Total: " + totalItems + " ingredients from " + shoppingList.size() + " recipe(s)");
+        JLabel summaryLabel = new JLabel("Total: " + shoppingList.getItemCount() + " ingredients from " +
+                                         shoppingList.getRecipeCount() + " recipe(s)");
         summaryLabel.setFont(getLexendFont(Font.PLAIN, 13));
         summaryLabel.setForeground(new Color(100, 100, 100));
         footerPanel.add(summaryLabel, BorderLayout.WEST);
@@ -1232,6 +1983,25 @@ public class SimpleSwingApp extends JFrame {
         dialog.setVisible(true);
     }
     
+    /**
+     * Creates a white card with a title for the shopping list dialog.
+     */
+    private JPanel createShoppingCard(String title) {
+        JPanel card = new JPanel();
+        card.setLayout(new BoxLayout(card, BoxLayout.Y_AXIS));
+        card.setBackground(Color.WHITE);
+        card.setBorder(createRoundedBorder(new Color(220, 220, 220), 15, 15));
+        card.setAlignmentX(Component.LEFT_ALIGNMENT);
+        
+        JLabel titleLabel = new JLabel(title);
+        titleLabel.setFont(getLexendFont(Font.BOLD, 16));
+        titleLabel.setForeground(DARK_GREEN);
+        titleLabel.setAlignmentX(Component.LEFT_ALIGNMENT);
+        card.add(titleLabel);
+        card.add(Box.createVerticalStrut(10));
+        return card;
+    }
+    
     /**
      * Creates a rounded border with specified color and radius.
      */
@@ -0,0 +1,130 @@
+package com.recipeplanner.model;
+
+import java.util.Objects;
+
+/**
+ * One parsed ingredient entry of a recipe: how much of which ingredient,
+ * plus any note. "1-1/2 cups Rice - soaked" becomes 1.5 CUP of "rice" with
+ * the note "soaked"; "2-3 Green Chillies" becomes the range 2 to 3 PIECE.
+ *
+ * Entries without a quantity ("Salt - to taste") have an amount of 0.
+ * Demonstrates value object pattern and immutability concepts.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public final class IngredientQuantity {
+    private final String text;
+    private final double amount;
+    private final double maxAmount;
+    private final Unit unit;
+    private final Ingredient ingredient;
+    private final String note;
+    private final boolean toTaste;
+
+    /**
+     * Constructor with all fields.
+     *
+     * @param text The original entry text
+     * @param amount The quantity, or the lower end of a range; 0 if none
+     * @param maxAmount The upper end of a range, or the amount itself
+     * @param unit The unit of measurement, or null if none was given
+     * @param ingredient The ingredient, or null if the entry names none
+     * @param note The text after " - ", or null
+     * @param toTaste true for "to taste" and "as required" entries
+     */
+    public IngredientQuantity(String text, double amount, double maxAmount, Unit unit,
+                              Ingredient ingredient, String note, boolean toTaste) {
+        this.text = text;
+        this.amount = amount;
+        this.maxAmount = Math.max(amount, maxAmount);
+        this.unit = unit;
+        this.ingredient = ingredient;
+        this.note = note;
+        this.toTaste = toTaste;
+    }
+
+    // Getters
+
+    public String getText() {
+        return text;
+    }
+
+    public double getAmount() {
+        return amount;
+    }
+
+    public double getMaxAmount() {
+        return maxAmount;
+    }
+
+    public Unit getUnit() {
+        return unit;
+    }
+
+    public Ingredient getIngredient() {
+        return ingredient;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public boolean isToTaste() {
+        return toTaste;
+    }
+
+    /**
+     * Checks if the entry gives a quantity.
+     *
+     * @return true if amount is greater than 0
+     */
+    public boolean hasAmount() {
+        return amount > 0;
+    }
+
+    /**
+     * Checks if the quantity is a range such as "2-3".
+     *
+     * @return true if the upper end differs from the amount
+     */
+    public boolean isRange() {
+        return maxAmount > amount;
+    }
+
+    /**
+     * Gets the quantity as a Measurement, taking the upper end of a range.
+     *
+     * @return A new Measurement, or null if the entry gives no quantity
+     */
+    public Measurement getMeasurement() {
+        if (!hasAmount()) {
+            return null;
+        }
+        return new Measurement(maxAmount, unit != null ? unit.getSymbol() : null);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        IngredientQuantity that = (IngredientQuantity) o;
+        return Double.compare(that.amount, amount) == 0 &&
+               Double.compare(that.maxAmount, maxAmount) == 0 &&
+               toTaste == that.toTaste &&
+               unit == that.unit &&
+               Objects.equals(text, that.text) &&
+               Objects.equals(ingredient, that.ingredient) &&
+               Objects.equals(note, that.note);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(text, amount, maxAmount, unit, ingredient, note, toTaste);
+    }
+
+    @Override
+    public String toString() {
+        return text;
+    }
+}
@@ -0,0 +1,188 @@
+package com.recipeplanner.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A week of meals: one recipe for each day and MealType.
+ * Maps to the meal_plans and meal_plan_entries tables.
+ *
+ * Days are java.time.DayOfWeek values, Monday first. A slot may be empty.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public class MealPlan {
+
+    /**
+     * Number of days in a plan.
+     */
+    public static final int DAYS = DayOfWeek.values().length;
+
+    private int id;
+    private int userId;
+    private String name;
+    private LocalDate weekStart;
+    private final Recipe[][] meals;
+
+    /**
+     * Default constructor for an empty plan.
+     */
+    public MealPlan() {
+        this.meals = new Recipe[DAYS][MealType.values().length];
+    }
+
+    /**
+     * Constructor with owner and week.
+     *
+     * @param userId ID of the user the plan belongs to
+     * @param name Display name of the plan
+     * @param weekStart Date of the first day of the plan
+     */
+    public MealPlan(int userId, String name, LocalDate weekStart) {
+        this();
+        this.userId = userId;
+        this.name = name;
+        this.weekStart = weekStart;
+    }
+
+    // Getters and Setters
+
+    public int getId() {
+        return id;
+    }
+
+    public void setId(int id) {
+        this.id = id;
+    }
+
+    public int getUserId() {
+        return userId;
+    }
+
+    public void setUserId(int userId) {
+        this.userId = userId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDate getWeekStart() {
+        return weekStart;
+    }
+
+    public void setWeekStart(LocalDate weekStart) {
+        this.weekStart = weekStart;
+    }
+
+    /**
+     * Gets the recipe planned for a meal.
+     *
+     * @param day The day of the week
+     * @param mealType The meal
+     * @return The recipe, or null if the slot is empty
+     */
+    public Recipe getRecipe(DayOfWeek day, MealType mealType) {
+        return meals[day.ordinal()][mealType.ordinal()];
+    }
+
+    /**
+     * Plans a recipe for a meal, replacing any recipe already there.
+     *
+     * @param day The day of the week
+     * @param mealType The meal
+     * @param recipe The recipe, or null to empty the slot
+     */
+    public void setRecipe(DayOfWeek day, MealType mealType, Recipe recipe) {
+        meals[day.ordinal()][mealType.ordinal()] = recipe;
+    }
+
+    /**
+     * Gets the planned recipes in order, day by day and meal by meal.
+     * A recipe planned twice appears twice.
+     *
+     * @return List of recipes, without empty slots
+     */
+    public List<Recipe> getRecipes() {
+        List<Recipe> recipes = new ArrayList<>();
+        for (Recipe[] day : meals) {
+            for (Recipe recipe : day) {
+                if (recipe != null) {
+                    recipes.add(recipe);
+                }
+            }
+        }
+        return recipes;
+    }
+
+    /**
+     * Gets the number of filled slots.
+     *
+     * @return The meal count
+     */
+    public int getMealCount() {
+        return getRecipes().size();
+    }
+
+    /**
+     * Gets the total cooking time of one day.
+     *
+     * @param day The day of the week
+     * @return Sum of the planned recipes' times in minutes
+     */
+    public int getTotalTimeInMins(DayOfWeek day) {
+        int total = 0;
+        for (Recipe recipe : meals[day.ordinal()]) {
+            if (recipe != null) {
+                total += recipe.getTotalTimeInMins();
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Gets the date a day of the plan falls on.
+     *
+     * @param day The day of the week
+     * @return The date, or null if the plan has no start date
+     */
+    public LocalDate getDate(DayOfWeek day) {
+        if (weekStart == null) {
+            return null;
+        }
+        int offset = Math.floorMod(day.getValue() - weekStart.getDayOfWeek().getValue(), DAYS);
+        return weekStart.plusDays(offset);
+    }
+
+    /**
+     * Creates a copy of this plan sharing the same Recipe objects.
+     *
+     * @return A new MealPlan with the same values
+     */
+    public MealPlan copy() {
+        MealPlan copy = new MealPlan(userId, name, weekStart);
+        copy.id = id;
+        for (int day = 0; day < DAYS; day++) {
+            System.arraycopy(meals[day], 0, copy.meals[day], 0, meals[day].length);
+        }
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return "MealPlan{" +
+                "id=" + id +
+                ", userId=" + userId +
+                ", name='" + name + '\'' +
+                ", weekStart=" + weekStart +
+                ", meals=" + getMealCount() +
+                '}';
+    }
+}
@@ -62,6 +62,25 @@ public class Measurement {
         this.amount += additionalAmount;
     }
 
+    /**
+     * Converts this measurement to another unit of the same kind,
+     * e.g. 3 "tsp" to 1 "tbsp" or 1500 "g" to 1.5 "kg".
+     * 
+     * @param targetUnit The unit to convert to
+     * @return A new Measurement in the target unit, or null if the units are not convertible
+     */
+    public Measurement convertTo(String targetUnit) {
+        if (getNormalizedUnit().equals(targetUnit != null ? targetUnit.toLowerCase() : "unit")) {
+            return new Measurement(amount, targetUnit);
+        }
+        Unit from = Unit.fromString(unit);
+        Unit to = Unit.fromString(targetUnit);
+        if (from == null || !from.isConvertibleTo(to)) {
+            return null;
+        }
+        return new Measurement(from.convert(amount, to), to.getSymbol());
+    }
+
     /**
      * Creates a deep copy of this measurement.
      * 
@@ -20,7 +20,7 @@ import java.util.Objects;
  * - imageUrl: image-url
  * - rawIngredientsText: Cleaned-Ingredients (for display)
  * - instructions: TranslatedInstructions (parsed into steps)
- * - ingredients: Structured list of IngredientQuantity objects
+ * - ingredients: rawIngredientsText parsed into IngredientQuantity entries
  * 
  * Supports both:
  * - Recipes imported from the dataset (may have null amounts/units)
@@ -40,7 +40,7 @@ public class Recipe implements Searchable {
     private String imageUrl;
     private String rawIngredientsText;  // Original ingredient text from dataset
     private List<String> instructions;
-    // Note: For simplicity, using rawIngredientsText instead of structured IngredientQuantity list
+    private RecipeIngredients ingredients;  // Parsed rawIngredientsText, null until parsed
 
     /**
      * Default constructor for Recipe.
@@ -158,6 +158,9 @@ public class Recipe implements Searchable {
     }
 
     public void setRawIngredientsText(String rawIngredientsText) {
+        if (!Objects.equals(this.rawIngredientsText, rawIngredientsText)) {
+            this.ingredients = null;  // Parsed from the old text
+        }
         this.rawIngredientsText = rawIngredientsText;
     }
 
@@ -169,9 +172,42 @@ public class Recipe implements Searchable {
         this.instructions = instructions != null ? instructions : new ArrayList<>();
     }
 
-    // Note: Using rawIngredientsText instead of structured IngredientQuantity list
-    // public List<IngredientQuantity> getIngredients() { return ingredients; }
-    // public void setIngredients(List<IngredientQuantity> ingredients) { ... }
+    /**
+     * Gets the structured ingredient entries parsed from rawIngredientsText.
+     * Recipes loaded from the CSV dataset are parsed at import; others are
+     * parsed on first use by RecipeService.getIngredients.
+     * 
+     * @return The parsed entries, or null if the text has not been parsed yet
+     */
+    public RecipeIngredients getIngredients() {
+        return ingredients;
+    }
+
+    /**
+     * Sets the structured ingredient entries; they must have been parsed
+     * from this recipe's current rawIngredientsText.
+     * 
+     * @param ingredients The parsed entries, or null to discard them
+     */
+    public void setIngredients(RecipeIngredients ingredients) {
+        this.ingredients = ingredients;
+    }
+
+    /**
+     * Creates a copy of this recipe with its own instruction list.
+     * The parsed ingredient entries are immutable, so they are shared.
+     * 
+     * @return A new Recipe with the same values
+     */
+    public Recipe copy() {
+        Recipe copy = new Recipe(id, name, description, cuisine, totalTimeInMins, createdBy,
+                                 sourceUrl, imageUrl, rawIngredientsText);
+        if (instructions != null) {
+            copy.setInstructions(new ArrayList<>(instructions));
+        }
+        copy.setIngredients(ingredients);
+        return copy;
+    }
 
     // Business Methods
 
@@ -247,6 +283,17 @@ public class Recipe implements Searchable {
      * @return Formatted time string
      */
     public String getFormattedTime() {
+        return formatTime(totalTimeInMins);
+    }
+
+    /**
+     * Formats a cooking time for display.
+     * Example: "45 mins" or "1 hr 30 mins"
+     * 
+     * @param totalTimeInMins Time in minutes
+     * @return Formatted time string
+     */
+    public static String formatTime(int totalTimeInMins) {
         if (totalTimeInMins <= 0) {
             return "Time not specified";
         } else if (totalTimeInMins < 60) {
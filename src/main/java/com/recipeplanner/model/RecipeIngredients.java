@@ -0,0 +1,238 @@
+package com.recipeplanner.model;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+/**
+ * The parsed ingredient entries of one recipe, in a compact read-only form.
+ *
+ * Instead of one object per entry, the entries are packed into parallel
+ * arrays over the recipe's raw ingredient text: amounts as floats, units as
+ * enum ordinals, and the entry and note positions as offsets into the text.
+ * Only the Ingredient references are objects, and those are shared with the
+ * IngredientRepository. {@link #get(int)} builds an IngredientQuantity on
+ * demand; the accessors such as {@link #getAmount(int)} read the arrays
+ * directly and allocate nothing.
+ *
+ * Instances are immutable, so recipe copies share them.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public final class RecipeIngredients extends AbstractList<IngredientQuantity> implements RandomAccess {
+
+    private static final Unit[] UNITS = Unit.values();
+    private static final byte NO_UNIT = -1;
+    private static final byte TO_TASTE = 1;
+
+    /**
+     * A recipe without ingredients.
+     */
+    public static final RecipeIngredients EMPTY = new RecipeIngredientsBuilder("", 0).build();
+
+    private final String text;
+    private final int size;
+    private final int[] offsets;        // Entry start, entry end, note start, note end (-1 if no note)
+    private final float[] amounts;      // Amount and upper end of range
+    private final byte[] units;         // Unit ordinal or NO_UNIT
+    private final byte[] flags;
+    private final Ingredient[] ingredients;
+
+    private RecipeIngredients(RecipeIngredientsBuilder builder) {
+        this.text = builder.text;
+        this.size = builder.size;
+        this.offsets = Arrays.copyOf(builder.offsets, size * 4);
+        this.amounts = Arrays.copyOf(builder.amounts, size * 2);
+        this.units = Arrays.copyOf(builder.units, size);
+        this.flags = Arrays.copyOf(builder.flags, size);
+        this.ingredients = Arrays.copyOf(builder.ingredients, size);
+    }
+
+    /**
+     * Gets an entry as an IngredientQuantity.
+     *
+     * @param index The entry index
+     * @return A new IngredientQuantity for the entry
+     */
+    @Override
+    public IngredientQuantity get(int index) {
+        return new IngredientQuantity(getText(index), getAmount(index), getMaxAmount(index),
+                                      getUnit(index), getIngredient(index), getNote(index), isToTaste(index));
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Gets the raw text the entries were parsed from.
+     *
+     * @return The recipe's raw ingredient text
+     */
+    public String getSourceText() {
+        return text;
+    }
+
+    /**
+     * Gets the original text of an entry, trimmed.
+     *
+     * @param index The entry index
+     * @return Entry text such as "2 teaspoons Cumin seeds (Jeera) - roasted"
+     */
+    public String getText(int index) {
+        checkIndex(index);
+        return text.substring(offsets[index * 4], offsets[index * 4 + 1]);
+    }
+
+    /**
+     * Gets the note of an entry: the text after " - ".
+     *
+     * @param index The entry index
+     * @return The note, or null if the entry has none
+     */
+    public String getNote(int index) {
+        checkIndex(index);
+        int start = offsets[index * 4 + 2];
+        return start >= 0 ? text.substring(start, offsets[index * 4 + 3]) : null;
+    }
+
+    /**
+     * Gets the amount of an entry, or the lower end of a range.
+     *
+     * @param index The entry index
+     * @return The amount, or 0 if the entry gives none
+     */
+    public double getAmount(int index) {
+        checkIndex(index);
+        return amounts[index * 2];
+    }
+
+    /**
+     * Gets the upper end of an entry's range, or its amount if it is not a range.
+     *
+     * @param index The entry index
+     * @return The upper amount, or 0 if the entry gives none
+     */
+    public double getMaxAmount(int index) {
+        checkIndex(index);
+        return amounts[index * 2 + 1];
+    }
+
+    /**
+     * Gets the unit of an entry.
+     *
+     * @param index The entry index
+     * @return The unit, or null if the entry has no amount
+     */
+    public Unit getUnit(int index) {
+        checkIndex(index);
+        return units[index] == NO_UNIT ? null : UNITS[units[index]];
+    }
+
+    /**
+     * Gets the ingredient an entry refers to.
+     *
+     * @param index The entry index
+     * @return The ingredient, or null if the entry names none
+     */
+    public Ingredient getIngredient(int index) {
+        checkIndex(index);
+        return ingredients[index];
+    }
+
+    /**
+     * Checks if an entry is to be added to taste or as required.
+     *
+     * @param index The entry index
+     * @return true for entries such as "Salt - to taste"
+     */
+    public boolean isToTaste(int index) {
+        checkIndex(index);
+        return (flags[index] & TO_TASTE) != 0;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+    }
+
+    /**
+     * Builder collecting parsed entries into the packed arrays.
+     * Entries refer to positions in the text given to the constructor.
+     */
+    public static class RecipeIngredientsBuilder {
+        private final String text;
+        private int size;
+        private int[] offsets;
+        private float[] amounts;
+        private byte[] units;
+        private byte[] flags;
+        private Ingredient[] ingredients;
+
+        /**
+         * Constructor for a builder over one recipe's ingredient text.
+         *
+         * @param text The raw ingredient text
+         * @param expectedEntries Number of entries expected; the arrays grow if exceeded
+         */
+        public RecipeIngredientsBuilder(String text, int expectedEntries) {
+            this.text = text != null ? text : "";
+            int capacity = Math.max(expectedEntries, 1);
+            this.offsets = new int[capacity * 4];
+            this.amounts = new float[capacity * 2];
+            this.units = new byte[capacity];
+            this.flags = new byte[capacity];
+            this.ingredients = new Ingredient[capacity];
+        }
+
+        /**
+         * Adds an entry.
+         *
+         * @param start Start of the entry in the text
+         * @param end End of the entry in the text (exclusive)
+         * @param amount The amount, or 0 if none
+         * @param maxAmount The upper end of a range, or the amount
+         * @param unit The unit, or null
+         * @param ingredient The ingredient, or null
+         * @param noteStart Start of the note in the text, or -1 if none
+         * @param noteEnd End of the note in the text (exclusive)
+         * @param toTaste true for "to taste" and "as required" entries
+         * @return This builder for chaining
+         */
+        public RecipeIngredientsBuilder addEntry(int start, int end, double amount, double maxAmount, Unit unit,
+                                                 Ingredient ingredient, int noteStart, int noteEnd,
+                                                 boolean toTaste) {
+            if (size == units.length) {
+                int capacity = size * 2;
+                offsets = Arrays.copyOf(offsets, capacity * 4);
+                amounts = Arrays.copyOf(amounts, capacity * 2);
+                units = Arrays.copyOf(units, capacity);
+                flags = Arrays.copyOf(flags, capacity);
+                ingredients = Arrays.copyOf(ingredients, capacity);
+            }
+            offsets[size * 4] = start;
+            offsets[size * 4 + 1] = end;
+            offsets[size * 4 + 2] = noteStart;
+            offsets[size * 4 + 3] = noteStart >= 0 ? noteEnd : -1;
+            amounts[size * 2] = (float) amount;
+            amounts[size * 2 + 1] = (float) Math.max(amount, maxAmount);
+            units[size] = unit != null ? (byte) unit.ordinal() : NO_UNIT;
+            flags[size] = toTaste ? TO_TASTE : 0;
+            ingredients[size] = ingredient;
+            size++;
+            return this;
+        }
+
+        /**
+         * Builds the RecipeIngredients, trimming the arrays to the entry count.
+         *
+         * @return The completed RecipeIngredients
+         */
+        public RecipeIngredients build() {
+            return new RecipeIngredients(this);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.recipeplanner.model;
+
+import java.util.Objects;
+
+/**
+ * Lightweight, read-only view of a recipe for list and search screens.
+ * Holds only what a recipe card shows: no description, URLs or instructions,
+ * and the ingredient text cut to a short preview. The full Recipe is loaded
+ * by ID when the user opens or acts on a card.
+ * 
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public class RecipeSummary {
+    
+    /**
+     * Maximum characters of ingredient text kept in the preview.
+     */
+    public static final int INGREDIENT_PREVIEW_LENGTH = 200;
+    
+    private final int id;
+    private final String name;
+    private final String cuisine;
+    private final int totalTimeInMins;
+    private final int createdBy;
+    private final int ingredientCount;
+    private final String ingredientPreview;
+
+    /**
+     * Full constructor.
+     * 
+     * @param id The recipe ID
+     * @param name The recipe name
+     * @param cuisine The cuisine type
+     * @param totalTimeInMins Total cooking time in minutes
+     * @param createdBy ID of the creating user (0 for seeded recipes)
+     * @param ingredientCount Number of comma-separated ingredient entries
+     * @param ingredientPreview Start of the ingredient text
+     */
+    public RecipeSummary(int id, String name, String cuisine, int totalTimeInMins, int createdBy,
+                         int ingredientCount, String ingredientPreview) {
+        this.id = id;
+        this.name = name;
+        this.cuisine = cuisine;
+        this.totalTimeInMins = totalTimeInMins;
+        this.createdBy = createdBy;
+        this.ingredientCount = ingredientCount;
+        this.ingredientPreview = ingredientPreview;
+    }
+
+    /**
+     * Creates a summary of a recipe that is already in memory.
+     * 
+     * @param recipe The full recipe
+     * @return The summary
+     */
+    public static RecipeSummary of(Recipe recipe) {
+        String ingredients = recipe.getRawIngredientsText();
+        String preview = ingredients != null && ingredients.length() > INGREDIENT_PREVIEW_LENGTH
+            ? ingredients.substring(0, INGREDIENT_PREVIEW_LENGTH) : ingredients;
+        return new RecipeSummary(recipe.getId(), recipe.getName(), recipe.getCuisine(),
+            recipe.getTotalTimeInMins(), recipe.getCreatedBy(), recipe.getIngredientCount(), preview);
+    }
+
+    // Getters
+
+    public int getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getCuisine() {
+        return cuisine;
+    }
+
+    public int getTotalTimeInMins() {
+        return totalTimeInMins;
+    }
+
+    public int getCreatedBy() {
+        return createdBy;
+    }
+
+    public int getIngredientCount() {
+        return ingredientCount;
+    }
+
+    public String getIngredientPreview() {
+        return ingredientPreview;
+    }
+
+    /**
+     * Gets a formatted time string for display.
+     * 
+     * @return Formatted time string
+     */
+    public String getFormattedTime() {
+        return Recipe.formatTime(totalTimeInMins);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        RecipeSummary that = (RecipeSummary) o;
+        return id == that.id && Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, name);
+    }
+
+    @Override
+    public String toString() {
+        return name + " - " + getFormattedTime();
+    }
+}
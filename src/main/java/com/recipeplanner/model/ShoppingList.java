@@ -0,0 +1,340 @@
+package com.recipeplanner.model;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A grocery list built from recipes, listing each ingredient once.
+ *
+ * Quantities of the same ingredient are summed across recipes with
+ * Measurement.add. Volumes and weights are first converted to millilitres
+ * and grams, so "2 teaspoons" and "1 tablespoon" of salt add up to 25 ml,
+ * shown as 1.67 tbsp; other units such as sprigs or pieces are summed per
+ * unit. Entries without a quantity ("Salt - to taste") mark the ingredient
+ * as needed without adding to its amounts.
+ *
+ * Adding or removing a recipe only updates the items of that recipe's own
+ * ingredients, so the list is cheap to keep current for a whole week of
+ * meals. A recipe may be added more than once, as when it appears twice in
+ * a meal plan; removeRecipe takes one occurrence back out.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public class ShoppingList {
+
+    private final Map<Integer, ShoppingItem> itemsByIngredient;
+    private final Map<Integer, RecipeEntry> recipesById;
+    private int recipeCount;
+
+    /**
+     * A recipe on the list and how many times it was added.
+     */
+    private static final class RecipeEntry {
+        private final Recipe recipe;
+        private final RecipeIngredients ingredients;
+        private int occurrences;
+
+        RecipeEntry(Recipe recipe, RecipeIngredients ingredients) {
+            this.recipe = recipe;
+            this.ingredients = ingredients;
+        }
+    }
+
+    /**
+     * Running total of one ingredient in one base unit, with the units the
+     * amounts were given in, which decide how the total is displayed.
+     */
+    private static final class Total {
+        private final Measurement measurement;
+        private final Map<Unit, Integer> unitsUsed = new EnumMap<>(Unit.class);
+
+        Total(String baseUnit) {
+            this.measurement = new Measurement(0, baseUnit);
+        }
+    }
+
+    /**
+     * One line of the list: an ingredient with its combined quantities.
+     */
+    public static class ShoppingItem {
+        private final Ingredient ingredient;
+        private final Map<String, Total> totals = new LinkedHashMap<>();
+        private int unmeasured;
+        private int uses;
+
+        ShoppingItem(Ingredient ingredient) {
+            this.ingredient = ingredient;
+        }
+
+        public Ingredient getIngredient() {
+            return ingredient;
+        }
+
+        public String getName() {
+            return ingredient.getName();
+        }
+
+        /**
+         * Gets the number of recipe entries that call for this ingredient.
+         *
+         * @return The use count
+         */
+        public int getUseCount() {
+            return uses;
+        }
+
+        /**
+         * Checks if some recipe uses this ingredient without a quantity,
+         * such as "to taste" or "as required".
+         *
+         * @return true if there is at least one unmeasured use
+         */
+        public boolean hasUnmeasuredUse() {
+            return unmeasured > 0;
+        }
+
+        /**
+         * Gets the combined quantities, one per group of compatible units.
+         * Each is expressed in the largest unit the recipes used that the
+         * total reaches at least one of.
+         *
+         * @return New Measurement objects; empty if no use gives a quantity
+         */
+        public List<Measurement> getQuantities() {
+            List<Measurement> quantities = new ArrayList<>(totals.size());
+            for (Total total : totals.values()) {
+                quantities.add(readable(total));
+            }
+            return quantities;
+        }
+
+        /**
+         * Formats the quantities for display.
+         *
+         * @return Text such as "3 pcs + 1.50 cup", or "as required" if unmeasured
+         */
+        public String getQuantityText() {
+            StringBuilder sb = new StringBuilder();
+            for (Measurement quantity : getQuantities()) {
+                if (sb.length() > 0) {
+                    sb.append(" + ");
+                }
+                sb.append(quantity.toFormattedString());
+            }
+            if (sb.length() == 0) {
+                sb.append("as required");
+            }
+            return sb.toString();
+        }
+
+        private void add(Measurement base, Unit unit) {
+            Total total = totals.computeIfAbsent(base.getNormalizedUnit(), Total::new);
+            total.measurement.add(base.getAmount());
+            total.unitsUsed.merge(unit, 1, Integer::sum);
+        }
+
+        private void remove(Measurement base, Unit unit) {
+            Total total = totals.get(base.getNormalizedUnit());
+            if (total == null) {
+                return;
+            }
+            total.measurement.add(-base.getAmount());
+            if (total.unitsUsed.merge(unit, -1, Integer::sum) <= 0) {
+                total.unitsUsed.remove(unit);
+            }
+            if (total.unitsUsed.isEmpty()) {
+                totals.remove(base.getNormalizedUnit()); // Drop rounding residue with the last use
+            }
+        }
+
+        @Override
+        public String toString() {
+            return getName() + ": " + getQuantityText();
+        }
+    }
+
+    /**
+     * Constructor creates an empty list.
+     */
+    public ShoppingList() {
+        this.itemsByIngredient = new HashMap<>();
+        this.recipesById = new LinkedHashMap<>();
+    }
+
+    /**
+     * Adds a recipe's ingredients to the list.
+     *
+     * @param recipe The recipe, identified by its ID
+     * @param ingredients The recipe's parsed ingredient entries
+     */
+    public void addRecipe(Recipe recipe, RecipeIngredients ingredients) {
+        RecipeEntry entry = recipesById.computeIfAbsent(recipe.getId(),
+            id -> new RecipeEntry(recipe, ingredients));
+        entry.occurrences++;
+        recipeCount++;
+        apply(entry.ingredients, true);
+    }
+
+    /**
+     * Removes one occurrence of a recipe and its ingredients from the list.
+     *
+     * @param recipeId The recipe ID
+     * @return true if the recipe was on the list
+     */
+    public boolean removeRecipe(int recipeId) {
+        RecipeEntry entry = recipesById.get(recipeId);
+        if (entry == null) {
+            return false;
+        }
+        if (--entry.occurrences == 0) {
+            recipesById.remove(recipeId);
+        }
+        recipeCount--;
+        apply(entry.ingredients, false);
+        return true;
+    }
+
+    /**
+     * Checks if a recipe is on the list.
+     *
+     * @param recipeId The recipe ID
+     * @return true if it was added and not removed again
+     */
+    public boolean containsRecipe(int recipeId) {
+        return recipesById.containsKey(recipeId);
+    }
+
+    /**
+     * Gets the number of times a recipe was added.
+     *
+     * @param recipeId The recipe ID
+     * @return The occurrence count, 0 if the recipe is not on the list
+     */
+    public int getOccurrences(int recipeId) {
+        RecipeEntry entry = recipesById.get(recipeId);
+        return entry != null ? entry.occurrences : 0;
+    }
+
+    /**
+     * Gets the recipes on the list, each once, in the order they were added.
+     *
+     * @return List of recipes
+     */
+    public List<Recipe> getRecipes() {
+        List<Recipe> recipes = new ArrayList<>(recipesById.size());
+        for (RecipeEntry entry : recipesById.values()) {
+            recipes.add(entry.recipe);
+        }
+        return recipes;
+    }
+
+    /**
+     * Gets the number of recipes added, counting repeats.
+     *
+     * @return The recipe count
+     */
+    public int getRecipeCount() {
+        return recipeCount;
+    }
+
+    /**
+     * Gets the combined items, sorted by ingredient name.
+     *
+     * @return List of items
+     */
+    public List<ShoppingItem> getItems() {
+        List<ShoppingItem> items = new ArrayList<>(itemsByIngredient.values());
+        items.sort(Comparator.comparing(ShoppingItem::getName));
+        return items;
+    }
+
+    /**
+     * Gets the number of distinct ingredients on the list.
+     *
+     * @return The item count
+     */
+    public int getItemCount() {
+        return itemsByIngredient.size();
+    }
+
+    public boolean isEmpty() {
+        return recipesById.isEmpty();
+    }
+
+    /**
+     * Removes all recipes and items.
+     */
+    public void clear() {
+        itemsByIngredient.clear();
+        recipesById.clear();
+        recipeCount = 0;
+    }
+
+    /**
+     * Adds or removes the contribution of one recipe's entries.
+     */
+    private void apply(RecipeIngredients ingredients, boolean adding) {
+        for (int i = 0; i < ingredients.size(); i++) {
+            Ingredient ingredient = ingredients.getIngredient(i);
+            if (ingredient == null) {
+                continue;
+            }
+            ShoppingItem item = adding
+                ? itemsByIngredient.computeIfAbsent(ingredient.getId(), id -> new ShoppingItem(ingredient))
+                : itemsByIngredient.get(ingredient.getId());
+            if (item == null) {
+                continue;
+            }
+
+            int change = adding ? 1 : -1;
+            item.uses += change;
+            // Buy for the upper end of a range
+            double amount = ingredients.getMaxAmount(i);
+            if (amount > 0) {
+                Unit unit = ingredients.getUnit(i) != null ? ingredients.getUnit(i) : Unit.PIECE;
+                Measurement base = new Measurement(amount, unit.getSymbol()).convertTo(unit.getBaseUnit().getSymbol());
+                if (adding) {
+                    item.add(base, unit);
+                } else {
+                    item.remove(base, unit);
+                }
+            } else {
+                item.unmeasured += change;
+            }
+
+            if (item.uses <= 0) {
+                itemsByIngredient.remove(ingredient.getId());
+            }
+        }
+    }
+
+    /**
+     * Expresses a total in the largest unit the recipes used that it
+     * reaches at least one of, or else in the smallest unit they used.
+     */
+    private static Measurement readable(Total total) {
+        double amount = total.measurement.getAmount();
+        Unit largestReached = null;
+        Unit smallest = null;
+        for (Unit unit : total.unitsUsed.keySet()) {
+            if (amount >= size(unit) && (largestReached == null || size(unit) > size(largestReached))) {
+                largestReached = unit;
+            }
+            if (smallest == null || size(unit) < size(smallest)) {
+                smallest = unit;
+            }
+        }
+        Unit target = largestReached != null ? largestReached : smallest;
+        return target != null ? total.measurement.convertTo(target.getSymbol()) : total.measurement.copy();
+    }
+
+    private static double size(Unit unit) {
+        return unit.convert(1, unit.getBaseUnit());
+    }
+}
@@ -0,0 +1,178 @@
+package com.recipeplanner.model;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Enumeration of the units used in the dataset's ingredient entries.
+ * Demonstrates enum usage with fields and methods.
+ *
+ * Each unit knows the spellings it appears under in the Cleaned-Ingredients
+ * column ("tsp", "teaspoons", ...), the symbol used for a Measurement, and
+ * how it converts to other units of the same kind. Counted items such as
+ * "2 Tomatoes" use PIECE.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public enum Unit {
+    TEASPOON("teaspoon", "tsp", Kind.VOLUME, 5, "teaspoons", "tsps"),
+    TABLESPOON("tablespoon", "tbsp", Kind.VOLUME, 15, "tablespoons", "tbsps", "tbs"),
+    CUP("cup", "cup", Kind.VOLUME, 240, "cups"),
+    GRAM("gram", "g", Kind.WEIGHT, 1, "grams", "gm", "gms", "gr"),
+    KILOGRAM("kilogram", "kg", Kind.WEIGHT, 1000, "kilograms", "kgs", "kilo", "kilos"),
+    MILLILITRE("millilitre", "ml", Kind.VOLUME, 1, "millilitres", "milliliter", "milliliters"),
+    LITRE("litre", "l", Kind.VOLUME, 1000, "litres", "liter", "liters", "ltr"),
+    PINCH("pinch", "pinch", Kind.COUNT, 1, "pinches"),
+    DASH("dash", "dash", Kind.COUNT, 1, "dashes"),
+    DROP("drop", "drop", Kind.COUNT, 1, "drops"),
+    INCH("inch", "inch", Kind.COUNT, 1, "inches"),
+    SPRIG("sprig", "sprig", Kind.COUNT, 1, "sprigs"),
+    CLOVE("clove", "clove", Kind.COUNT, 1, "cloves"),
+    STALK("stalk", "stalk", Kind.COUNT, 1, "stalks"),
+    STICK("stick", "stick", Kind.COUNT, 1, "sticks"),
+    SLICE("slice", "slice", Kind.COUNT, 1, "slices"),
+    BUNCH("bunch", "bunch", Kind.COUNT, 1, "bunches"),
+    HANDFUL("handful", "handful", Kind.COUNT, 1, "handfuls"),
+    CAN("can", "can", Kind.COUNT, 1, "cans"),
+    PACKET("packet", "packet", Kind.COUNT, 1, "packets"),
+    PIECE("piece", "pcs", Kind.COUNT, 1, "pieces", "pc");
+
+    /**
+     * What a unit measures. Units of the same VOLUME or WEIGHT kind convert
+     * into each other; COUNT units only add up with themselves.
+     */
+    public enum Kind {
+        VOLUME,
+        WEIGHT,
+        COUNT
+    }
+
+    // Every spelling of every unit, lowercased
+    private static final Map<String, Unit> BY_SPELLING = new HashMap<>();
+
+    static {
+        for (Unit unit : values()) {
+            BY_SPELLING.put(unit.name().toLowerCase(Locale.ROOT), unit);
+            BY_SPELLING.put(unit.displayName, unit);
+            BY_SPELLING.put(unit.symbol, unit);
+            for (String spelling : unit.spellings) {
+                BY_SPELLING.put(spelling, unit);
+            }
+        }
+    }
+
+    private final String displayName;
+    private final String symbol;
+    private final Kind kind;
+    private final double baseAmount;  // Millilitres or grams in one unit
+    private final String[] spellings;
+
+    /**
+     * Constructor for Unit enum.
+     *
+     * @param displayName The singular name for display in UI
+     * @param symbol The short form used as a Measurement unit
+     * @param kind What the unit measures
+     * @param baseAmount Size of one unit in the base unit of its kind (ml or g)
+     * @param spellings Other spellings found in the dataset, lowercase
+     */
+    Unit(String displayName, String symbol, Kind kind, double baseAmount, String... spellings) {
+        this.displayName = displayName;
+        this.symbol = symbol;
+        this.kind = kind;
+        this.baseAmount = baseAmount;
+        this.spellings = spellings;
+    }
+
+    /**
+     * Gets the display name for this unit.
+     *
+     * @return The singular unit name, e.g. "teaspoon"
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Gets the symbol used for this unit in a Measurement.
+     *
+     * @return The short unit name, e.g. "tsp"
+     */
+    public String getSymbol() {
+        return symbol;
+    }
+
+    /**
+     * Gets what this unit measures.
+     *
+     * @return VOLUME, WEIGHT or COUNT
+     */
+    public Kind getKind() {
+        return kind;
+    }
+
+    /**
+     * Gets the unit amounts of this kind are summed in: MILLILITRE for
+     * volumes, GRAM for weights, and the unit itself for counts.
+     *
+     * @return The base unit
+     */
+    public Unit getBaseUnit() {
+        switch (kind) {
+            case VOLUME:
+                return MILLILITRE;
+            case WEIGHT:
+                return GRAM;
+            default:
+                return this;
+        }
+    }
+
+    /**
+     * Checks if amounts in this unit can be expressed in another.
+     * Kitchen volumes are treated as standard: 1 tsp = 5 ml, 1 tbsp = 15 ml,
+     * 1 cup = 240 ml.
+     *
+     * @param other The other unit
+     * @return true if both are the same unit, or both volumes or both weights
+     */
+    public boolean isConvertibleTo(Unit other) {
+        return this == other || (other != null && kind != Kind.COUNT && kind == other.kind);
+    }
+
+    /**
+     * Converts an amount in this unit to another unit.
+     *
+     * @param amount The amount in this unit
+     * @param target The unit to convert to
+     * @return The same quantity in the target unit
+     * @throws IllegalArgumentException if the units are not convertible
+     */
+    public double convert(double amount, Unit target) {
+        if (!isConvertibleTo(target)) {
+            throw new IllegalArgumentException("Cannot convert " + displayName + " to " + target);
+        }
+        return amount * baseAmount / target.baseAmount;
+    }
+
+    /**
+     * Converts a string to a Unit enum value.
+     * Case-insensitive; accepts plurals and abbreviations such as "tbsp".
+     *
+     * @param text The string to convert
+     * @return The corresponding Unit, or null if not found
+     */
+    public static Unit fromString(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return null;
+        }
+        return BY_SPELLING.get(text.trim().toLowerCase(Locale.ROOT));
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
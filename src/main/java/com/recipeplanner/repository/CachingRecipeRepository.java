@@ -0,0 +1,468 @@
+package com.recipeplanner.repository;
+
+import com.recipeplanner.model.Recipe;
+import com.recipeplanner.model.RecipeSummary;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Read-through cache in front of a RecipeRepository.
+ * Demonstrates the Decorator pattern: it is a RecipeRepository and wraps one,
+ * so RecipeService and the UI use it without changes.
+ *
+ * Caches individual recipes by ID and the result lists of findByCuisine and
+ * findByCreatedBy, all LRU. Recipes held by cached lists count against the
+ * same maxEntries budget as recipes cached by ID; when the total goes over
+ * it, the least recently used lists are dropped first, then single recipes.
+ * A list larger than the whole budget is not cached, and neither is findAll:
+ * the full table would never fit, and the search index already holds it.
+ *
+ * Writes go straight to the wrapped repository and then invalidate only what
+ * they affect:
+ * - save: the recipe's entry is replaced; the lists for its cuisine, its
+ *   creator and any list already holding it are dropped
+ * - delete: the recipe is removed from its entry and from every cached list in place
+ * - saveAll, deleteAll and clear: everything is dropped
+ * A failed insert or update leaves the cache as it was.
+ *
+ * Recipes and lists are returned as copies, as InMemoryRecipeRepository
+ * does, so callers may modify them without changing the cache.
+ * Empty results are not cached, because the wrapped repository also returns
+ * an empty list when a query fails.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public class CachingRecipeRepository extends RecipeRepository {
+
+    private final RecipeRepository delegate;
+    private final int maxEntries;
+
+    // All cache state below is guarded by "this"; database calls run outside the lock
+    private final LinkedHashMap<Integer, Recipe> entries;
+    private final LinkedHashMap<String, List<Recipe>> lists;   // "cuisine:<name>" or "creator:<id>"
+
+    // Bumped by every write; a load started before a write must not be cached
+    private long generation;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Creates a cache around a repository.
+     *
+     * @param delegate The repository that actually reads and writes recipes
+     * @param maxEntries Maximum number of recipes cached, by ID and in lists together
+     * @param maxLists Maximum number of cached cuisine and creator lists
+     */
+    public CachingRecipeRepository(RecipeRepository delegate, int maxEntries, int maxLists) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate repository cannot be null");
+        }
+        if (maxEntries < 1 || maxLists < 1) {
+            throw new IllegalArgumentException("Cache sizes must be at least 1");
+        }
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+        this.entries = lruMap(maxEntries);
+        this.lists = lruMap(maxLists);
+    }
+
+    /**
+     * Finds a recipe by ID, from the cache when possible.
+     *
+     * @param id The recipe ID
+     * @return Optional containing a copy of the Recipe if found
+     */
+    @Override
+    public Optional<Recipe> findById(int id) {
+        long loadGeneration;
+        synchronized (this) {
+            Recipe cached = entries.get(id);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return Optional.of(cached.copy());
+            }
+            loadGeneration = generation;
+        }
+        misses.incrementAndGet();
+
+        Optional<Recipe> loaded = delegate.findById(id);
+        if (loaded.isPresent()) {
+            synchronized (this) {
+                if (generation == loadGeneration) {
+                    entries.put(id, loaded.get().copy());
+                    trimToBudget();
+                }
+            }
+        }
+        return loaded;
+    }
+
+    @Override
+    public Recipe save(Recipe recipe) {
+        if (recipe.getId() != 0) {
+            update(recipe);
+            return recipe;
+        }
+        Recipe saved = delegate.save(recipe);
+        if (saved.getId() == 0) {
+            // Insert failed; the cache is still accurate
+            return saved;
+        }
+        cacheSaved(saved);
+        return saved;
+    }
+
+    @Override
+    public boolean update(Recipe recipe) {
+        if (!delegate.update(recipe)) {
+            // Nothing was written; the cache is still accurate
+            return false;
+        }
+        cacheSaved(recipe);
+        return true;
+    }
+
+    @Override
+    public int saveAll(Iterable<Recipe> recipes, int batchSize) {
+        int saved = delegate.saveAll(recipes, batchSize);
+        invalidateAll();
+        return saved;
+    }
+
+    @Override
+    public boolean delete(int recipeId) {
+        boolean deleted = delegate.delete(recipeId);
+        if (deleted) {
+            synchronized (this) {
+                generation++;
+                entries.remove(recipeId);
+                for (List<Recipe> list : lists.values()) {
+                    removeById(list, recipeId);
+                }
+            }
+        }
+        return deleted;
+    }
+
+    @Override
+    public int deleteAll(Collection<Integer> recipeIds, int batchSize) {
+        int deleted = delegate.deleteAll(recipeIds, batchSize);
+        invalidateAll();
+        return deleted;
+    }
+
+    /**
+     * Gets all recipes. Not cached; see the class comment.
+     */
+    @Override
+    public List<Recipe> findAll() {
+        return delegate.findAll();
+    }
+
+    /**
+     * Streams every recipe from the wrapped repository.
+     */
+    @Override
+    public int forEachRecipe(Consumer<Recipe> action) {
+        return delegate.forEachRecipe(action);
+    }
+
+    /**
+     * Opens a stream over every recipe in the wrapped repository.
+     */
+    @Override
+    public Stream<Recipe> streamAll() {
+        return delegate.streamAll();
+    }
+
+    /**
+     * Searches by name. Free-text results are not cached; the search index serves these.
+     */
+    @Override
+    public List<Recipe> searchByName(String searchTerm) {
+        return delegate.searchByName(searchTerm);
+    }
+
+    /**
+     * Full-text search. Not cached, like searchByName.
+     */
+    @Override
+    public List<Recipe> searchFullText(String searchTerm, boolean booleanMode, int limit) {
+        return delegate.searchFullText(searchTerm, booleanMode, limit);
+    }
+
+    @Override
+    public List<Recipe> findByCuisine(String cuisine) {
+        if (cuisine == null) {
+            return delegate.findByCuisine(null);
+        }
+        return cachedList("cuisine:" + cuisine.trim().toLowerCase(), () -> delegate.findByCuisine(cuisine));
+    }
+
+    @Override
+    public List<Recipe> findByCreatedBy(int userId) {
+        return cachedList("creator:" + userId, () -> delegate.findByCreatedBy(userId));
+    }
+
+    @Override
+    public List<Recipe> findWithLimit(int limit, int offset) {
+        return delegate.findWithLimit(limit, offset);
+    }
+
+    /**
+     * Gets a page of recipes. Pages are not cached; each one is a cheap index seek.
+     */
+    @Override
+    public RecipePage<Recipe> findPage(RecipeOrder order, RecipePage.Cursor after, int pageSize) {
+        return delegate.findPage(order, after, pageSize);
+    }
+
+    /**
+     * Gets a page of recipe summaries. Not cached, for the same reason as pages.
+     */
+    @Override
+    public RecipePage<RecipeSummary> findSummaryPage(RecipeOrder order, RecipePage.Cursor after, int pageSize) {
+        return delegate.findSummaryPage(order, after, pageSize);
+    }
+
+    @Override
+    public List<RecipeSummary> findSummariesByCreatedBy(int userId) {
+        return delegate.findSummariesByCreatedBy(userId);
+    }
+
+    /**
+     * Gets the total count of recipes from the wrapped repository.
+     *
+     * @return The number of recipes in the repository
+     */
+    @Override
+    public int count() {
+        return delegate.count();
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        invalidateAll();
+    }
+
+    /**
+     * Drops every cached recipe and list. Use after the table was changed
+     * without going through this repository.
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        entries.clear();
+        lists.clear();
+    }
+
+    /**
+     * Gets a snapshot of the cache counters. The entry count includes the
+     * recipes held by cached lists.
+     *
+     * @return Current cache statistics
+     */
+    public synchronized CacheStats getStats() {
+        return new CacheStats(hits.get(), misses.get(), evictions.get(), cachedRecipeCount(), maxEntries,
+            lists.size());
+    }
+
+    /**
+     * Serves a cuisine or creator list from the cache, loading and caching it on a miss.
+     */
+    private List<Recipe> cachedList(String key, Supplier<List<Recipe>> loader) {
+        long loadGeneration;
+        synchronized (this) {
+            List<Recipe> cached = lists.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return copyAll(cached);
+            }
+            loadGeneration = generation;
+        }
+        misses.incrementAndGet();
+
+        List<Recipe> loaded = loader.get();
+        if (!loaded.isEmpty() && loaded.size() <= maxEntries) {
+            synchronized (this) {
+                if (generation == loadGeneration) {
+                    lists.put(key, copyAll(loaded));
+                    trimToBudget();
+                }
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Caches a recipe that was just written and drops the lists it affects.
+     */
+    private synchronized void cacheSaved(Recipe saved) {
+        generation++;
+        entries.put(saved.getId(), saved.copy());
+        dropListsFor(saved);
+        trimToBudget();
+    }
+
+    /**
+     * Counts the recipes held by the cache, by ID and in lists. Caller holds the lock.
+     */
+    private int cachedRecipeCount() {
+        int count = entries.size();
+        for (List<Recipe> list : lists.values()) {
+            count += list.size();
+        }
+        return count;
+    }
+
+    /**
+     * Evicts least recently used lists, then recipes, until the cache fits
+     * maxEntries. Caller holds the lock.
+     */
+    private void trimToBudget() {
+        int count = cachedRecipeCount();
+        Iterator<List<Recipe>> listIt = lists.values().iterator();
+        while (count > maxEntries && listIt.hasNext()) {
+            count -= listIt.next().size();
+            listIt.remove();
+            evictions.incrementAndGet();
+        }
+        Iterator<Recipe> entryIt = entries.values().iterator();
+        while (count > maxEntries && entryIt.hasNext()) {
+            entryIt.next();
+            entryIt.remove();
+            count--;
+            evictions.incrementAndGet();
+        }
+    }
+
+    /**
+     * Drops the cuisine and creator lists the saved recipe belongs to now,
+     * plus any list still holding its previous version. Caller holds the lock.
+     */
+    private void dropListsFor(Recipe saved) {
+        if (saved.getCuisine() != null) {
+            lists.remove("cuisine:" + saved.getCuisine().trim().toLowerCase());
+        }
+        lists.remove("creator:" + saved.getCreatedBy());
+        lists.values().removeIf(list -> containsId(list, saved.getId()));
+    }
+
+    private static List<Recipe> copyAll(List<Recipe> recipes) {
+        List<Recipe> copies = new ArrayList<>(recipes.size());
+        for (Recipe recipe : recipes) {
+            copies.add(recipe.copy());
+        }
+        return copies;
+    }
+
+    private static boolean containsId(List<Recipe> list, int recipeId) {
+        for (Recipe recipe : list) {
+            if (recipe.getId() == recipeId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void removeById(List<Recipe> list, int recipeId) {
+        Iterator<Recipe> it = list.iterator();
+        while (it.hasNext()) {
+            if (it.next().getId() == recipeId) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Creates an access-ordered map that evicts its least recently used entry
+     * beyond the given size and counts the eviction.
+     */
+    private <K, V> LinkedHashMap<K, V> lruMap(int capacity) {
+        return new LinkedHashMap<K, V>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                if (size() > capacity) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * Immutable snapshot of cache counters.
+     */
+    public static class CacheStats {
+        private final long hitCount;
+        private final long missCount;
+        private final long evictionCount;
+        private final int entryCount;
+        private final int maxEntries;
+        private final int listCount;
+
+        CacheStats(long hitCount, long missCount, long evictionCount, int entryCount, int maxEntries, int listCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.evictionCount = evictionCount;
+            this.entryCount = entryCount;
+            this.maxEntries = maxEntries;
+            this.listCount = listCount;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        public int getEntryCount() {
+            return entryCount;
+        }
+
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        public int getListCount() {
+            return listCount;
+        }
+
+        /**
+         * Gets the fraction of reads answered from the cache.
+         *
+         * @return Hit rate between 0.0 and 1.0
+         */
+        public double getHitRate() {
+            long total = hitCount + missCount;
+            return total == 0 ? 0.0 : (double) hitCount / total;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("CacheStats{hits=%d, misses=%d, hitRate=%.1f%%, evictions=%d, " +
+                "entries=%d/%d, lists=%d}",
+                hitCount, missCount, getHitRate() * 100, evictionCount, entryCount, maxEntries, listCount);
+        }
+    }
+}
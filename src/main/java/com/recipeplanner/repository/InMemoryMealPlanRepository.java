@@ -0,0 +1,109 @@
+package com.recipeplanner.repository;
+
+import com.recipeplanner.model.MealPlan;
+import com.recipeplanner.model.MealType;
+import com.recipeplanner.model.Recipe;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Meal plan repository kept in process memory, used with
+ * -Drecipeplanner.storage=MEMORY alongside {@link InMemoryRecipeRepository}.
+ *
+ * Behaves like the MySQL repository: IDs are assigned on insert, plans are
+ * listed latest week first, and every read returns a fresh copy with its
+ * recipes looked up again, so a slot whose recipe was deleted comes back
+ * empty as it would after ON DELETE CASCADE.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public class InMemoryMealPlanRepository extends MealPlanRepository {
+
+    private final ConcurrentMap<Integer, MealPlan> plansById = new ConcurrentHashMap<>();
+    private final AtomicInteger nextId = new AtomicInteger(1);
+
+    /**
+     * Constructor with the repository recipes are looked up in.
+     *
+     * @param recipeRepository The recipe repository
+     */
+    public InMemoryMealPlanRepository(RecipeRepository recipeRepository) {
+        super(recipeRepository);
+    }
+
+    @Override
+    public Optional<MealPlan> findById(int id) {
+        MealPlan plan = plansById.get(id);
+        return plan != null ? Optional.of(load(plan)) : Optional.empty();
+    }
+
+    @Override
+    public List<MealPlan> findByUserId(int userId) {
+        List<MealPlan> plans = new ArrayList<>();
+        for (MealPlan plan : plansById.values()) {
+            if (plan.getUserId() == userId) {
+                plans.add(load(plan));
+            }
+        }
+        plans.sort(Comparator.comparing(MealPlan::getWeekStart).thenComparing(MealPlan::getId).reversed());
+        return plans;
+    }
+
+    /**
+     * Saves a new plan or replaces an existing one.
+     * A plan without a name or week start is rejected, as the NOT NULL
+     * columns would reject it.
+     *
+     * @param plan The plan to save
+     * @return The saved plan with ID assigned
+     */
+    @Override
+    public MealPlan save(MealPlan plan) {
+        if (plan.getName() == null || plan.getWeekStart() == null) {
+            System.err.println("Error saving meal plan: name and week start cannot be null");
+            return plan;
+        }
+        if (plan.getId() == 0) {
+            plan.setId(nextId.getAndIncrement());
+            plansById.put(plan.getId(), plan.copy());
+        } else {
+            // UPDATE of a missing row changes nothing
+            plansById.replace(plan.getId(), plan.copy());
+        }
+        return plan;
+    }
+
+    @Override
+    public boolean delete(int planId) {
+        return plansById.remove(planId) != null;
+    }
+
+    @Override
+    public void clear() {
+        plansById.clear();
+    }
+
+    /**
+     * Copies a stored plan, looking up each recipe by ID.
+     */
+    private MealPlan load(MealPlan stored) {
+        MealPlan plan = stored.copy();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            for (MealType mealType : MealType.values()) {
+                Recipe recipe = stored.getRecipe(day, mealType);
+                if (recipe != null) {
+                    plan.setRecipe(day, mealType, findRecipe(recipe.getId()));
+                }
+            }
+        }
+        return plan;
+    }
+}
@@ -0,0 +1,490 @@
+package com.recipeplanner.repository;
+
+import com.recipeplanner.model.Recipe;
+import com.recipeplanner.model.RecipeSummary;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Recipe repository kept entirely in process memory, for running without MySQL
+ * (kiosks, CI load tests, benchmarks). Selected with
+ * -Drecipeplanner.storage=MEMORY; see {@link StorageMode}.
+ *
+ * Behaves like the MySQL repository it replaces: IDs are assigned on insert,
+ * names and cuisines compare case-insensitively, lists come back in the same
+ * order as the SQL queries, and every read returns fresh copies, so callers
+ * cannot change stored recipes without calling save.
+ *
+ * Each {@link RecipeOrder} has a sorted map keyed by (sort value, id), the
+ * in-memory equivalent of the composite indexes in database_schema.sql, so
+ * keyset pages are a tail-map lookup rather than a sort.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public class InMemoryRecipeRepository extends RecipeRepository {
+
+    private final Map<Integer, Recipe> recipesById = new HashMap<>();
+    private final Map<RecipeOrder, TreeMap<SortKey, Recipe>> recipesByOrder = new EnumMap<>(RecipeOrder.class);
+    private int nextId = 1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Creates an empty repository.
+     */
+    public InMemoryRecipeRepository() {
+        for (RecipeOrder order : RecipeOrder.values()) {
+            recipesByOrder.put(order, new TreeMap<>());
+        }
+    }
+
+    @Override
+    public Optional<Recipe> findById(int id) {
+        lock.readLock().lock();
+        try {
+            Recipe recipe = recipesById.get(id);
+            return recipe != null ? Optional.of(recipe.copy()) : Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Saves a new recipe or updates an existing one.
+     * A recipe without a name is rejected, as the NOT NULL column would reject it.
+     *
+     * @param recipe The recipe to save
+     * @return The saved recipe with ID assigned
+     */
+    @Override
+    public Recipe save(Recipe recipe) {
+        if (recipe.getName() == null) {
+            System.err.println("Error saving recipe: name cannot be null");
+            return recipe;
+        }
+        lock.writeLock().lock();
+        try {
+            if (recipe.getId() == 0) {
+                recipe.setId(nextId++);
+            } else if (!recipesById.containsKey(recipe.getId())) {
+                // UPDATE of a missing row changes nothing
+                return recipe;
+            }
+            store(recipe.copy());
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return recipe;
+    }
+
+    /**
+     * Updates an existing recipe.
+     *
+     * @param recipe The recipe to update, with its ID set
+     * @return true if a stored recipe was updated
+     */
+    @Override
+    public boolean update(Recipe recipe) {
+        if (recipe.getName() == null) {
+            System.err.println("Error updating recipe: name cannot be null");
+            return false;
+        }
+        lock.writeLock().lock();
+        try {
+            if (!recipesById.containsKey(recipe.getId())) {
+                return false;
+            }
+            store(recipe.copy());
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int saveAll(Iterable<Recipe> recipes, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        int saved = 0;
+        for (Recipe recipe : recipes) {
+            if (save(recipe).getId() != 0) {
+                saved++;
+            }
+        }
+        return saved;
+    }
+
+    /**
+     * Stores recipes under the IDs they already have, replacing any recipe
+     * with the same ID. Used to restore a saved corpus such as a snapshot;
+     * new recipes saved afterwards get IDs above the highest restored one.
+     *
+     * @param recipes Recipes with IDs assigned
+     * @return Number of recipes stored
+     */
+    public int restoreAll(Iterable<Recipe> recipes) {
+        int restored = 0;
+        lock.writeLock().lock();
+        try {
+            for (Recipe recipe : recipes) {
+                if (recipe.getId() <= 0 || recipe.getName() == null) {
+                    continue;
+                }
+                store(recipe.copy());
+                nextId = Math.max(nextId, recipe.getId() + 1);
+                restored++;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return restored;
+    }
+
+    @Override
+    public boolean delete(int recipeId) {
+        lock.writeLock().lock();
+        try {
+            return unstore(recipeId) != null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int deleteAll(Collection<Integer> recipeIds, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        int deleted = 0;
+        lock.writeLock().lock();
+        try {
+            for (int recipeId : recipeIds) {
+                if (unstore(recipeId) != null) {
+                    deleted++;
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        return deleted;
+    }
+
+    @Override
+    public List<Recipe> findAll() {
+        return snapshot(RecipeOrder.BY_NAME);
+    }
+
+    /**
+     * Passes every recipe to the action in name order.
+     * The action runs on a snapshot, so it may use this repository freely.
+     */
+    @Override
+    public int forEachRecipe(Consumer<Recipe> action) {
+        List<Recipe> recipes = snapshot(RecipeOrder.BY_NAME);
+        recipes.forEach(action);
+        return recipes.size();
+    }
+
+    @Override
+    public Stream<Recipe> streamAll() {
+        return snapshot(RecipeOrder.BY_NAME).stream();
+    }
+
+    /**
+     * Finds recipes whose name or ingredient text contains the term,
+     * like the SQL LIKE '%term%' query.
+     */
+    @Override
+    public List<Recipe> searchByName(String searchTerm) {
+        if (searchTerm == null || searchTerm.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+        String term = searchTerm.trim().toLowerCase();
+        return select(recipe -> contains(recipe.getName(), term) || contains(recipe.getRawIngredientsText(), term));
+    }
+
+    /**
+     * Emulates the FULLTEXT search by matching whole words of name and
+     * ingredient text: all words (the last as a prefix) in boolean mode, any
+     * word in natural-language mode. Relevance is the number of matched words,
+     * with name matches weighted as in the MySQL query.
+     */
+    @Override
+    public List<Recipe> searchFullText(String searchTerm, boolean booleanMode, int limit) {
+        List<Recipe> results = new ArrayList<>();
+        if (searchTerm == null || searchTerm.trim().isEmpty() || limit < 1) {
+            return results;
+        }
+        List<String> words = fullTextWords(searchTerm);
+        if (words.isEmpty()) {
+            List<Recipe> fallback = searchByName(searchTerm);
+            return fallback.size() > limit ? new ArrayList<>(fallback.subList(0, limit)) : fallback;
+        }
+
+        Map<Recipe, Integer> relevance = new HashMap<>();
+        for (Recipe recipe : snapshot(RecipeOrder.BY_NAME)) {
+            Set<String> nameWords = new HashSet<>(fullTextWords(nullToEmpty(recipe.getName())));
+            Set<String> allWords = new HashSet<>(fullTextWords(nullToEmpty(recipe.getRawIngredientsText())));
+            allWords.addAll(nameWords);
+
+            int nameHits = 0;
+            int allHits = 0;
+            for (int i = 0; i < words.size(); i++) {
+                boolean prefix = booleanMode && i == words.size() - 1;
+                if (matchesWord(nameWords, words.get(i), prefix)) {
+                    nameHits++;
+                }
+                if (matchesWord(allWords, words.get(i), prefix)) {
+                    allHits++;
+                }
+            }
+            if (booleanMode ? allHits == words.size() : allHits > 0) {
+                relevance.put(recipe, FULLTEXT_NAME_WEIGHT * nameHits + allHits);
+                results.add(recipe);
+            }
+        }
+
+        // Snapshot is in name order and the sort is stable, so ties stay by name
+        results.sort(Comparator.comparing((Recipe recipe) -> relevance.get(recipe)).reversed());
+        return results.size() > limit ? new ArrayList<>(results.subList(0, limit)) : results;
+    }
+
+    @Override
+    public List<Recipe> findByCuisine(String cuisine) {
+        if (cuisine == null) {
+            return new ArrayList<>();
+        }
+        return select(recipe -> cuisine.equalsIgnoreCase(recipe.getCuisine()));
+    }
+
+    @Override
+    public List<Recipe> findByCreatedBy(int userId) {
+        return select(recipe -> recipe.getCreatedBy() == userId);
+    }
+
+    @Override
+    public List<Recipe> findWithLimit(int limit, int offset) {
+        List<Recipe> recipes = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            Iterator<Recipe> it = recipesByOrder.get(RecipeOrder.BY_NAME).values().iterator();
+            for (int skipped = 0; skipped < offset && it.hasNext(); skipped++) {
+                it.next();
+            }
+            while (recipes.size() < limit && it.hasNext()) {
+                recipes.add(it.next().copy());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return recipes;
+    }
+
+    @Override
+    public RecipePage<Recipe> findPage(RecipeOrder order, RecipePage.Cursor after, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        if (after != null && after.getOrder() != order) {
+            throw new IllegalArgumentException("Cursor belongs to ordering " + after.getOrder().name());
+        }
+
+        List<Recipe> recipes = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            TreeMap<SortKey, Recipe> sorted = recipesByOrder.get(order);
+            Map<SortKey, Recipe> tail = after != null
+                ? sorted.tailMap(new SortKey(after.getSortKey(), after.getId()), false) : sorted;
+            for (Recipe recipe : tail.values()) {
+                if (recipes.size() == pageSize) {
+                    return new RecipePage<>(recipes, RecipePage.Cursor.after(order, recipes.get(pageSize - 1)));
+                }
+                recipes.add(recipe.copy());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return new RecipePage<>(recipes, null);
+    }
+
+    @Override
+    public RecipePage<RecipeSummary> findSummaryPage(RecipeOrder order, RecipePage.Cursor after, int pageSize) {
+        RecipePage<Recipe> page = findPage(order, after, pageSize);
+        return new RecipePage<>(summarize(page.getRecipes()), page.getNextCursor());
+    }
+
+    @Override
+    public List<RecipeSummary> findSummariesByCreatedBy(int userId) {
+        return summarize(findByCreatedBy(userId));
+    }
+
+    @Override
+    public int count() {
+        lock.readLock().lock();
+        try {
+            return recipesById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            recipesById.clear();
+            for (TreeMap<SortKey, Recipe> sorted : recipesByOrder.values()) {
+                sorted.clear();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        System.out.println("All recipes cleared from memory");
+    }
+
+    /**
+     * Adds or replaces a stored recipe in every index. Caller holds the write lock.
+     */
+    private void store(Recipe recipe) {
+        unstore(recipe.getId());
+        recipesById.put(recipe.getId(), recipe);
+        for (RecipeOrder order : RecipeOrder.values()) {
+            recipesByOrder.get(order).put(new SortKey(order.sortKeyOf(recipe), recipe.getId()), recipe);
+        }
+    }
+
+    /**
+     * Removes a stored recipe from every index. Caller holds the write lock.
+     *
+     * @return The removed recipe, or null if there was none
+     */
+    private Recipe unstore(int recipeId) {
+        Recipe old = recipesById.remove(recipeId);
+        if (old != null) {
+            for (RecipeOrder order : RecipeOrder.values()) {
+                recipesByOrder.get(order).remove(new SortKey(order.sortKeyOf(old), recipeId));
+            }
+        }
+        return old;
+    }
+
+    /**
+     * Copies all recipes in the given order.
+     */
+    private List<Recipe> snapshot(RecipeOrder order) {
+        lock.readLock().lock();
+        try {
+            List<Recipe> recipes = new ArrayList<>(recipesById.size());
+            for (Recipe recipe : recipesByOrder.get(order).values()) {
+                recipes.add(recipe.copy());
+            }
+            return recipes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Copies the recipes matching a condition, in name order.
+     */
+    private List<Recipe> select(Predicate<Recipe> condition) {
+        List<Recipe> recipes = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Recipe recipe : recipesByOrder.get(RecipeOrder.BY_NAME).values()) {
+                if (condition.test(recipe)) {
+                    recipes.add(recipe.copy());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return recipes;
+    }
+
+    private static List<RecipeSummary> summarize(List<Recipe> recipes) {
+        List<RecipeSummary> summaries = new ArrayList<>(recipes.size());
+        for (Recipe recipe : recipes) {
+            summaries.add(RecipeSummary.of(recipe));
+        }
+        return summaries;
+    }
+
+    private static boolean contains(String text, String lowerTerm) {
+        return text != null && text.toLowerCase().contains(lowerTerm);
+    }
+
+    private static boolean matchesWord(Set<String> words, String word, boolean prefix) {
+        if (!prefix) {
+            return words.contains(word);
+        }
+        for (String candidate : words) {
+            if (candidate.startsWith(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String nullToEmpty(String text) {
+        return text != null ? text : "";
+    }
+
+    /**
+     * (sort value, id) key of the per-order maps. Names compare
+     * case-insensitively like the database collation; the id breaks ties.
+     */
+    private static final class SortKey implements Comparable<SortKey> {
+        private final Object value;
+        private final int id;
+
+        SortKey(Object value, int id) {
+            this.value = value;
+            this.id = id;
+        }
+
+        @Override
+        public int compareTo(SortKey other) {
+            int cmp = compareValues(value, other.value);
+            return cmp != 0 ? cmp : Integer.compare(id, other.id);
+        }
+
+        private static int compareValues(Object a, Object b) {
+            if (a == null || b == null) {
+                return a == null ? (b == null ? 0 : -1) : 1;
+            }
+            if (a instanceof String && b instanceof String) {
+                return String.CASE_INSENSITIVE_ORDER.compare((String) a, (String) b);
+            }
+            return Integer.compare(((Number) a).intValue(), ((Number) b).intValue());
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof SortKey && compareTo((SortKey) o) == 0;
+        }
+
+        @Override
+        public int hashCode() {
+            return id;
+        }
+    }
+}
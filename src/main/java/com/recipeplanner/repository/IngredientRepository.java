@@ -1,50 +1,88 @@
 package com.recipeplanner.repository;
 
 import com.recipeplanner.model.Ingredient;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * In-memory repository for Ingredient entities using ArrayList.
+ * In-memory repository for Ingredient entities using hash indexes.
  * Demonstrates Collections Framework and data management.
- * 
+ *
+ * Ingredients are indexed by ID, by normalized name (trimmed, lowercased,
+ * single-spaced) and by category, all in ConcurrentHashMaps, so lookups are
+ * O(1) and findOrCreate can be called from parallel ingestion threads without
+ * locking.
+ *
+ * Spellings of the same ingredient are merged through aliases: every new
+ * repository starts with the fixed table in ingredient_aliases.txt, and more
+ * can be set with {@link #addAlias}. An alias maps one name to another, not
+ * to a stored ingredient, so findOrCreate("Jeera") and
+ * findOrCreate("Cumin seeds (Jeera)") return the same entry whichever is
+ * called first, and the first call creates it under the canonical name.
+ *
+ * In addition, findByName falls back to the text in parentheses of a name
+ * such as "Methi seeds (Fenugreek seeds)". These derived aliases are only
+ * used for lookups, never by findOrCreate; when several names share the same
+ * parenthesized text, the alphabetically first wins.
+ *
  * @author Recipe Planner Team
- * @version 2.0 (In-Memory)
+ * @version 3.0 (In-Memory, concurrent)
  */
 public class IngredientRepository {
-    
-    // Demonstrates Collections Framework - ArrayList usage (Module 4)
-    private final List<Ingredient> ingredients;
-    private int nextId;
-    
+
+    private static final String ALIAS_FILE = "ingredient_aliases.txt";
+
+    // Alias table shipped with the application, read once
+    private static final Map<String, String> DEFAULT_ALIASES = readAliasFile();
+
+    private final ConcurrentMap<Integer, Ingredient> ingredientsById;
+    private final ConcurrentMap<String, Ingredient> ingredientsByName;
+    private final ConcurrentMap<String, String> aliases;
+    private final ConcurrentMap<String, Ingredient> ingredientsByDerivedAlias;
+    private final ConcurrentMap<String, Map<Integer, Ingredient>> ingredientsByCategory;
+    private final AtomicInteger nextId;
+
     /**
-     * Constructor initializes the in-memory storage.
+     * Constructor initializes the in-memory storage and loads the alias table.
      */
     public IngredientRepository() {
-        this.ingredients = new ArrayList<>();
-        this.nextId = 1;
+        this.ingredientsById = new ConcurrentHashMap<>();
+        this.ingredientsByName = new ConcurrentHashMap<>();
+        this.aliases = new ConcurrentHashMap<>();
+        this.ingredientsByDerivedAlias = new ConcurrentHashMap<>();
+        this.ingredientsByCategory = new ConcurrentHashMap<>();
+        this.nextId = new AtomicInteger(1);
+        DEFAULT_ALIASES.forEach(this::addAlias);
     }
-    
+
     /**
      * Finds an ingredient by ID.
-     * 
+     *
      * @param id The ingredient ID
      * @return Optional containing the Ingredient if found
      */
     public Optional<Ingredient> findById(int id) {
-        for (Ingredient ingredient : ingredients) {
-            if (ingredient.getId() == id) {
-                return Optional.of(ingredient);
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable(ingredientsById.get(id));
     }
-    
+
     /**
-     * Finds an ingredient by name (case-insensitive).
+     * Finds an ingredient by name or alias (case-insensitive).
      * Demonstrates String handling (Module 3).
-     * 
+     *
      * @param name The ingredient name
      * @return Optional containing the Ingredient if found
      */
@@ -52,105 +90,299 @@ public class IngredientRepository {
         if (name == null) {
             return Optional.empty();
         }
-        
-        String normalizedName = name.trim().toLowerCase();
-        for (Ingredient ingredient : ingredients) {
-            if (ingredient.getName() != null && 
-                ingredient.getName().toLowerCase().equals(normalizedName)) {
-                return Optional.of(ingredient);
-            }
+        String key = normalize(name);
+        Ingredient ingredient = lookup(key);
+        if (ingredient == null && !aliases.containsKey(key)) {
+            ingredient = ingredientsByDerivedAlias.get(key);
+            ingredient = isStored(ingredient) ? ingredient : null;
         }
-        return Optional.empty();
+        return Optional.ofNullable(ingredient);
     }
-    
+
     /**
      * Saves a new ingredient or updates an existing one.
-     * 
+     * If another ingredient already has the same name, that one keeps the name
+     * index entry, as the first match of a list scan would.
+     *
      * @param ingredient The ingredient to save
      * @return The saved ingredient with ID assigned
      */
     public Ingredient save(Ingredient ingredient) {
         if (ingredient.getId() == 0) {
-            ingredient.setId(nextId++);
+            ingredient.setId(nextId.getAndIncrement());
         }
-        
-        Optional<Ingredient> existing = findById(ingredient.getId());
-        if (existing.isPresent()) {
-            int index = ingredients.indexOf(existing.get());
-            ingredients.set(index, ingredient);
-        } else {
-            ingredients.add(ingredient);
+
+        Ingredient previous = ingredientsById.put(ingredient.getId(), ingredient);
+        if (previous != null) {
+            unindex(previous);
+        }
+        if (ingredient.getName() != null) {
+            String key = normalize(ingredient.getName());
+            ingredientsByName.merge(key, ingredient,
+                (existing, current) -> isLive(existing, key) ? existing : current);
+            addDerivedAliases(key, ingredient);
         }
-        
+        indexCategory(ingredient);
         return ingredient;
     }
-    
+
     /**
-     * Finds or creates an ingredient by name.
-     * If the ingredient doesn't exist, creates it.
-     * 
+     * Finds or creates an ingredient by name or alias.
+     * If the ingredient doesn't exist, creates it, under the canonical name
+     * when an alias was given. Lock-free: when threads race to create the
+     * same name, exactly one ingredient is stored and all of them get it back.
+     *
      * @param name The ingredient name
      * @return The existing or newly created ingredient
      */
     public Ingredient findOrCreate(String name) {
-        Optional<Ingredient> existing = findByName(name);
-        if (existing.isPresent()) {
-            return existing.get();
+        if (name == null) {
+            throw new IllegalArgumentException("Ingredient name cannot be null");
+        }
+        String canonical = aliases.get(normalize(name));
+        if (canonical != null) {
+            name = canonical;
+        }
+        String key = normalize(name);
+        Ingredient existing = lookup(key);
+        if (existing != null) {
+            return existing;
+        }
+
+        // Stored by ID first, so a racing thread never sees it half-created
+        Ingredient created = new Ingredient(nextId.getAndIncrement(), name, null);
+        ingredientsById.put(created.getId(), created);
+        while (true) {
+            existing = ingredientsByName.putIfAbsent(key, created);
+            if (existing == null) {
+                addDerivedAliases(key, created);
+                return created;
+            }
+            if (isLive(existing, key)) {
+                ingredientsById.remove(created.getId(), created);
+                return existing;
+            }
+            // Stale entry of a renamed or deleted ingredient; take it over
+            if (ingredientsByName.replace(key, existing, created)) {
+                addDerivedAliases(key, created);
+                return created;
+            }
+        }
+    }
+
+    /**
+     * Makes an alias resolve to the ingredient with the given name, replacing
+     * any previous target of that alias. The ingredient need not exist yet.
+     * Aliases of the alias are moved to the new name, so there are no chains.
+     *
+     * @param alias The alternative name, e.g. "Jeera"
+     * @param name Canonical name it refers to, e.g. "Cumin seeds (Jeera)"
+     * @return true if the alias was added, false if either name is missing
+     *         or the two are the same name
+     */
+    public boolean addAlias(String alias, String name) {
+        if (alias == null || name == null) {
+            return false;
+        }
+        String target = aliases.getOrDefault(normalize(name), name.trim());
+        String aliasKey = normalize(alias);
+        if (aliasKey.isEmpty() || aliasKey.equals(normalize(target))) {
+            return false;
         }
-        
-        Ingredient newIngredient = new Ingredient(name);
-        return save(newIngredient);
+        aliases.put(aliasKey, target);
+        aliases.replaceAll((key, current) -> normalize(current).equals(aliasKey) ? target : current);
+        return true;
     }
-    
+
     /**
      * Finds ingredients by category.
-     * 
-     * @param category The category name
-     * @return List of ingredients in that category
+     *
+     * @param category The category name (case-insensitive)
+     * @return List of ingredients in that category, ordered by ID
      */
     public List<Ingredient> findByCategory(String category) {
         List<Ingredient> results = new ArrayList<>();
-        for (Ingredient ingredient : ingredients) {
-            if (category != null && category.equalsIgnoreCase(ingredient.getCategory())) {
-                results.add(ingredient);
-            }
+        if (category == null) {
+            return results;
+        }
+        Map<Integer, Ingredient> members = ingredientsByCategory.get(categoryKey(category));
+        if (members != null) {
+            results.addAll(members.values());
+            results.sort(Comparator.comparingInt(Ingredient::getId));
         }
         return results;
     }
-    
+
     /**
      * Gets all ingredients.
-     * 
-     * @return List of all ingredients
+     *
+     * @return List of all ingredients, ordered by ID
      */
     public List<Ingredient> findAll() {
-        return new ArrayList<>(ingredients);
+        List<Ingredient> results = new ArrayList<>(ingredientsById.values());
+        results.sort(Comparator.comparingInt(Ingredient::getId));
+        return results;
     }
-    
+
     /**
-     * Deletes an ingredient by ID.
-     * 
+     * Deletes an ingredient by ID. Its aliases stay, and create the
+     * ingredient again when next used.
+     *
      * @param ingredientId The ingredient ID
      * @return true if deletion was successful
      */
     public boolean delete(int ingredientId) {
-        return ingredients.removeIf(ing -> ing.getId() == ingredientId);
+        Ingredient removed = ingredientsById.remove(ingredientId);
+        if (removed == null) {
+            return false;
+        }
+        unindex(removed);
+        ingredientsByDerivedAlias.values().removeIf(ingredient -> ingredient == removed);
+        return true;
     }
-    
+
     /**
      * Gets the total count of ingredients.
-     * 
+     *
      * @return The number of ingredients
      */
     public int count() {
-        return ingredients.size();
+        return ingredientsById.size();
     }
-    
+
     /**
-     * Clears all ingredients from the repository.
+     * Clears all ingredients from the repository. Aliases are kept.
      */
     public void clear() {
-        ingredients.clear();
-        nextId = 1;
+        ingredientsById.clear();
+        ingredientsByName.clear();
+        ingredientsByDerivedAlias.clear();
+        ingredientsByCategory.clear();
+        nextId.set(1);
+    }
+
+    /**
+     * Resolves a normalized name through the aliases, then the name index.
+     */
+    private Ingredient lookup(String key) {
+        String canonical = aliases.get(key);
+        if (canonical != null) {
+            key = normalize(canonical);
+        }
+        Ingredient ingredient = ingredientsByName.get(key);
+        return isLive(ingredient, key) ? ingredient : null;
+    }
+
+    private boolean isStored(Ingredient ingredient) {
+        return ingredient != null && ingredientsById.get(ingredient.getId()) == ingredient;
+    }
+
+    /**
+     * Checks that a name index entry is current: the ingredient is still
+     * stored and still has that name (setName leaves the old entry behind).
+     */
+    private boolean isLive(Ingredient ingredient, String key) {
+        return ingredient != null
+            && ingredientsById.get(ingredient.getId()) == ingredient
+            && ingredient.getName() != null
+            && key.equals(normalize(ingredient.getName()));
+    }
+
+    /**
+     * Registers the text in parentheses of a name like "cumin seeds (jeera)"
+     * as a derived alias. The text around it is not used: in names such as
+     * "urad dal (split)" the parentheses describe a form of the ingredient,
+     * and "urad dal" is a different entry.
+     */
+    private void addDerivedAliases(String key, Ingredient ingredient) {
+        int open = key.indexOf('(');
+        int close = key.indexOf(')', open + 1);
+        if (open < 0 || close < 0) {
+            return;
+        }
+        String inside = normalize(key.substring(open + 1, close));
+        if (!inside.isEmpty()) {
+            // Keep the alphabetically first name, whichever thread gets here first
+            ingredientsByDerivedAlias.merge(inside, ingredient, (existing, current) ->
+                isStored(existing) && normalize(existing.getName()).compareTo(key) <= 0 ? existing : current);
+        }
+    }
+
+    /**
+     * Removes an ingredient from the name and category indexes.
+     */
+    private void unindex(Ingredient ingredient) {
+        if (ingredient.getName() != null) {
+            ingredientsByName.remove(normalize(ingredient.getName()), ingredient);
+        }
+        // The category may have changed in place, so check every bucket
+        for (Map<Integer, Ingredient> members : ingredientsByCategory.values()) {
+            members.remove(ingredient.getId(), ingredient);
+        }
+    }
+
+    private void indexCategory(Ingredient ingredient) {
+        if (ingredient.getCategory() != null) {
+            ingredientsByCategory
+                .computeIfAbsent(categoryKey(ingredient.getCategory()), key -> new ConcurrentHashMap<>())
+                .put(ingredient.getId(), ingredient);
+        }
+    }
+
+    /**
+     * Reads the alias table from the classpath.
+     * Each line is "alias = canonical name"; # starts a comment.
+     */
+    private static Map<String, String> readAliasFile() {
+        Map<String, String> table = new LinkedHashMap<>();
+        InputStream in = IngredientRepository.class.getResourceAsStream("/" + ALIAS_FILE);
+        if (in == null) {
+            return table;
+        }
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int comment = line.indexOf('#');
+                if (comment >= 0) {
+                    line = line.substring(0, comment);
+                }
+                int separator = line.indexOf('=');
+                if (separator > 0) {
+                    table.put(line.substring(0, separator).trim(), line.substring(separator + 1).trim());
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading " + ALIAS_FILE + ": " + e.getMessage());
+        }
+        return Collections.unmodifiableMap(table);
+    }
+
+    /**
+     * Normalizes a name for indexing: trimmed, lowercased and single-spaced.
+     */
+    private static String normalize(String name) {
+        StringBuilder normalized = new StringBuilder(name.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c <= ' ' || Character.isWhitespace(c)) {
+                pendingSpace = normalized.length() > 0;
+            } else {
+                if (pendingSpace) {
+                    normalized.append(' ');
+                    pendingSpace = false;
+                }
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+        return normalized.toString();
+    }
+
+    /**
+     * Case-folds a category so that lookups match String.equalsIgnoreCase.
+     */
+    private static String categoryKey(String category) {
+        return category.toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
     }
 }
@@ -0,0 +1,313 @@
+package com.recipeplanner.repository;
+
+import com.recipeplanner.model.MealPlan;
+import com.recipeplanner.model.MealType;
+import com.recipeplanner.model.Recipe;
+import com.recipeplanner.util.DbConnectionManager;
+
+import java.sql.*;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * MySQL-backed repository for MealPlan entities using JDBC.
+ * A plan is one row in meal_plans and one row in meal_plan_entries per
+ * filled slot; see database_schema.sql.
+ *
+ * Entries store recipe IDs. Reading a plan resolves them through the recipe
+ * repository, so plans share its cache, and a slot whose recipe has since
+ * been deleted comes back empty.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public class MealPlanRepository {
+
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+
+    // Plans with their entries, one row per entry (or one row with NULL entry columns for an empty plan)
+    private static final String SELECT_PLANS =
+        "SELECT p.id, p.user_id, p.name, p.week_start, e.day_of_week, e.meal_type, e.recipe_id " +
+        "FROM meal_plans p LEFT JOIN meal_plan_entries e ON e.meal_plan_id = p.id ";
+
+    private final RecipeRepository recipeRepository;
+
+    /**
+     * A stored slot waiting for its recipe to be looked up.
+     */
+    private static final class PendingEntry {
+        private final MealPlan plan;
+        private final DayOfWeek day;
+        private final MealType mealType;
+        private final int recipeId;
+
+        PendingEntry(MealPlan plan, DayOfWeek day, MealType mealType, int recipeId) {
+            this.plan = plan;
+            this.day = day;
+            this.mealType = mealType;
+            this.recipeId = recipeId;
+        }
+    }
+
+    /**
+     * Constructor with the repository recipes are looked up in.
+     *
+     * @param recipeRepository The recipe repository
+     */
+    public MealPlanRepository(RecipeRepository recipeRepository) {
+        this.recipeRepository = recipeRepository;
+    }
+
+    /**
+     * Finds a plan by ID.
+     *
+     * @param id The plan ID
+     * @return Optional containing the MealPlan if found
+     */
+    public Optional<MealPlan> findById(int id) {
+        List<MealPlan> plans = query("WHERE p.id = ?", id, "Error finding meal plan by ID: ");
+        return plans.isEmpty() ? Optional.empty() : Optional.of(plans.get(0));
+    }
+
+    /**
+     * Finds all plans of a user, latest week first.
+     *
+     * @param userId The user ID
+     * @return List of the user's plans
+     */
+    public List<MealPlan> findByUserId(int userId) {
+        return query("WHERE p.user_id = ? ORDER BY p.week_start DESC, p.id DESC", userId,
+                     "Error finding meal plans by user: ");
+    }
+
+    /**
+     * Saves a new plan or replaces the entries of an existing one.
+     * The plan row and its entries are written in a single transaction.
+     *
+     * @param plan The plan to save
+     * @return The saved plan with ID assigned
+     */
+    public MealPlan save(MealPlan plan) {
+        if (plan.getName() == null || plan.getWeekStart() == null) {
+            System.err.println("Error saving meal plan: name and week start cannot be null");
+            return plan;
+        }
+
+        boolean isNew = plan.getId() == 0;
+        try (Connection conn = DbConnectionManager.getConnection()) {
+            boolean previousAutoCommit = conn.getAutoCommit();
+            conn.setAutoCommit(false);
+
+            try {
+                if (isNew) {
+                    insertPlan(conn, plan);
+                } else if (!updatePlan(conn, plan)) {
+                    // UPDATE of a missing row changes nothing
+                    conn.rollback();
+                    return plan;
+                }
+                insertEntries(conn, plan);
+                conn.commit();
+
+            } catch (SQLException e) {
+                conn.rollback();
+                if (isNew) {
+                    plan.setId(0);
+                }
+                throw e;
+            } finally {
+                conn.setAutoCommit(previousAutoCommit);
+            }
+
+        } catch (SQLException e) {
+            System.err.println("Error saving meal plan: " + e.getMessage());
+            e.printStackTrace();
+        }
+
+        return plan;
+    }
+
+    /**
+     * Inserts the plan row and assigns the generated ID.
+     */
+    private void insertPlan(Connection conn, MealPlan plan) throws SQLException {
+        String sql = "INSERT INTO meal_plans (user_id, name, week_start) VALUES (?, ?, ?)";
+
+        try (PreparedStatement ps = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+            ps.setInt(1, plan.getUserId());
+            ps.setString(2, plan.getName());
+            ps.setDate(3, Date.valueOf(plan.getWeekStart()));
+            ps.executeUpdate();
+
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                if (keys.next()) {
+                    plan.setId(keys.getInt(1));
+                }
+            }
+        }
+    }
+
+    /**
+     * Updates the plan row and removes its old entries.
+     *
+     * @return false if the plan does not exist
+     */
+    private boolean updatePlan(Connection conn, MealPlan plan) throws SQLException {
+        String updateSql = "UPDATE meal_plans SET user_id = ?, name = ?, week_start = ? WHERE id = ?";
+        String deleteSql = "DELETE FROM meal_plan_entries WHERE meal_plan_id = ?";
+
+        try (PreparedStatement ps = conn.prepareStatement(updateSql)) {
+            ps.setInt(1, plan.getUserId());
+            ps.setString(2, plan.getName());
+            ps.setDate(3, Date.valueOf(plan.getWeekStart()));
+            ps.setInt(4, plan.getId());
+            if (ps.executeUpdate() == 0) {
+                return false;
+            }
+        }
+        try (PreparedStatement ps = conn.prepareStatement(deleteSql)) {
+            ps.setInt(1, plan.getId());
+            ps.executeUpdate();
+        }
+        return true;
+    }
+
+    /**
+     * Inserts one entry per filled slot as a single batch.
+     */
+    private void insertEntries(Connection conn, MealPlan plan) throws SQLException {
+        String sql = "INSERT INTO meal_plan_entries (meal_plan_id, day_of_week, meal_type, recipe_id) " +
+                     "VALUES (?, ?, ?, ?)";
+
+        try (PreparedStatement ps = conn.prepareStatement(sql)) {
+            int entries = 0;
+            for (DayOfWeek day : DAYS) {
+                for (MealType mealType : MealType.values()) {
+                    Recipe recipe = plan.getRecipe(day, mealType);
+                    if (recipe == null || recipe.getId() == 0) {
+                        continue;
+                    }
+                    ps.setInt(1, plan.getId());
+                    ps.setInt(2, day.ordinal());
+                    ps.setString(3, mealType.name());
+                    ps.setInt(4, recipe.getId());
+                    ps.addBatch();
+                    entries++;
+                }
+            }
+            if (entries > 0) {
+                ps.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * Deletes a plan by ID. Its entries are removed by ON DELETE CASCADE.
+     *
+     * @param planId The plan ID to delete
+     * @return true if deletion was successful
+     */
+    public boolean delete(int planId) {
+        String sql = "DELETE FROM meal_plans WHERE id = ?";
+
+        try (Connection conn = DbConnectionManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+
+            ps.setInt(1, planId);
+            return ps.executeUpdate() > 0;
+
+        } catch (SQLException e) {
+            System.err.println("Error deleting meal plan: " + e.getMessage());
+            e.printStackTrace();
+            return false;
+        }
+    }
+
+    /**
+     * Clears all meal plans from the database.
+     * WARNING: This deletes all data!
+     */
+    public void clear() {
+        String sql = "DELETE FROM meal_plans";
+
+        try (Connection conn = DbConnectionManager.getConnection();
+             Statement stmt = conn.createStatement()) {
+
+            stmt.executeUpdate(sql);
+
+        } catch (SQLException e) {
+            System.err.println("Error clearing meal plans: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Looks up a planned recipe.
+     *
+     * @param recipeId The recipe ID
+     * @return The recipe, or null if it no longer exists
+     */
+    Recipe findRecipe(int recipeId) {
+        return recipeRepository.findById(recipeId).orElse(null);
+    }
+
+    /**
+     * Runs SELECT_PLANS with a one-parameter condition and builds the plans.
+     * Recipes are looked up after the connection is returned to the pool,
+     * each distinct recipe once.
+     */
+    private List<MealPlan> query(String condition, int parameter, String errorMessage) {
+        Map<Integer, MealPlan> plans = new LinkedHashMap<>();
+        List<PendingEntry> entries = new ArrayList<>();
+
+        try (Connection conn = DbConnectionManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(SELECT_PLANS + condition)) {
+
+            ps.setInt(1, parameter);
+
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    MealPlan plan = plans.get(rs.getInt("id"));
+                    if (plan == null) {
+                        plan = mapRowToMealPlan(rs);
+                        plans.put(plan.getId(), plan);
+                    }
+                    int recipeId = rs.getInt("recipe_id");
+                    MealType mealType = MealType.fromString(rs.getString("meal_type"));
+                    int day = rs.getInt("day_of_week");
+                    if (recipeId > 0 && mealType != null && day >= 0 && day < DAYS.length) {
+                        entries.add(new PendingEntry(plan, DAYS[day], mealType, recipeId));
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println(errorMessage + e.getMessage());
+            e.printStackTrace();
+            return new ArrayList<>();
+        }
+
+        Map<Integer, Recipe> recipes = new HashMap<>();
+        for (PendingEntry entry : entries) {
+            Recipe recipe = recipes.computeIfAbsent(entry.recipeId, this::findRecipe);
+            if (recipe != null) {
+                entry.plan.setRecipe(entry.day, entry.mealType, recipe);
+            }
+        }
+        return new ArrayList<>(plans.values());
+    }
+
+    /**
+     * Maps the plan columns of a row to a MealPlan without entries.
+     */
+    private MealPlan mapRowToMealPlan(ResultSet rs) throws SQLException {
+        MealPlan plan = new MealPlan(rs.getInt("user_id"), rs.getString("name"),
+                                     rs.getDate("week_start").toLocalDate());
+        plan.setId(rs.getInt("id"));
+        return plan;
+    }
+}
@@ -0,0 +1,101 @@
+package com.recipeplanner.repository;
+
+import com.recipeplanner.model.Recipe;
+import com.recipeplanner.model.RecipeSummary;
+
+/**
+ * Enumeration of the orderings supported by keyset pagination.
+ * Each ordering sorts by one column with the recipe ID as tie-breaker,
+ * matching a composite (column, id) index in database_schema.sql.
+ * Demonstrates enum usage with fields and methods.
+ * 
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public enum RecipeOrder {
+    /**
+     * Alphabetical by recipe name (index idx_name_id)
+     */
+    BY_NAME("Name", "name"),
+    
+    /**
+     * Shortest total cooking time first (index idx_time_id)
+     */
+    BY_TIME("Cooking time", "total_time_mins"),
+    
+    /**
+     * Grouped by creating user, system recipes first (index idx_created_by_id)
+     */
+    BY_CREATOR("Creator", "created_by");
+
+    private final String displayName;
+    private final String column;
+
+    /**
+     * Constructor for RecipeOrder enum.
+     * 
+     * @param displayName The human-readable name for display in UI
+     * @param column The sort column in the recipes table
+     */
+    RecipeOrder(String displayName, String column) {
+        this.displayName = displayName;
+        this.column = column;
+    }
+
+    /**
+     * Gets the display name for this ordering.
+     * 
+     * @return The human-readable ordering name
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Gets the column this ordering sorts by (before the ID tie-breaker).
+     * 
+     * @return The column name
+     */
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * Gets the value of the sort column for a recipe.
+     * 
+     * @param recipe The recipe
+     * @return The recipe's name, total time or creator ID
+     */
+    public Object sortKeyOf(Recipe recipe) {
+        switch (this) {
+            case BY_TIME:
+                return recipe.getTotalTimeInMins();
+            case BY_CREATOR:
+                return recipe.getCreatedBy();
+            default:
+                return recipe.getName();
+        }
+    }
+
+    /**
+     * Gets the value of the sort column for a recipe summary.
+     * 
+     * @param summary The recipe summary
+     * @return The recipe's name, total time or creator ID
+     */
+    public Object sortKeyOf(RecipeSummary summary) {
+        switch (this) {
+            case BY_TIME:
+                return summary.getTotalTimeInMins();
+            case BY_CREATOR:
+                return summary.getCreatedBy();
+            default:
+                return summary.getName();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -0,0 +1,101 @@
+package com.recipeplanner.repository;
+
+import com.recipeplanner.model.Recipe;
+import com.recipeplanner.model.RecipeSummary;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * One page of recipes from keyset pagination, plus the cursor for the next page.
+ * Holds full {@link Recipe} objects or {@link RecipeSummary} projections.
+ * 
+ * @param <T> Recipe or RecipeSummary
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public class RecipePage<T> {
+    private final List<T> recipes;
+    private final Cursor nextCursor;
+
+    /**
+     * Creates a page.
+     * 
+     * @param recipes The recipes on this page
+     * @param nextCursor Cursor positioned after the last recipe, or null if this is the last page
+     */
+    public RecipePage(List<T> recipes, Cursor nextCursor) {
+        this.recipes = Collections.unmodifiableList(recipes);
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getRecipes() {
+        return recipes;
+    }
+
+    /**
+     * Gets the cursor to pass to findPage for the following page.
+     * 
+     * @return The next cursor, or null if there are no more recipes
+     */
+    public Cursor getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    /**
+     * Position in an ordering: the sort key and ID of the last recipe seen.
+     * The next page starts strictly after (sortKey, id).
+     */
+    public static class Cursor {
+        private final RecipeOrder order;
+        private final Object sortKey;
+        private final int id;
+
+        public Cursor(RecipeOrder order, Object sortKey, int id) {
+            if (order == null) {
+                throw new IllegalArgumentException("Order cannot be null");
+            }
+            this.order = order;
+            this.sortKey = sortKey;
+            this.id = id;
+        }
+
+        /**
+         * Creates a cursor positioned after the given recipe.
+         * 
+         * @param order The ordering being paged
+         * @param recipe The last recipe of the current page
+         * @return A cursor for the following page
+         */
+        public static Cursor after(RecipeOrder order, Recipe recipe) {
+            return new Cursor(order, order.sortKeyOf(recipe), recipe.getId());
+        }
+
+        /**
+         * Creates a cursor positioned after the given recipe summary.
+         * 
+         * @param order The ordering being paged
+         * @param summary The last summary of the current page
+         * @return A cursor for the following page
+         */
+        public static Cursor after(RecipeOrder order, RecipeSummary summary) {
+            return new Cursor(order, order.sortKeyOf(summary), summary.getId());
+        }
+
+        public RecipeOrder getOrder() {
+            return order;
+        }
+
+        public Object getSortKey() {
+            return sortKey;
+        }
+
+        public int getId() {
+            return id;
+        }
+    }
+}
@@ -1,14 +1,22 @@
 package com.recipeplanner.repository;
 
 import com.recipeplanner.model.Recipe;
+import com.recipeplanner.model.RecipeSummary;
 import com.recipeplanner.util.DbConnectionManager;
 
 import java.sql.*;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * MySQL-backed repository for Recipe entities using JDBC.
@@ -20,11 +28,30 @@ import java.util.stream.Collectors;
  */
 public class RecipeRepository {
     
+    // Columns of the RecipeSummary projection; the ingredient count is the number of
+    // commas plus one, so the full ingredient text never leaves the database
+    private static final String SUMMARY_COLUMNS =
+        "id, name, cuisine, total_time_mins, created_by, " +
+        "CASE WHEN raw_ingredients IS NULL OR raw_ingredients = '' THEN 0 " +
+        "ELSE CHAR_LENGTH(raw_ingredients) - CHAR_LENGTH(REPLACE(raw_ingredients, ',', '')) + 1 " +
+        "END AS ingredient_count, " +
+        "LEFT(raw_ingredients, " + RecipeSummary.INGREDIENT_PREVIEW_LENGTH + ") AS ingredient_preview";
+    
+    // Fetch size for full-table reads; Integer.MIN_VALUE makes MySQL Connector/J stream
+    // rows one at a time instead of buffering the whole result set in memory
+    private static final int STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+    
+    // InnoDB ignores shorter words in FULLTEXT indexes (innodb_ft_min_token_size)
+    private static final int FULLTEXT_MIN_WORD_LENGTH = 3;
+    
+    // Name matches count this many times more than ingredient matches
+    static final int FULLTEXT_NAME_WEIGHT = 2;
+    
     /**
      * Constructor - no initialization needed for database version.
      */
     public RecipeRepository() {
-        // Connection is obtained per-operation via DbConnectionManager
+        // Connections are borrowed per-operation from the DbConnectionManager pool
     }
     
     /**
@@ -64,7 +91,8 @@ public class RecipeRepository {
         if (recipe.getId() == 0) {
             return insertRecipe(recipe);
         } else {
-            return updateRecipe(recipe);
+            update(recipe);
+            return recipe;
         }
     }
     
@@ -97,10 +125,118 @@ public class RecipeRepository {
         return recipe;
     }
     
+    /**
+     * Saves many recipes using JDBC batching.
+     * Each chunk of batchSize recipes is written in a single transaction with
+     * addBatch/executeBatch; with rewriteBatchedStatements enabled on the URL the
+     * driver turns each insert batch into multi-row INSERT statements.
+     * New recipes get their generated IDs assigned.
+     * 
+     * @param recipes The recipes to save
+     * @param batchSize Number of recipes per batch and transaction
+     * @return Number of recipes saved
+     */
+    public int saveAll(Iterable<Recipe> recipes, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        
+        int saved = 0;
+        List<Recipe> chunk = new ArrayList<>(batchSize);
+        
+        try (Connection conn = DbConnectionManager.getConnection()) {
+            for (Recipe recipe : recipes) {
+                chunk.add(recipe);
+                if (chunk.size() == batchSize) {
+                    saved += saveChunk(conn, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                saved += saveChunk(conn, chunk);
+            }
+        } catch (SQLException e) {
+            System.err.println("Error batch saving recipes: " + e.getMessage());
+            e.printStackTrace();
+        }
+        
+        return saved;
+    }
+    
+    /**
+     * Writes one chunk of recipes in a single transaction.
+     * Rolls back the whole chunk if any statement fails.
+     */
+    private int saveChunk(Connection conn, List<Recipe> chunk) throws SQLException {
+        String insertSql = "INSERT INTO recipes (name, description, cuisine, total_time_mins, " +
+                           "created_by, source_url, image_url, raw_ingredients, instructions) " +
+                           "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        String updateSql = "UPDATE recipes SET name = ?, description = ?, cuisine = ?, " +
+                           "total_time_mins = ?, created_by = ?, source_url = ?, " +
+                           "image_url = ?, raw_ingredients = ?, instructions = ? " +
+                           "WHERE id = ?";
+        
+        List<Recipe> inserts = new ArrayList<>();
+        List<Recipe> updates = new ArrayList<>();
+        for (Recipe recipe : chunk) {
+            if (recipe.getId() == 0) {
+                inserts.add(recipe);
+            } else {
+                updates.add(recipe);
+            }
+        }
+        
+        boolean previousAutoCommit = conn.getAutoCommit();
+        conn.setAutoCommit(false);
+        
+        try {
+            if (!inserts.isEmpty()) {
+                try (PreparedStatement ps = conn.prepareStatement(insertSql, Statement.RETURN_GENERATED_KEYS)) {
+                    for (Recipe recipe : inserts) {
+                        setRecipeParameters(ps, recipe);
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                    
+                    // Generated keys come back in insertion order
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        int i = 0;
+                        while (keys.next() && i < inserts.size()) {
+                            inserts.get(i++).setId(keys.getInt(1));
+                        }
+                    }
+                }
+            }
+            
+            if (!updates.isEmpty()) {
+                try (PreparedStatement ps = conn.prepareStatement(updateSql)) {
+                    for (Recipe recipe : updates) {
+                        setRecipeParameters(ps, recipe);
+                        ps.setInt(10, recipe.getId());
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+                }
+            }
+            
+            conn.commit();
+            return chunk.size();
+            
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(previousAutoCommit);
+        }
+    }
+    
     /**
      * Updates an existing recipe in the database.
+     * 
+     * @param recipe The recipe to update, with its ID set
+     * @return true if a stored recipe was updated
      */
-    private Recipe updateRecipe(Recipe recipe) {
+    public boolean update(Recipe recipe) {
         String sql = "UPDATE recipes SET name = ?, description = ?, cuisine = ?, " +
                      "total_time_mins = ?, created_by = ?, source_url = ?, " +
                      "image_url = ?, raw_ingredients = ?, instructions = ? " +
@@ -111,14 +247,14 @@ public class RecipeRepository {
             
             setRecipeParameters(ps, recipe);
             ps.setInt(10, recipe.getId());
-            ps.executeUpdate();
+            int rowsAffected = ps.executeUpdate();
+            return rowsAffected > 0;
             
         } catch (SQLException e) {
             System.err.println("Error updating recipe: " + e.getMessage());
             e.printStackTrace();
+            return false;
         }
-        
-        return recipe;
     }
     
     /**
@@ -164,6 +300,44 @@ public class RecipeRepository {
         }
     }
     
+    /**
+     * Deletes many recipes by ID.
+     * Each chunk of batchSize IDs is removed by one DELETE ... WHERE id IN (...)
+     * statement, so no transaction holds locks for longer than one chunk.
+     * 
+     * @param recipeIds IDs of the recipes to delete
+     * @param batchSize Number of recipes per statement
+     * @return Number of recipes deleted
+     */
+    public int deleteAll(Collection<Integer> recipeIds, int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be at least 1");
+        }
+        
+        int deleted = 0;
+        List<Integer> ids = new ArrayList<>(recipeIds);
+        
+        try (Connection conn = DbConnectionManager.getConnection()) {
+            for (int from = 0; from < ids.size(); from += batchSize) {
+                List<Integer> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+                String sql = "DELETE FROM recipes WHERE id IN (" +
+                             String.join(", ", Collections.nCopies(chunk.size(), "?")) + ")";
+                
+                try (PreparedStatement ps = conn.prepareStatement(sql)) {
+                    for (int i = 0; i < chunk.size(); i++) {
+                        ps.setInt(i + 1, chunk.get(i));
+                    }
+                    deleted += ps.executeUpdate();
+                }
+            }
+        } catch (SQLException e) {
+            System.err.println("Error batch deleting recipes: " + e.getMessage());
+            e.printStackTrace();
+        }
+        
+        return deleted;
+    }
+    
     /**
      * Gets all recipes.
      * 
@@ -189,6 +363,90 @@ public class RecipeRepository {
         return recipes;
     }
     
+    /**
+     * Passes every recipe to the action, one row at a time, in name order.
+     * Rows are streamed from the database rather than collected into a list,
+     * so memory use stays constant however large the table is.
+     * The action runs while a pooled connection is held open; it should not
+     * block for long or read from this repository itself.
+     * 
+     * @param action Called once per recipe
+     * @return The number of recipes processed
+     */
+    public int forEachRecipe(Consumer<Recipe> action) {
+        String sql = "SELECT * FROM recipes ORDER BY name";
+        int count = 0;
+        
+        try (Connection conn = DbConnectionManager.getConnection();
+             PreparedStatement ps = prepareStreaming(conn, sql);
+             ResultSet rs = ps.executeQuery()) {
+            
+            while (rs.next()) {
+                action.accept(mapRowToRecipe(rs));
+                count++;
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error streaming recipes: " + e.getMessage());
+            e.printStackTrace();
+        }
+        
+        return count;
+    }
+    
+    /**
+     * Opens a lazy stream over every recipe in name order.
+     * Like {@link #forEachRecipe(Consumer)}, rows are read from the database as
+     * the stream is consumed. The stream holds a pooled connection and MUST be
+     * closed, preferably with try-with-resources:
+     * <pre>
+     * try (Stream&lt;Recipe&gt; recipes = repository.streamAll()) {
+     *     recipes.filter(...).forEach(...);
+     * }
+     * </pre>
+     * 
+     * @return Stream of all recipes; empty if the query could not be started
+     * @throws IllegalStateException if reading a row fails part-way through
+     */
+    public Stream<Recipe> streamAll() {
+        String sql = "SELECT * FROM recipes ORDER BY name";
+        Connection conn = null;
+        PreparedStatement ps = null;
+        ResultSet rs = null;
+        
+        try {
+            conn = DbConnectionManager.getConnection();
+            ps = prepareStreaming(conn, sql);
+            rs = ps.executeQuery();
+        } catch (SQLException e) {
+            System.err.println("Error streaming recipes: " + e.getMessage());
+            e.printStackTrace();
+            closeQuietly(rs, ps, conn);
+            return Stream.empty();
+        }
+        
+        final Connection openConn = conn;
+        final PreparedStatement openPs = ps;
+        final ResultSet openRs = rs;
+        Spliterator<Recipe> rows = new Spliterators.AbstractSpliterator<Recipe>(
+                Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            @Override
+            public boolean tryAdvance(Consumer<? super Recipe> action) {
+                try {
+                    if (!openRs.next()) {
+                        return false;
+                    }
+                    action.accept(mapRowToRecipe(openRs));
+                    return true;
+                } catch (SQLException e) {
+                    throw new IllegalStateException("Error streaming recipes: " + e.getMessage(), e);
+                }
+            }
+        };
+        return StreamSupport.stream(rows, false)
+            .onClose(() -> closeQuietly(openRs, openPs, openConn));
+    }
+    
     /**
      * Searches recipes by name (case-insensitive).
      * Also searches in ingredients text.
@@ -225,6 +483,94 @@ public class RecipeRepository {
         return recipes;
     }
     
+    /**
+     * Searches name and ingredient text through the FULLTEXT indexes
+     * (MATCH ... AGAINST), ordered by relevance with name matches weighted higher.
+     * Unlike {@link #searchByName(String)}, whose leading-wildcard LIKE reads
+     * every row, this is answered from the full-text indexes.
+     * 
+     * Natural-language mode ranks recipes containing any of the words.
+     * Boolean mode requires every word and treats the last one as a prefix,
+     * so "paneer butt" finds "Paneer Butter Masala" while it is being typed.
+     * Words shorter than the index's minimum word length cannot be found in
+     * the index; a term made only of such words falls back to searchByName.
+     * 
+     * Requires the ft_name and ft_name_ingredients indexes from database_schema.sql.
+     * 
+     * @param searchTerm The words to search for
+     * @param booleanMode true for all-words boolean mode, false for natural-language mode
+     * @param limit Maximum number of results
+     * @return Matching recipes, most relevant first
+     */
+    public List<Recipe> searchFullText(String searchTerm, boolean booleanMode, int limit) {
+        List<Recipe> recipes = new ArrayList<>();
+        if (searchTerm == null || searchTerm.trim().isEmpty() || limit < 1) {
+            return recipes;
+        }
+        
+        List<String> words = fullTextWords(searchTerm);
+        if (words.isEmpty()) {
+            List<Recipe> fallback = searchByName(searchTerm);
+            return fallback.size() > limit ? new ArrayList<>(fallback.subList(0, limit)) : fallback;
+        }
+        
+        String query;
+        String mode;
+        if (booleanMode) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < words.size(); i++) {
+                sb.append(i > 0 ? " +" : "+").append(words.get(i));
+            }
+            query = sb.append('*').toString();
+            mode = "IN BOOLEAN MODE";
+        } else {
+            query = String.join(" ", words);
+            mode = "IN NATURAL LANGUAGE MODE";
+        }
+        
+        String sql = "SELECT *, " +
+                     FULLTEXT_NAME_WEIGHT + " * MATCH(name) AGAINST (? " + mode + ") + " +
+                     "MATCH(name, raw_ingredients) AGAINST (? " + mode + ") AS relevance " +
+                     "FROM recipes WHERE MATCH(name, raw_ingredients) AGAINST (? " + mode + ") " +
+                     "ORDER BY relevance DESC, name LIMIT ?";
+        
+        try (Connection conn = DbConnectionManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            
+            ps.setString(1, query);
+            ps.setString(2, query);
+            ps.setString(3, query);
+            ps.setInt(4, limit);
+            
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    recipes.add(mapRowToRecipe(rs));
+                }
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error in full-text recipe search: " + e.getMessage());
+            e.printStackTrace();
+        }
+        
+        return recipes;
+    }
+    
+    /**
+     * Splits a search term into words the FULLTEXT index can match.
+     * Boolean-mode operators and other punctuation are dropped, so user input
+     * can never change the meaning of the query.
+     */
+    static List<String> fullTextWords(String searchTerm) {
+        List<String> words = new ArrayList<>();
+        for (String word : searchTerm.toLowerCase().split("[^\\p{L}\\p{N}]+")) {
+            if (word.length() >= FULLTEXT_MIN_WORD_LENGTH) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+    
     /**
      * Finds recipes by cuisine type.
      * 
@@ -289,6 +635,8 @@ public class RecipeRepository {
     
     /**
      * Gets a limited number of recipes for pagination.
+     * The database still reads and discards every skipped row, so deep pages
+     * get slower; prefer {@link #findPage(RecipeOrder, RecipePage.Cursor, int)}.
      * 
      * @param limit Maximum number of recipes to return
      * @param offset Starting position
@@ -318,6 +666,156 @@ public class RecipeRepository {
         return recipes;
     }
     
+    /**
+     * Gets the next page of recipes in name order (keyset pagination).
+     * 
+     * @param afterName Name of the last recipe already shown, or null for the first page
+     * @param afterId ID of the last recipe already shown
+     * @param pageSize Maximum number of recipes to return
+     * @return The page and the cursor for the next one
+     */
+    public RecipePage<Recipe> findPage(String afterName, int afterId, int pageSize) {
+        RecipePage.Cursor after = afterName != null
+            ? new RecipePage.Cursor(RecipeOrder.BY_NAME, afterName, afterId) : null;
+        return findPage(RecipeOrder.BY_NAME, after, pageSize);
+    }
+    
+    /**
+     * Gets the next page of recipes in the given order (keyset pagination).
+     * Instead of skipping rows with OFFSET, the query seeks directly past the
+     * last (sort column, id) pair seen using the matching composite index,
+     * so every page costs the same however deep it is.
+     * 
+     * @param order The ordering to page through
+     * @param after Cursor from the previous page, or null for the first page
+     * @param pageSize Maximum number of recipes to return
+     * @return The page and the cursor for the next one
+     */
+    public RecipePage<Recipe> findPage(RecipeOrder order, RecipePage.Cursor after, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        if (after != null && after.getOrder() != order) {
+            throw new IllegalArgumentException("Cursor belongs to ordering " + after.getOrder().name());
+        }
+        
+        String column = order.getColumn();
+        String sql = "SELECT * FROM recipes " +
+                     (after != null ? "WHERE (" + column + ", id) > (?, ?) " : "") +
+                     "ORDER BY " + column + ", id LIMIT ?";
+        List<Recipe> recipes = new ArrayList<>();
+        
+        try (Connection conn = DbConnectionManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            
+            int param = 1;
+            if (after != null) {
+                ps.setObject(param++, after.getSortKey());
+                ps.setInt(param++, after.getId());
+            }
+            // One extra row tells whether another page follows
+            ps.setInt(param, pageSize + 1);
+            
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    recipes.add(mapRowToRecipe(rs));
+                }
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error finding recipe page: " + e.getMessage());
+            e.printStackTrace();
+        }
+        
+        if (recipes.size() <= pageSize) {
+            return new RecipePage<>(recipes, null);
+        }
+        recipes.remove(pageSize);
+        return new RecipePage<>(recipes, RecipePage.Cursor.after(order, recipes.get(pageSize - 1)));
+    }
+    
+    /**
+     * Gets the next page of recipe summaries in the given order (keyset pagination).
+     * Same seek as {@link #findPage(RecipeOrder, RecipePage.Cursor, int)}, but
+     * reads only the columns a recipe card shows: instructions, description and
+     * URLs stay in the database and the ingredient text is cut to a preview.
+     * 
+     * @param order The ordering to page through
+     * @param after Cursor from the previous page, or null for the first page
+     * @param pageSize Maximum number of summaries to return
+     * @return The page and the cursor for the next one
+     */
+    public RecipePage<RecipeSummary> findSummaryPage(RecipeOrder order, RecipePage.Cursor after, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("Page size must be at least 1");
+        }
+        if (after != null && after.getOrder() != order) {
+            throw new IllegalArgumentException("Cursor belongs to ordering " + after.getOrder().name());
+        }
+        
+        String column = order.getColumn();
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM recipes " +
+                     (after != null ? "WHERE (" + column + ", id) > (?, ?) " : "") +
+                     "ORDER BY " + column + ", id LIMIT ?";
+        List<RecipeSummary> summaries = new ArrayList<>();
+        
+        try (Connection conn = DbConnectionManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            
+            int param = 1;
+            if (after != null) {
+                ps.setObject(param++, after.getSortKey());
+                ps.setInt(param++, after.getId());
+            }
+            ps.setInt(param, pageSize + 1);
+            
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    summaries.add(mapRowToSummary(rs));
+                }
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error finding recipe summary page: " + e.getMessage());
+            e.printStackTrace();
+        }
+        
+        if (summaries.size() <= pageSize) {
+            return new RecipePage<>(summaries, null);
+        }
+        summaries.remove(pageSize);
+        return new RecipePage<>(summaries, RecipePage.Cursor.after(order, summaries.get(pageSize - 1)));
+    }
+    
+    /**
+     * Finds summaries of all recipes created by a specific user.
+     * 
+     * @param userId The user ID
+     * @return List of recipe summaries ordered by name
+     */
+    public List<RecipeSummary> findSummariesByCreatedBy(int userId) {
+        List<RecipeSummary> summaries = new ArrayList<>();
+        String sql = "SELECT " + SUMMARY_COLUMNS + " FROM recipes WHERE created_by = ? ORDER BY name, id";
+        
+        try (Connection conn = DbConnectionManager.getConnection();
+             PreparedStatement ps = conn.prepareStatement(sql)) {
+            
+            ps.setInt(1, userId);
+            
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    summaries.add(mapRowToSummary(rs));
+                }
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("Error finding recipe summaries by creator: " + e.getMessage());
+            e.printStackTrace();
+        }
+        
+        return summaries;
+    }
+    
     /**
      * Gets the total count of recipes.
      * 
@@ -361,6 +859,46 @@ public class RecipeRepository {
         }
     }
     
+    /**
+     * Prepares a forward-only, read-only statement that streams its rows.
+     */
+    private PreparedStatement prepareStreaming(Connection conn, String sql) throws SQLException {
+        PreparedStatement ps = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+        ps.setFetchSize(STREAMING_FETCH_SIZE);
+        return ps;
+    }
+    
+    /**
+     * Closes JDBC resources in order, ignoring nulls and close failures.
+     * Closing the connection returns it to the pool.
+     */
+    private static void closeQuietly(AutoCloseable... resources) {
+        for (AutoCloseable resource : resources) {
+            if (resource == null) {
+                continue;
+            }
+            try {
+                resource.close();
+            } catch (Exception e) {
+                System.err.println("Error closing database resource: " + e.getMessage());
+            }
+        }
+    }
+    
+    /**
+     * Maps a summary projection row to a RecipeSummary object.
+     */
+    private RecipeSummary mapRowToSummary(ResultSet rs) throws SQLException {
+        return new RecipeSummary(
+            rs.getInt("id"),
+            rs.getString("name"),
+            rs.getString("cuisine"),
+            rs.getInt("total_time_mins"),
+            rs.getInt("created_by"),
+            rs.getInt("ingredient_count"),
+            rs.getString("ingredient_preview"));
+    }
+    
     /**
      * Maps a database row to a Recipe object.
      * Demonstrates ResultSet handling and object construction.
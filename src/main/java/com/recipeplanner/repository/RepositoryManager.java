@@ -1,5 +1,9 @@
 package com.recipeplanner.repository;
 
+import com.recipeplanner.search.RecipeSearchIndex;
+
+import java.util.Collections;
+
 /**
  * Singleton manager class that provides centralized access to all repositories.
  * Demonstrates Singleton design pattern and centralized data management.
@@ -15,19 +19,43 @@ public class RepositoryManager {
     // Singleton instance
     private static RepositoryManager instance;
     
+    // Where recipes are stored (-Drecipeplanner.storage=MYSQL|MEMORY or recipeplanner.properties)
+    private final StorageMode storageMode;
+    
     // Repository instances (demonstrates encapsulation)
     private final UserRepository userRepository;
     private final RecipeRepository recipeRepository;
     private final IngredientRepository ingredientRepository;
+    private final MealPlanRepository mealPlanRepository;
+    
+    // Recipe cache sizing (-Drecipeplanner.cache.maxEntries / maxLists; maxEntries=0 disables the cache)
+    private static final int CACHE_MAX_ENTRIES = Integer.getInteger("recipeplanner.cache.maxEntries", 1000);
+    private static final int CACHE_MAX_LISTS = Integer.getInteger("recipeplanner.cache.maxLists", 64);
+    
+    // In-memory search index over the recipes table
+    private final RecipeSearchIndex recipeSearchIndex;
     
     /**
      * Private constructor to prevent external instantiation.
      * Demonstrates Singleton pattern and encapsulation.
      */
     private RepositoryManager() {
+        this.storageMode = StorageMode.configured();
         this.userRepository = new UserRepository();
-        this.recipeRepository = new RecipeRepository();
+        if (storageMode == StorageMode.MEMORY) {
+            // Already in memory; a cache in front would only duplicate it
+            this.recipeRepository = new InMemoryRecipeRepository();
+        } else if (CACHE_MAX_ENTRIES > 0) {
+            this.recipeRepository = new CachingRecipeRepository(new RecipeRepository(), CACHE_MAX_ENTRIES,
+                                                                Math.max(1, CACHE_MAX_LISTS));
+        } else {
+            this.recipeRepository = new RecipeRepository();
+        }
         this.ingredientRepository = new IngredientRepository();
+        this.mealPlanRepository = storageMode == StorageMode.MEMORY
+            ? new InMemoryMealPlanRepository(recipeRepository)
+            : new MealPlanRepository(recipeRepository);
+        this.recipeSearchIndex = new RecipeSearchIndex();
     }
     
     /**
@@ -43,6 +71,15 @@ public class RepositoryManager {
         return instance;
     }
     
+    /**
+     * Gets the store the recipe repository is backed by.
+     * 
+     * @return The storage mode chosen at startup
+     */
+    public StorageMode getStorageMode() {
+        return storageMode;
+    }
+    
     /**
      * Gets the UserRepository instance.
      * 
@@ -70,14 +107,34 @@ public class RepositoryManager {
         return ingredientRepository;
     }
     
+    /**
+     * Gets the MealPlanRepository instance, stored like the recipes.
+     * 
+     * @return MealPlanRepository
+     */
+    public MealPlanRepository getMealPlanRepository() {
+        return mealPlanRepository;
+    }
+    
+    /**
+     * Gets the shared RecipeSearchIndex instance.
+     * 
+     * @return RecipeSearchIndex
+     */
+    public RecipeSearchIndex getRecipeSearchIndex() {
+        return recipeSearchIndex;
+    }
+    
     /**
      * Resets all repositories (clears all data).
      * Useful for testing or application reset.
      */
     public void resetAll() {
         userRepository.clear();
+        mealPlanRepository.clear();
         recipeRepository.clear();
         ingredientRepository.clear();
+        recipeSearchIndex.rebuild(Collections.emptyList());
     }
     
     /**
@@ -0,0 +1,130 @@
+package com.recipeplanner.repository;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Properties;
+
+/**
+ * Enumeration of the stores recipes can be kept in.
+ * Demonstrates enum usage with fields and methods.
+ *
+ * The mode is read once at startup by {@link RepositoryManager}, from the
+ * system property {@value #PROPERTY} or, if that is not set, from the same
+ * key in a {@value #CONFIG_FILE} file in the working directory or on the
+ * classpath. Without either, MySQL is used.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public enum StorageMode {
+    /**
+     * MySQL database through DbConnectionManager (the default)
+     */
+    MYSQL("MySQL database"),
+
+    /**
+     * Process-local {@link InMemoryRecipeRepository}: no network or setup,
+     * contents are lost on exit
+     */
+    MEMORY("In-memory");
+
+    /**
+     * Property selecting the mode: -Drecipeplanner.storage=MEMORY
+     */
+    public static final String PROPERTY = "recipeplanner.storage";
+
+    /**
+     * Optional configuration file consulted when the property is not set.
+     */
+    public static final String CONFIG_FILE = "recipeplanner.properties";
+
+    private final String displayName;
+
+    /**
+     * Constructor for StorageMode enum.
+     *
+     * @param displayName The human-readable name for display in UI
+     */
+    StorageMode(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Gets the display name for this mode.
+     *
+     * @return The human-readable mode name
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Converts a string to a StorageMode enum value.
+     * Case-insensitive matching on the constant name.
+     *
+     * @param text The string to convert
+     * @return The corresponding StorageMode, or null if not found
+     */
+    public static StorageMode fromString(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return null;
+        }
+
+        for (StorageMode mode : StorageMode.values()) {
+            if (mode.name().equalsIgnoreCase(text.trim())) {
+                return mode;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the configured storage mode.
+     * An unrecognized value is reported and MySQL is used.
+     *
+     * @return The mode from the system property, the config file, or MYSQL
+     */
+    public static StorageMode configured() {
+        String value = System.getProperty(PROPERTY);
+        if (value == null) {
+            value = readConfigFile().getProperty(PROPERTY);
+        }
+        if (value == null) {
+            return MYSQL;
+        }
+
+        StorageMode mode = fromString(value);
+        if (mode == null) {
+            System.err.println("Unknown storage mode '" + value + "', using " + MYSQL.getDisplayName());
+            return MYSQL;
+        }
+        return mode;
+    }
+
+    /**
+     * Loads the config file from the working directory, else from the classpath.
+     */
+    private static Properties readConfigFile() {
+        Properties properties = new Properties();
+        Path file = Paths.get(CONFIG_FILE);
+
+        try (InputStream in = Files.exists(file)
+                ? Files.newInputStream(file)
+                : StorageMode.class.getResourceAsStream("/" + CONFIG_FILE)) {
+            if (in != null) {
+                properties.load(in);
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading " + CONFIG_FILE + ": " + e.getMessage());
+        }
+        return properties;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -2,54 +2,57 @@ package com.recipeplanner.repository;
 
 import com.recipeplanner.model.User;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * In-memory repository for User entities using ArrayList.
+ * In-memory repository for User entities using hash indexes.
  * Demonstrates Collections Framework (Module 4) and Access Control (Module 4).
- * 
- * This class replaces the MySQL-based UserDAOImpl with a simple
- * ArrayList-based storage mechanism suitable for a college-level project.
- * 
+ *
+ * This class replaces the MySQL-based UserDAOImpl with in-memory storage.
+ * Users are indexed by ID and by case-folded username in ConcurrentHashMaps,
+ * so logins and availability checks are O(1) however many accounts exist,
+ * and any number of sessions can use the repository at once without locking.
+ * IDs come from an AtomicInteger, and register claims a username atomically.
+ *
  * @author Recipe Planner Team
- * @version 2.0 (In-Memory)
+ * @version 3.0 (In-Memory, concurrent)
  */
 public class UserRepository {
-    
-    // Demonstrates Collections Framework - ArrayList usage
-    private final List<User> users;
-    private int nextId;
-    
+
+    private final ConcurrentMap<Integer, User> usersById;
+    private final ConcurrentMap<String, User> usersByUsername;
+    private final AtomicInteger nextId;
+
     /**
      * Constructor initializes the in-memory storage.
      * Demonstrates object initialization and constructor usage.
      */
     public UserRepository() {
-        this.users = new ArrayList<>();
-        this.nextId = 1;
+        this.usersById = new ConcurrentHashMap<>();
+        this.usersByUsername = new ConcurrentHashMap<>();
+        this.nextId = new AtomicInteger(1);
     }
-    
+
     /**
      * Finds a user by their unique ID.
-     * Demonstrates linear search through ArrayList.
-     * 
+     *
      * @param id The user ID
      * @return Optional containing the User if found, empty otherwise
      */
     public Optional<User> findById(int id) {
-        for (User user : users) {
-            if (user.getId() == id) {
-                return Optional.of(user);
-            }
-        }
-        return Optional.empty();
+        return Optional.ofNullable(usersById.get(id));
     }
-    
+
     /**
-     * Finds a user by their unique username.
-     * Demonstrates String handling and comparison (Module 3).
-     * 
+     * Finds a user by their unique username, ignoring case and surrounding spaces.
+     * Demonstrates String handling (Module 3).
+     *
      * @param username The username to search for
      * @return Optional containing the User if found, empty otherwise
      */
@@ -57,95 +60,155 @@ public class UserRepository {
         if (username == null) {
             return Optional.empty();
         }
-        
-        // Demonstrates String handling with trim() and equalsIgnoreCase()
-        String normalizedUsername = username.trim();
-        
-        for (User user : users) {
-            if (user.getUsername().equalsIgnoreCase(normalizedUsername)) {
-                return Optional.of(user);
+        String key = usernameKey(username);
+        User user = usersByUsername.get(key);
+        return isIndexedUnder(user, key) ? Optional.of(user) : Optional.empty();
+    }
+
+    /**
+     * Adds a new user unless the username is already taken.
+     * Checking and claiming the username is a single atomic step, so of two
+     * concurrent registrations of the same name exactly one succeeds.
+     * Auto-generates ID if not set.
+     *
+     * @param user The user to register
+     * @return true if the user was added, false if the username (or a preset ID) is taken
+     */
+    public boolean register(User user) {
+        boolean newId = user.getId() == 0;
+        if (newId) {
+            user.setId(nextId.getAndIncrement());
+        }
+
+        // Stored by ID first, so a concurrent register sees this claim as live
+        if (usersById.putIfAbsent(user.getId(), user) != null) {
+            return false; // Caller-assigned ID already in use
+        }
+
+        String key = usernameKey(user.getUsername());
+        while (true) {
+            User existing = usersByUsername.putIfAbsent(key, user);
+            if (existing == null) {
+                return true;
+            }
+            if (isIndexedUnder(existing, key)) {
+                usersById.remove(user.getId(), user);
+                if (newId) {
+                    user.setId(0);
+                }
+                return false;
+            }
+            // Stale entry of a user that was renamed or deleted; take it over
+            if (usersByUsername.replace(key, existing, user)) {
+                return true;
             }
         }
-        return Optional.empty();
     }
-    
+
     /**
-     * Saves a new user to the repository.
-     * Auto-generates ID if not set.
-     * 
+     * Saves a new user to the repository, or replaces the user with the same ID.
+     * Auto-generates ID if not set. Unlike register, does not check that the
+     * username is free.
+     *
      * @param user The user to save
      * @return The saved user with ID assigned
      */
     public User save(User user) {
         if (user.getId() == 0) {
-            user.setId(nextId++);
-        }
-        
-        // Check if updating existing user
-        Optional<User> existing = findById(user.getId());
-        if (existing.isPresent()) {
-            // Update existing user
-            int index = users.indexOf(existing.get());
-            users.set(index, user);
-        } else {
-            // Add new user
-            users.add(user);
+            user.setId(nextId.getAndIncrement());
         }
-        
+        reindex(usersById.put(user.getId(), user), user);
         return user;
     }
-    
+
     /**
      * Updates an existing user's information.
-     * 
+     *
      * @param user The user with updated information
      * @return true if update was successful
      */
     public boolean update(User user) {
-        Optional<User> existing = findById(user.getId());
-        if (existing.isPresent()) {
-            int index = users.indexOf(existing.get());
-            users.set(index, user);
-            return true;
+        User previous = usersById.replace(user.getId(), user);
+        if (previous == null) {
+            return false;
         }
-        return false;
+        reindex(previous, user);
+        return true;
     }
-    
+
     /**
      * Deletes a user from the repository.
-     * 
+     *
      * @param userId The ID of the user to delete
      * @return true if deletion was successful
      */
     public boolean delete(int userId) {
-        return users.removeIf(user -> user.getId() == userId);
+        User removed = usersById.remove(userId);
+        if (removed == null) {
+            return false;
+        }
+        usersByUsername.remove(usernameKey(removed.getUsername()), removed);
+        return true;
     }
-    
+
     /**
-     * Gets all users in the repository.
+     * Gets all users in the repository, ordered by ID.
      * Demonstrates returning Collections.
-     * 
+     *
      * @return List of all users
      */
     public List<User> findAll() {
-        return new ArrayList<>(users); // Return a copy to prevent external modification
+        List<User> users = new ArrayList<>(usersById.values()); // Copy to prevent external modification
+        users.sort(Comparator.comparingInt(User::getId));
+        return users;
     }
-    
+
     /**
      * Gets the total count of users.
-     * 
+     *
      * @return The number of users in the repository
      */
     public int count() {
-        return users.size();
+        return usersById.size();
     }
-    
+
     /**
      * Clears all users from the repository.
      * Useful for testing or reset operations.
      */
     public void clear() {
-        users.clear();
-        nextId = 1;
+        usersById.clear();
+        usersByUsername.clear();
+        nextId.set(1);
+    }
+
+    /**
+     * Points the username index at the current version of a user.
+     * A replaced User object's entry is removed unless another user already
+     * took over its name.
+     */
+    private void reindex(User previous, User current) {
+        if (previous != null && previous != current) {
+            usersByUsername.remove(usernameKey(previous.getUsername()), previous);
+        }
+        usersByUsername.put(usernameKey(current.getUsername()), current);
+    }
+
+    /**
+     * Checks that an index entry is live: the user is still stored and still
+     * has the username it was indexed under (User.setUsername leaves the old
+     * entry behind until it is replaced).
+     */
+    private boolean isIndexedUnder(User user, String key) {
+        return user != null
+            && usersById.get(user.getId()) == user
+            && key.equals(usernameKey(user.getUsername()));
+    }
+
+    /**
+     * Case-folds a username so that lookups match String.equalsIgnoreCase.
+     */
+    private static String usernameKey(String username) {
+        return username.trim().toUpperCase(Locale.ROOT).toLowerCase(Locale.ROOT);
     }
 }
@@ -0,0 +1,314 @@
+package com.recipeplanner.search;
+
+import com.recipeplanner.model.Ingredient;
+import com.recipeplanner.model.Recipe;
+import com.recipeplanner.model.RecipeIngredients;
+import com.recipeplanner.repository.IngredientRepository;
+import com.recipeplanner.util.IngredientQuantityParser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+
+/**
+ * Prefix completion over recipe names, cuisines and ingredient names.
+ *
+ * Completion keys are stored in one sorted array, so the keys starting with a
+ * prefix form a contiguous range found by two binary searches. A sparse table
+ * answers "heaviest key in range" in O(1), which lets the top N completions be
+ * pulled out of a range of any size in O(N log N) without scanning it.
+ *
+ * Recipe names are also indexed from each later word ("butter masala" finds
+ * "Paneer Butter Masala"). Weights are popularity: the number of recipes using
+ * a cuisine or ingredient. Selections recorded by the UI are not part of the
+ * index; they are passed to {@link #complete(String, int, Map)} and added at
+ * query time, so recording one never requires a rebuild.
+ *
+ * Immutable once built; {@link #build} creates a new instance.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public class AutocompleteIndex {
+
+    /**
+     * Kind of text a suggestion completes to.
+     */
+    public enum SuggestionType {
+        RECIPE, CUISINE, INGREDIENT
+    }
+
+    /**
+     * A single completion returned to the caller.
+     */
+    public static class Suggestion {
+        private final String text;
+        private final SuggestionType type;
+        private final int weight;
+
+        public Suggestion(String text, SuggestionType type, int weight) {
+            this.text = text;
+            this.type = type;
+            this.weight = weight;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public SuggestionType getType() {
+            return type;
+        }
+
+        public int getWeight() {
+            return weight;
+        }
+
+        @Override
+        public String toString() {
+            return text;
+        }
+    }
+
+    // Word-start entries of recipe names rank below whole-name entries
+    private static final int SUFFIX_PENALTY = 1;
+
+    private final String[] keys;          // sorted lowercased keys
+    private final int[] entryTarget;      // key -> index into targets
+    private final int[] entryWeight;      // key -> ranking weight
+    private final Suggestion[] targets;   // distinct completions
+    private final int[][] sparse;         // sparse[j][i] = heaviest entry in [i, i + 2^j)
+
+    private AutocompleteIndex(String[] keys, int[] entryTarget, int[] entryWeight, Suggestion[] targets) {
+        this.keys = keys;
+        this.entryTarget = entryTarget;
+        this.entryWeight = entryWeight;
+        this.targets = targets;
+        this.sparse = buildSparseTable();
+    }
+
+    /**
+     * Builds the index from the recipe corpus.
+     * Ingredient names come from each recipe's parsed ingredient entries;
+     * recipes not parsed yet are parsed here, as PantryMatcher.build does.
+     *
+     * @param recipes All recipes
+     * @param ingredientRepository Repository resolving ingredient names
+     * @return A new index
+     */
+    public static AutocompleteIndex build(Collection<Recipe> recipes, IngredientRepository ingredientRepository) {
+        Map<String, Integer> cuisineCounts = new HashMap<>();
+        Map<String, Integer> ingredientCounts = new HashMap<>();
+        Map<String, String> cuisineDisplay = new HashMap<>();
+        Set<String> recipeNames = new HashSet<>();
+        List<Suggestion> targetList = new ArrayList<>();
+        List<Object[]> entries = new ArrayList<>(); // {key, targetIndex, weight}
+
+        for (Recipe recipe : recipes) {
+            if (recipe.getCuisine() != null && !recipe.getCuisine().trim().isEmpty()) {
+                String key = recipe.getCuisine().trim().toLowerCase();
+                cuisineCounts.merge(key, 1, Integer::sum);
+                cuisineDisplay.putIfAbsent(key, recipe.getCuisine().trim());
+            }
+            RecipeIngredients parsed = recipe.getIngredients() != null ? recipe.getIngredients()
+                : IngredientQuantityParser.parse(recipe.getRawIngredientsText(), ingredientRepository);
+            Set<String> recipeIngredients = new HashSet<>();
+            for (int i = 0; i < parsed.size(); i++) {
+                Ingredient ingredient = parsed.getIngredient(i);
+                if (ingredient != null && recipeIngredients.add(ingredient.getName().toLowerCase())) {
+                    ingredientCounts.merge(ingredient.getName().toLowerCase(), 1, Integer::sum);
+                }
+            }
+        }
+
+        for (Recipe recipe : recipes) {
+            String name = recipe.getName();
+            if (name == null || name.trim().isEmpty() || !recipeNames.add(name.trim().toLowerCase())) {
+                continue;
+            }
+            String lower = name.trim().toLowerCase();
+            int weight = 1;
+            int target = targetList.size();
+            targetList.add(new Suggestion(name.trim(), SuggestionType.RECIPE, weight));
+            entries.add(new Object[] {lower, target, weight});
+
+            // Also complete from the start of each later word
+            for (int i = 1; i < lower.length(); i++) {
+                if (lower.charAt(i - 1) == ' ' && lower.charAt(i) != ' ') {
+                    entries.add(new Object[] {lower.substring(i), target, Math.max(0, weight - SUFFIX_PENALTY)});
+                }
+            }
+        }
+
+        for (Map.Entry<String, Integer> entry : cuisineCounts.entrySet()) {
+            int weight = entry.getValue();
+            int target = targetList.size();
+            targetList.add(new Suggestion(cuisineDisplay.get(entry.getKey()), SuggestionType.CUISINE, weight));
+            entries.add(new Object[] {entry.getKey(), target, weight});
+        }
+
+        for (Map.Entry<String, Integer> entry : ingredientCounts.entrySet()) {
+            int weight = entry.getValue();
+            int target = targetList.size();
+            targetList.add(new Suggestion(entry.getKey(), SuggestionType.INGREDIENT, weight));
+            entries.add(new Object[] {entry.getKey(), target, weight});
+        }
+
+        entries.sort((a, b) -> ((String) a[0]).compareTo((String) b[0]));
+
+        String[] keys = new String[entries.size()];
+        int[] entryTarget = new int[entries.size()];
+        int[] entryWeight = new int[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            keys[i] = (String) entries.get(i)[0];
+            entryTarget[i] = (Integer) entries.get(i)[1];
+            entryWeight[i] = (Integer) entries.get(i)[2];
+        }
+
+        return new AutocompleteIndex(keys, entryTarget, entryWeight, targetList.toArray(new Suggestion[0]));
+    }
+
+    /**
+     * Gets the most popular completions for a prefix.
+     *
+     * @param prefix Text typed so far (case-insensitive)
+     * @param limit Maximum number of suggestions
+     * @return Distinct suggestions, most popular first
+     */
+    public List<Suggestion> complete(String prefix, int limit) {
+        return complete(prefix, limit, Collections.emptyMap());
+    }
+
+    /**
+     * Gets the most popular completions for a prefix, counting selections
+     * on top of the indexed popularity.
+     *
+     * @param prefix Text typed so far (case-insensitive)
+     * @param limit Maximum number of suggestions
+     * @param selectionCounts Extra popularity per lowercased completion text (may be empty)
+     * @return Distinct suggestions, most popular first
+     */
+    public List<Suggestion> complete(String prefix, int limit, Map<String, Integer> selectionCounts) {
+        List<Suggestion> results = new ArrayList<>();
+        if (prefix == null || limit <= 0) {
+            return results;
+        }
+        String lower = prefix.trim().toLowerCase();
+        if (lower.isEmpty()) {
+            return results;
+        }
+
+        int from = lowerBound(lower);
+        int to = lowerBound(lower + Character.MAX_VALUE);
+        if (from >= to) {
+            return results;
+        }
+
+        int maxBoost = 0;
+        for (int count : selectionCounts.values()) {
+            maxBoost = Math.max(maxBoost, count);
+        }
+
+        // Best-first over sub-ranges: pop the heaviest entry, then split its range around it.
+        // A target's first entry is its heaviest, so its score is final when first seen.
+        PriorityQueue<int[]> ranges = new PriorityQueue<>((a, b) -> compareEntries(b[2], a[2]));
+        ranges.add(new int[] {from, to, rangeMax(from, to)});
+        Set<Integer> seenTargets = new HashSet<>();
+        List<Suggestion> found = new ArrayList<>();
+        PriorityQueue<Integer> topScores = new PriorityQueue<>();
+
+        while (!ranges.isEmpty()) {
+            // Stop once no remaining entry can beat the limit-th score, even with the largest boost
+            if (topScores.size() == limit && entryWeight[ranges.peek()[2]] + maxBoost < topScores.peek()) {
+                break;
+            }
+            int[] range = ranges.poll();
+            int best = range[2];
+            if (seenTargets.add(entryTarget[best])) {
+                Suggestion target = targets[entryTarget[best]];
+                int boost = selectionCounts.getOrDefault(target.getText().toLowerCase(), 0);
+                found.add(boost == 0 ? target
+                    : new Suggestion(target.getText(), target.getType(), target.getWeight() + boost));
+                topScores.add(target.getWeight() + boost);
+                if (topScores.size() > limit) {
+                    topScores.poll();
+                }
+            }
+            if (range[0] < best) {
+                ranges.add(new int[] {range[0], best, rangeMax(range[0], best)});
+            }
+            if (best + 1 < range[1]) {
+                ranges.add(new int[] {best + 1, range[1], rangeMax(best + 1, range[1])});
+            }
+        }
+
+        // Stable sort, so equal scores keep the index order
+        found.sort((a, b) -> Integer.compare(b.getWeight(), a.getWeight()));
+        results.addAll(found.subList(0, Math.min(limit, found.size())));
+        return results;
+    }
+
+    /**
+     * Gets the number of completion keys.
+     *
+     * @return The key count
+     */
+    public int size() {
+        return keys.length;
+    }
+
+    private int lowerBound(String key) {
+        int pos = Arrays.binarySearch(keys, key);
+        return pos >= 0 ? pos : -pos - 1;
+    }
+
+    /**
+     * Orders entries by weight, preferring the alphabetically earlier key on ties.
+     */
+    private int compareEntries(int a, int b) {
+        if (entryWeight[a] != entryWeight[b]) {
+            return Integer.compare(entryWeight[a], entryWeight[b]);
+        }
+        return Integer.compare(b, a);
+    }
+
+    private int heavier(int a, int b) {
+        return compareEntries(a, b) >= 0 ? a : b;
+    }
+
+    private int[][] buildSparseTable() {
+        int n = keys.length;
+        int levels = 1;
+        while ((1 << levels) <= n) {
+            levels++;
+        }
+        int[][] table = new int[levels][];
+        table[0] = new int[n];
+        for (int i = 0; i < n; i++) {
+            table[0][i] = i;
+        }
+        for (int j = 1; j < levels; j++) {
+            int span = 1 << j;
+            table[j] = new int[Math.max(0, n - span + 1)];
+            for (int i = 0; i + span <= n; i++) {
+                table[j][i] = heavier(table[j - 1][i], table[j - 1][i + (span >> 1)]);
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Finds the heaviest entry in [from, to) with two overlapping table lookups.
+     */
+    private int rangeMax(int from, int to) {
+        int level = 31 - Integer.numberOfLeadingZeros(to - from);
+        return heavier(sparse[level][from], sparse[level][to - (1 << level)]);
+    }
+}
@@ -0,0 +1,265 @@
+package com.recipeplanner.search;
+
+import com.recipeplanner.model.Recipe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * BM25 scoring over the name, cuisine and ingredient fields of indexed recipes.
+ * Term frequencies and field lengths are computed once when a recipe is
+ * indexed, so a query only walks the postings of its own terms instead of
+ * lowercasing every recipe's text as Recipe.getRelevanceScore does.
+ *
+ * Field frequencies are weighted and length-normalized per field, then
+ * saturated once per term (BM25F). Document frequency is approximated by the
+ * largest per-field posting list. The top K results are kept in a bounded min-heap.
+ *
+ * Not thread-safe on its own; {@link RecipeSearchIndex} guards it with its lock.
+ * Queries run concurrently under the read lock, so each thread scores into
+ * its own pair of arrays, reused across queries and zeroed again after each.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+class Bm25Ranker {
+
+    // Fields in scoring order: name, cuisine, ingredients
+    private static final int FIELD_COUNT = 3;
+
+    // Name matches matter most, then cuisine, then ingredients
+    private static final float[] FIELD_WEIGHTS = {3.0f, 1.5f, 1.0f};
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    // Term -> per-field frequency lists, sorted for prefix expansion
+    private final NavigableMap<String, TermFrequencyList[]> terms = new TreeMap<>();
+
+    // Ordinal -> field lengths in tokens, and the distinct terms it was indexed under
+    private int[][] fieldLengths = new int[FIELD_COUNT][64];
+    private final List<String[]> termsByOrdinal = new ArrayList<>();
+    private final long[] totalFieldLength = new long[FIELD_COUNT];
+    private int documentCount;
+
+    // Per-thread score and term frequency arrays, all zero between queries
+    private final ThreadLocal<float[][]> scratch = ThreadLocal.withInitial(() -> new float[2][0]);
+
+    /**
+     * Removes all scoring data.
+     */
+    void clear() {
+        terms.clear();
+        termsByOrdinal.clear();
+        fieldLengths = new int[FIELD_COUNT][64];
+        Arrays.fill(totalFieldLength, 0);
+        documentCount = 0;
+    }
+
+    /**
+     * Records term frequencies and field lengths for a recipe.
+     * Any previous data for the ordinal must be removed first.
+     *
+     * @param ordinal The recipe ordinal
+     * @param recipe The recipe
+     */
+    void add(int ordinal, Recipe recipe) {
+        ensureCapacity(ordinal);
+        String[] fields = {recipe.getName(), recipe.getCuisine(), recipe.getRawIngredientsText()};
+        Set<String> distinct = new LinkedHashSet<>();
+
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            if (fields[field] == null) {
+                continue;
+            }
+            List<String> tokens = RecipeSearchIndex.tokenize(fields[field].toLowerCase());
+            fieldLengths[field][ordinal] = tokens.size();
+            totalFieldLength[field] += tokens.size();
+
+            Map<String, Integer> counts = new HashMap<>();
+            for (String token : tokens) {
+                counts.merge(token, 1, Integer::sum);
+            }
+            for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+                TermFrequencyList[] lists = terms.computeIfAbsent(entry.getKey(),
+                    t -> new TermFrequencyList[FIELD_COUNT]);
+                if (lists[field] == null) {
+                    lists[field] = new TermFrequencyList();
+                }
+                lists[field].put(ordinal, entry.getValue());
+                distinct.add(entry.getKey());
+            }
+        }
+
+        while (termsByOrdinal.size() <= ordinal) {
+            termsByOrdinal.add(null);
+        }
+        termsByOrdinal.set(ordinal, distinct.toArray(new String[0]));
+        documentCount++;
+    }
+
+    /**
+     * Removes the scoring data for an ordinal.
+     *
+     * @param ordinal The recipe ordinal
+     */
+    void remove(int ordinal) {
+        if (ordinal >= termsByOrdinal.size() || termsByOrdinal.get(ordinal) == null) {
+            return;
+        }
+        for (String term : termsByOrdinal.get(ordinal)) {
+            TermFrequencyList[] lists = terms.get(term);
+            if (lists == null) {
+                continue;
+            }
+            boolean empty = true;
+            for (TermFrequencyList list : lists) {
+                if (list != null) {
+                    list.remove(ordinal);
+                    empty &= list.isEmpty();
+                }
+            }
+            if (empty) {
+                terms.remove(term);
+            }
+        }
+        for (int field = 0; field < FIELD_COUNT; field++) {
+            totalFieldLength[field] -= fieldLengths[field][ordinal];
+            fieldLengths[field][ordinal] = 0;
+        }
+        termsByOrdinal.set(ordinal, null);
+        documentCount--;
+    }
+
+    /**
+     * Scores recipes against the query terms and returns the best ordinals.
+     * The last term is expanded to every indexed term it is a prefix of.
+     *
+     * @param queryTerms Lowercased query tokens
+     * @param topK Maximum number of results
+     * @param ordinalCount Upper bound (exclusive) on ordinals
+     * @return Ordinals ordered by descending score
+     */
+    int[] topK(List<String> queryTerms, int topK, int ordinalCount) {
+        if (queryTerms.isEmpty() || topK <= 0 || documentCount == 0) {
+            return new int[0];
+        }
+
+        float[][] arrays = scratch.get();
+        if (arrays[0].length < ordinalCount) {
+            arrays[0] = new float[ordinalCount];
+            arrays[1] = new float[ordinalCount];
+        }
+        float[] scores = arrays[0];
+        float[] termFrequency = arrays[1];
+        int[] touched = new int[16];
+        int touchedCount = 0;
+        int[] termTouched = new int[16];
+
+        for (Collection<TermFrequencyList[]> group : expand(queryTerms)) {
+            // Combine the length-normalized frequencies of all fields (and all
+            // prefix expansions) first, so each query term saturates once (BM25F)
+            int termTouchedCount = 0;
+            int documentFrequency = 0;
+            for (TermFrequencyList[] lists : group) {
+                for (int field = 0; field < FIELD_COUNT; field++) {
+                    TermFrequencyList list = lists[field];
+                    if (list == null || list.isEmpty()) {
+                        continue;
+                    }
+                    documentFrequency = Math.max(documentFrequency, list.size());
+                    float avgLength = Math.max(1.0f, (float) totalFieldLength[field] / documentCount);
+
+                    for (int i = 0; i < list.size(); i++) {
+                        int ordinal = list.ordinalAt(i);
+                        if (termFrequency[ordinal] == 0f) {
+                            if (termTouchedCount == termTouched.length) {
+                                termTouched = Arrays.copyOf(termTouched, termTouchedCount * 2);
+                            }
+                            termTouched[termTouchedCount++] = ordinal;
+                        }
+                        float norm = 1 - B + B * fieldLengths[field][ordinal] / avgLength;
+                        termFrequency[ordinal] += FIELD_WEIGHTS[field] * list.frequencyAt(i) / norm;
+                    }
+                }
+            }
+
+            float idf = idf(documentFrequency);
+            for (int i = 0; i < termTouchedCount; i++) {
+                int ordinal = termTouched[i];
+                float tf = termFrequency[ordinal];
+                termFrequency[ordinal] = 0f;
+                if (scores[ordinal] == 0f) {
+                    if (touchedCount == touched.length) {
+                        touched = Arrays.copyOf(touched, touchedCount * 2);
+                    }
+                    touched[touchedCount++] = ordinal;
+                }
+                scores[ordinal] += idf * tf * (K1 + 1) / (tf + K1);
+            }
+        }
+
+        // Min-heap of the best K ordinals seen so far
+        PriorityQueue<Integer> heap = new PriorityQueue<>(Math.min(topK, touchedCount) + 1,
+            (a, b) -> scores[a] != scores[b] ? Float.compare(scores[a], scores[b]) : Integer.compare(b, a));
+        for (int i = 0; i < touchedCount; i++) {
+            int ordinal = touched[i];
+            if (heap.size() < topK) {
+                heap.offer(ordinal);
+            } else if (heap.comparator().compare(ordinal, heap.peek()) > 0) {
+                heap.poll();
+                heap.offer(ordinal);
+            }
+        }
+
+        int[] result = new int[heap.size()];
+        for (int i = result.length - 1; i >= 0; i--) {
+            result[i] = heap.poll();
+        }
+        // termFrequency is already zeroed term by term
+        for (int i = 0; i < touchedCount; i++) {
+            scores[touched[i]] = 0f;
+        }
+        return result;
+    }
+
+    /**
+     * Looks up the frequency lists for each query term.
+     * The last term becomes one group holding every term it is a prefix of,
+     * so rare completions do not each add their own high idf.
+     */
+    private List<Collection<TermFrequencyList[]>> expand(List<String> queryTerms) {
+        List<Collection<TermFrequencyList[]>> groups = new ArrayList<>();
+        for (int i = 0; i < queryTerms.size() - 1; i++) {
+            TermFrequencyList[] exact = terms.get(queryTerms.get(i));
+            if (exact != null) {
+                groups.add(Collections.singletonList(exact));
+            }
+        }
+        String prefix = queryTerms.get(queryTerms.size() - 1);
+        groups.add(terms.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values());
+        return groups;
+    }
+
+    private float idf(int documentFrequency) {
+        return (float) Math.log(1 + (documentCount - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private void ensureCapacity(int ordinal) {
+        if (ordinal >= fieldLengths[0].length) {
+            int newLength = Math.max(ordinal + 1, fieldLengths[0].length * 2);
+            for (int field = 0; field < FIELD_COUNT; field++) {
+                fieldLengths[field] = Arrays.copyOf(fieldLengths[field], newLength);
+            }
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package com.recipeplanner.search;
+
+import com.recipeplanner.model.Ingredient;
+import com.recipeplanner.model.Recipe;
+import com.recipeplanner.model.RecipeIngredients;
+import com.recipeplanner.repository.IngredientRepository;
+import com.recipeplanner.util.IngredientQuantityParser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * "What can I cook" engine: ranks recipes by how much of their ingredient
+ * list is covered by the user's pantry.
+ *
+ * Each recipe's ingredients come from its parsed ingredient entries (see
+ * {@link IngredientQuantityParser}), already resolved to ingredient IDs through
+ * the {@link IngredientRepository}. Recipes keep their ingredients as a sorted
+ * int array of dense local indexes, and every ingredient keeps a sorted array
+ * of the recipes using it. A query marks the pantry ingredients in a bitset and
+ * walks only their recipe arrays, counting matches per recipe, so its cost
+ * depends on how common the pantry ingredients are rather than on corpus size.
+ *
+ * Pantry entries are matched loosely: "tomato" matches "tomatoes", and
+ * "jeera" or "cumin seeds" match "cumin seeds (jeera)". Salt and water are
+ * assumed to be available: they are never missing, but a recipe is only
+ * matched through ingredients the user actually listed.
+ *
+ * Immutable once built; {@link #build} creates a new instance.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public class PantryMatcher {
+
+    /**
+     * A recipe together with how well the pantry covers it.
+     */
+    public static class PantryMatch {
+        private final Recipe recipe;
+        private final int matchedCount;
+        private final int ingredientCount;
+        private final List<String> missingIngredients;
+
+        public PantryMatch(Recipe recipe, int matchedCount, int ingredientCount, List<String> missingIngredients) {
+            this.recipe = recipe;
+            this.matchedCount = matchedCount;
+            this.ingredientCount = ingredientCount;
+            this.missingIngredients = missingIngredients;
+        }
+
+        public Recipe getRecipe() {
+            return recipe;
+        }
+
+        public int getMatchedCount() {
+            return matchedCount;
+        }
+
+        public int getIngredientCount() {
+            return ingredientCount;
+        }
+
+        public List<String> getMissingIngredients() {
+            return missingIngredients;
+        }
+
+        /**
+         * Gets the fraction of the recipe's ingredients found in the pantry.
+         *
+         * @return Coverage between 0.0 and 1.0
+         */
+        public double getCoverage() {
+            return ingredientCount == 0 ? 0.0 : (double) matchedCount / ingredientCount;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s (%d/%d ingredients)", recipe.getName(), matchedCount, ingredientCount);
+        }
+    }
+
+    // Ingredients nobody lists in their pantry but everybody has
+    private static final List<String> ASSUMED_STAPLES = Arrays.asList("salt", "water");
+
+    private final Recipe[] recipes;
+    private final int[][] ingredientsByRecipe;    // recipe -> sorted local ingredient indexes
+    private final int[][] recipesByIngredient;    // local ingredient index -> sorted recipe indexes
+    private final String[] ingredientNames;       // local ingredient index -> normalized name
+    private final Map<String, int[]> ingredientsByKey;
+
+    private PantryMatcher(Recipe[] recipes, int[][] ingredientsByRecipe, String[] ingredientNames,
+                          Map<String, int[]> ingredientsByKey) {
+        this.recipes = recipes;
+        this.ingredientsByRecipe = ingredientsByRecipe;
+        this.ingredientNames = ingredientNames;
+        this.ingredientsByKey = ingredientsByKey;
+        this.recipesByIngredient = invert(ingredientsByRecipe, ingredientNames.length);
+    }
+
+    /**
+     * Builds the matcher from the recipe corpus.
+     * Recipes whose ingredient text has not been parsed yet are parsed here,
+     * registering new ingredient names in the repository.
+     *
+     * @param recipes All recipes
+     * @param ingredientRepository Repository assigning ingredient IDs
+     * @return A new matcher
+     */
+    public static PantryMatcher build(Collection<Recipe> recipes, IngredientRepository ingredientRepository) {
+        // Repository ID -> local dense index
+        Map<Integer, Integer> localById = new HashMap<>();
+        List<String> names = new ArrayList<>();
+        Recipe[] recipeArray = new Recipe[recipes.size()];
+        int[][] ingredientsByRecipe = new int[recipes.size()][];
+
+        int r = 0;
+        for (Recipe recipe : recipes) {
+            RecipeIngredients entries = recipe.getIngredients() != null ? recipe.getIngredients()
+                : IngredientQuantityParser.parse(recipe.getRawIngredientsText(), ingredientRepository);
+            int[] locals = new int[entries.size()];
+            int count = 0;
+            for (int i = 0; i < entries.size(); i++) {
+                Ingredient ingredient = entries.getIngredient(i);
+                if (ingredient == null) {
+                    continue;
+                }
+                Integer local = localById.get(ingredient.getId());
+                if (local == null) {
+                    local = names.size();
+                    localById.put(ingredient.getId(), local);
+                    names.add(ingredient.getName());
+                }
+                locals[count++] = local;
+            }
+            recipeArray[r] = recipe;
+            ingredientsByRecipe[r] = Arrays.stream(locals, 0, count).sorted().distinct().toArray();
+            r++;
+        }
+
+        Map<String, List<Integer>> keyLists = new HashMap<>();
+        for (int local = 0; local < names.size(); local++) {
+            for (String key : matchKeys(names.get(local))) {
+                keyLists.computeIfAbsent(key, k -> new ArrayList<>()).add(local);
+            }
+        }
+        Map<String, int[]> ingredientsByKey = new HashMap<>();
+        for (Map.Entry<String, List<Integer>> entry : keyLists.entrySet()) {
+            ingredientsByKey.put(entry.getKey(), entry.getValue().stream().mapToInt(Integer::intValue).toArray());
+        }
+
+        return new PantryMatcher(recipeArray, ingredientsByRecipe, names.toArray(new String[0]), ingredientsByKey);
+    }
+
+    /**
+     * Finds recipes that can be cooked from the pantry.
+     * Pantry entries are read like recipe entries, so "2 Tomatoes" works too.
+     * Recipes must use at least one pantry ingredient. They are ordered by
+     * fewest missing ingredients, then most pantry ingredients used, then name.
+     *
+     * @param pantry Ingredient names the user has (case-insensitive)
+     * @param maxMissing Maximum number of recipe ingredients not in the pantry
+     * @param limit Maximum number of results
+     * @return Best matches first
+     */
+    public List<PantryMatch> match(Collection<String> pantry, int maxMissing, int limit) {
+        List<PantryMatch> results = new ArrayList<>();
+        if (pantry == null || pantry.isEmpty() || limit <= 0) {
+            return results;
+        }
+
+        BitSet have = new BitSet(ingredientNames.length);
+        int requested = 0;
+        for (String item : pantry) {
+            int[] ingredients = resolve(item);
+            requested += ingredients.length;
+            for (int ingredient : ingredients) {
+                have.set(ingredient);
+            }
+        }
+        if (requested == 0) {
+            return results;
+        }
+        // Staples never count as missing, but only the user's own pantry counts as a match
+        BitSet staples = new BitSet(ingredientNames.length);
+        for (String staple : ASSUMED_STAPLES) {
+            for (int ingredient : resolve(staple)) {
+                staples.set(ingredient);
+            }
+        }
+
+        // Count pantry ingredients per recipe by walking only the pantry's recipe lists
+        int[] matched = new int[recipes.length];
+        int[] touched = new int[recipes.length];
+        int touchedCount = 0;
+        for (int ingredient = have.nextSetBit(0); ingredient >= 0; ingredient = have.nextSetBit(ingredient + 1)) {
+            for (int recipe : recipesByIngredient[ingredient]) {
+                if (matched[recipe]++ == 0) {
+                    touched[touchedCount++] = recipe;
+                }
+            }
+        }
+
+        int[] missingCounts = new int[recipes.length];
+        List<Integer> candidates = new ArrayList<>();
+        for (int i = 0; i < touchedCount; i++) {
+            int recipe = touched[i];
+            int missing = 0;
+            for (int ingredient : ingredientsByRecipe[recipe]) {
+                if (!have.get(ingredient) && !staples.get(ingredient)) {
+                    missing++;
+                }
+            }
+            if (missing <= maxMissing) {
+                missingCounts[recipe] = missing;
+                candidates.add(recipe);
+            }
+        }
+        candidates.sort(Comparator
+            .comparingInt((Integer recipe) -> missingCounts[recipe])
+            .thenComparing(recipe -> -matched[recipe])
+            .thenComparing(recipe -> recipes[recipe].getName(), String.CASE_INSENSITIVE_ORDER));
+
+        for (int i = 0; i < candidates.size() && i < limit; i++) {
+            int recipe = candidates.get(i);
+            List<String> missing = new ArrayList<>();
+            for (int ingredient : ingredientsByRecipe[recipe]) {
+                if (!have.get(ingredient) && !staples.get(ingredient)) {
+                    missing.add(ingredientNames[ingredient]);
+                }
+            }
+            results.add(new PantryMatch(recipes[recipe], matched[recipe],
+                                        ingredientsByRecipe[recipe].length, missing));
+        }
+        return results;
+    }
+
+    /**
+     * Gets the number of distinct ingredients seen across the corpus.
+     *
+     * @return The ingredient count
+     */
+    public int ingredientCount() {
+        return ingredientNames.length;
+    }
+
+    private int[] resolve(String pantryItem) {
+        if (pantryItem == null) {
+            return new int[0];
+        }
+        Set<Integer> found = new HashSet<>();
+        for (String key : matchKeys(IngredientQuantityParser.extractName(pantryItem))) {
+            int[] ingredients = ingredientsByKey.get(key);
+            if (ingredients != null) {
+                for (int ingredient : ingredients) {
+                    found.add(ingredient);
+                }
+            }
+        }
+        return found.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * Gets the lookup keys for a normalized name: the whole name, the name
+     * without its parenthesized part and the parenthesized part alone, each
+     * with simple plurals folded.
+     */
+    private static Set<String> matchKeys(String name) {
+        Set<String> keys = new HashSet<>();
+        if (name.isEmpty()) {
+            return keys;
+        }
+        keys.add(foldPlurals(name));
+        int open = name.indexOf('(');
+        int close = name.indexOf(')', open + 1);
+        if (open >= 0 && close > open) {
+            String outside = (name.substring(0, open) + name.substring(close + 1)).trim();
+            String inside = name.substring(open + 1, close).trim();
+            if (!outside.isEmpty()) {
+                keys.add(foldPlurals(outside));
+            }
+            if (!inside.isEmpty()) {
+                keys.add(foldPlurals(inside));
+            }
+        }
+        return keys;
+    }
+
+    private static String foldPlurals(String text) {
+        StringBuilder folded = new StringBuilder(text.length());
+        for (String word : text.split("\\s+")) {
+            if (word.endsWith("oes")) {
+                word = word.substring(0, word.length() - 2);
+            } else if (word.length() > 3 && word.endsWith("s") && !word.endsWith("ss")) {
+                word = word.substring(0, word.length() - 1);
+            }
+            if (folded.length() > 0) {
+                folded.append(' ');
+            }
+            folded.append(word);
+        }
+        return folded.toString();
+    }
+
+    private static int[][] invert(int[][] ingredientsByRecipe, int ingredientCount) {
+        int[] sizes = new int[ingredientCount];
+        for (int[] ingredients : ingredientsByRecipe) {
+            for (int ingredient : ingredients) {
+                sizes[ingredient]++;
+            }
+        }
+        int[][] lists = new int[ingredientCount][];
+        for (int i = 0; i < ingredientCount; i++) {
+            lists[i] = new int[sizes[i]];
+        }
+        // Recipes are visited in order, so every list comes out sorted
+        int[] fill = new int[ingredientCount];
+        for (int recipe = 0; recipe < ingredientsByRecipe.length; recipe++) {
+            for (int ingredient : ingredientsByRecipe[recipe]) {
+                lists[ingredient][fill[ingredient]++] = recipe;
+            }
+        }
+        return lists;
+    }
+}
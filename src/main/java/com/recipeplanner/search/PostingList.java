@@ -0,0 +1,148 @@
+package com.recipeplanner.search;
+
+import java.util.Arrays;
+
+/**
+ * Growable, sorted list of recipe ordinals for one index term.
+ * Ordinals are dense ints assigned by {@link RecipeSearchIndex}, so a posting
+ * list is a plain int array instead of a collection of boxed Integers.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public class PostingList {
+
+    private static final int[] EMPTY = new int[0];
+
+    private int[] ordinals;
+    private int size;
+
+    /**
+     * Creates an empty posting list.
+     */
+    public PostingList() {
+        this.ordinals = new int[4];
+        this.size = 0;
+    }
+
+    /**
+     * Adds an ordinal, keeping the list sorted and free of duplicates.
+     * Appending in increasing order (the common case during a bulk load) is O(1).
+     *
+     * @param ordinal The recipe ordinal
+     */
+    public void add(int ordinal) {
+        if (size > 0 && ordinals[size - 1] >= ordinal) {
+            int pos = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (pos >= 0) {
+                return;
+            }
+            insertAt(-pos - 1, ordinal);
+            return;
+        }
+        if (size == ordinals.length) {
+            ordinals = Arrays.copyOf(ordinals, size * 2);
+        }
+        ordinals[size++] = ordinal;
+    }
+
+    private void insertAt(int index, int ordinal) {
+        if (size == ordinals.length) {
+            ordinals = Arrays.copyOf(ordinals, size * 2);
+        }
+        System.arraycopy(ordinals, index, ordinals, index + 1, size - index);
+        ordinals[index] = ordinal;
+        size++;
+    }
+
+    /**
+     * Removes an ordinal if present.
+     *
+     * @param ordinal The recipe ordinal
+     * @return true if the ordinal was removed
+     */
+    public boolean remove(int ordinal) {
+        int pos = Arrays.binarySearch(ordinals, 0, size, ordinal);
+        if (pos < 0) {
+            return false;
+        }
+        System.arraycopy(ordinals, pos + 1, ordinals, pos, size - pos - 1);
+        size--;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the ordinal at the given position.
+     *
+     * @param index Position in the list
+     * @return The ordinal
+     */
+    public int get(int index) {
+        return ordinals[index];
+    }
+
+    /**
+     * Copies the ordinals into a new sorted array.
+     *
+     * @return Sorted ordinals
+     */
+    public int[] toArray() {
+        return size == 0 ? EMPTY : Arrays.copyOf(ordinals, size);
+    }
+
+    /**
+     * Intersects two sorted ordinal arrays.
+     * Walks the smaller array and gallops through the larger one, so the cost
+     * is driven by the shorter list.
+     *
+     * @param a Sorted ordinals
+     * @param b Sorted ordinals
+     * @return Sorted ordinals present in both arrays
+     */
+    public static int[] intersect(int[] a, int[] b) {
+        if (a.length > b.length) {
+            int[] tmp = a;
+            a = b;
+            b = tmp;
+        }
+        int[] out = new int[a.length];
+        int n = 0;
+        int from = 0;
+        for (int value : a) {
+            int pos = gallop(b, from, value);
+            if (pos >= b.length) {
+                break;
+            }
+            if (b[pos] == value) {
+                out[n++] = value;
+                from = pos + 1;
+            } else {
+                from = pos;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    /**
+     * Finds the first index at or after from whose value is >= target.
+     */
+    private static int gallop(int[] array, int from, int target) {
+        int step = 1;
+        int hi = from;
+        while (hi < array.length && array[hi] < target) {
+            from = hi + 1;
+            hi += step;
+            step <<= 1;
+        }
+        int pos = Arrays.binarySearch(array, from, Math.min(hi + 1, array.length), target);
+        return pos >= 0 ? pos : -pos - 1;
+    }
+}
@@ -0,0 +1,157 @@
+package com.recipeplanner.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Immutable description of a recipe filter: cuisines, a cooking-time range and
+ * an optional text query, all combined with AND (cuisines among themselves with OR).
+ * Built with the inner {@link FilterBuilder} class.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public class RecipeFilter {
+    private final List<String> cuisines;
+    private final int minTimeInMins;
+    private final int maxTimeInMins;
+    private final String searchTerm;
+    private final boolean sortByTime;
+
+    private RecipeFilter(FilterBuilder builder) {
+        this.cuisines = Collections.unmodifiableList(new ArrayList<>(builder.cuisines));
+        this.minTimeInMins = builder.minTimeInMins;
+        this.maxTimeInMins = builder.maxTimeInMins;
+        this.searchTerm = builder.searchTerm;
+        this.sortByTime = builder.sortByTime;
+    }
+
+    /**
+     * Gets the cuisines to match; empty means any cuisine.
+     *
+     * @return Unmodifiable list of cuisines
+     */
+    public List<String> getCuisines() {
+        return cuisines;
+    }
+
+    public int getMinTimeInMins() {
+        return minTimeInMins;
+    }
+
+    public int getMaxTimeInMins() {
+        return maxTimeInMins;
+    }
+
+    /**
+     * Gets the text query, or null if the filter has none.
+     *
+     * @return The search term
+     */
+    public String getSearchTerm() {
+        return searchTerm;
+    }
+
+    /**
+     * Checks whether results are ordered by cooking time instead of name.
+     *
+     * @return true to sort shortest first
+     */
+    public boolean isSortByTime() {
+        return sortByTime;
+    }
+
+    /**
+     * Checks whether the filter restricts cooking time at all.
+     *
+     * @return true if a minimum or maximum time is set
+     */
+    public boolean hasTimeRange() {
+        return minTimeInMins > 0 || maxTimeInMins < Integer.MAX_VALUE;
+    }
+
+    /**
+     * Builder pattern inner class for constructing RecipeFilter objects.
+     */
+    public static class FilterBuilder {
+        private final List<String> cuisines = new ArrayList<>();
+        private int minTimeInMins = 0;
+        private int maxTimeInMins = Integer.MAX_VALUE;
+        private String searchTerm;
+        private boolean sortByTime;
+
+        /**
+         * Adds cuisines; a recipe matches if it has any of them.
+         *
+         * @param cuisines Cuisine names (case-insensitive)
+         * @return This builder for method chaining
+         */
+        public FilterBuilder withCuisines(List<String> cuisines) {
+            if (cuisines != null) {
+                for (String cuisine : cuisines) {
+                    if (cuisine != null && !cuisine.trim().isEmpty()) {
+                        this.cuisines.add(cuisine.trim());
+                    }
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Restricts total cooking time to an inclusive range.
+         *
+         * @param minMins Minimum minutes
+         * @param maxMins Maximum minutes
+         * @return This builder for method chaining
+         */
+        public FilterBuilder withTimeRange(int minMins, int maxMins) {
+            if (minMins > maxMins) {
+                throw new IllegalArgumentException("Minimum time cannot exceed maximum time");
+            }
+            this.minTimeInMins = Math.max(0, minMins);
+            this.maxTimeInMins = maxMins;
+            return this;
+        }
+
+        /**
+         * Restricts total cooking time to at most the given minutes.
+         *
+         * @param maxMins Maximum minutes
+         * @return This builder for method chaining
+         */
+        public FilterBuilder withMaxTime(int maxMins) {
+            return withTimeRange(0, maxMins);
+        }
+
+        /**
+         * Restricts results to recipes matching a name/ingredient search.
+         *
+         * @param searchTerm The search term
+         * @return This builder for method chaining
+         */
+        public FilterBuilder withText(String searchTerm) {
+            this.searchTerm = searchTerm != null && !searchTerm.trim().isEmpty() ? searchTerm.trim() : null;
+            return this;
+        }
+
+        /**
+         * Orders results by cooking time (shortest first) instead of name.
+         *
+         * @return This builder for method chaining
+         */
+        public FilterBuilder sortedByTime() {
+            this.sortByTime = true;
+            return this;
+        }
+
+        /**
+         * Builds and returns the RecipeFilter object.
+         *
+         * @return The constructed filter
+         */
+        public RecipeFilter build() {
+            return new RecipeFilter(this);
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.recipeplanner.search;
+
+import com.recipeplanner.model.Recipe;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Bitmap index over cuisine and cooking-time buckets, keyed by recipe ordinal.
+ * Each cuisine value and each time bucket owns a {@link BitSet} (a plain long[]
+ * bitset) with one bit per recipe, so combining filters is a handful of
+ * word-wide OR/AND operations instead of a query or a list scan.
+ *
+ * Time buckets are coarse; a range that cuts through a bucket is finished by
+ * checking the exact times of that bucket's recipes only.
+ *
+ * Not thread-safe on its own; {@link RecipeSearchIndex} guards it with its lock.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+class RecipeFilterIndex {
+
+    // Lower bounds (inclusive) of the time buckets in minutes
+    private static final int[] BUCKET_STARTS = {0, 15, 30, 45, 60, 90, 120, 180, 300};
+
+    private final Map<String, BitSet> cuisineBits = new HashMap<>();
+    private final BitSet[] timeBuckets = new BitSet[BUCKET_STARTS.length];
+    private final BitSet live = new BitSet();
+
+    // Ordinal -> indexed values, needed to clear bits on update/remove
+    private String[] cuisineByOrdinal = new String[64];
+    private int[] timeByOrdinal = new int[64];
+
+    RecipeFilterIndex() {
+        for (int i = 0; i < timeBuckets.length; i++) {
+            timeBuckets[i] = new BitSet();
+        }
+    }
+
+    /**
+     * Removes all entries.
+     */
+    void clear() {
+        cuisineBits.clear();
+        for (BitSet bucket : timeBuckets) {
+            bucket.clear();
+        }
+        live.clear();
+        Arrays.fill(cuisineByOrdinal, null);
+    }
+
+    /**
+     * Sets the bits for a recipe.
+     *
+     * @param ordinal The recipe ordinal
+     * @param recipe The recipe
+     */
+    void add(int ordinal, Recipe recipe) {
+        ensureCapacity(ordinal);
+        String cuisine = normalize(recipe.getCuisine());
+        int time = Math.max(0, recipe.getTotalTimeInMins());
+
+        cuisineBits.computeIfAbsent(cuisine, c -> new BitSet()).set(ordinal);
+        timeBuckets[bucketOf(time)].set(ordinal);
+        live.set(ordinal);
+        cuisineByOrdinal[ordinal] = cuisine;
+        timeByOrdinal[ordinal] = time;
+    }
+
+    /**
+     * Clears the bits for a recipe.
+     *
+     * @param ordinal The recipe ordinal
+     */
+    void remove(int ordinal) {
+        if (ordinal >= cuisineByOrdinal.length || !live.get(ordinal)) {
+            return;
+        }
+        BitSet bits = cuisineBits.get(cuisineByOrdinal[ordinal]);
+        if (bits != null) {
+            bits.clear(ordinal);
+            if (bits.isEmpty()) {
+                cuisineBits.remove(cuisineByOrdinal[ordinal]);
+            }
+        }
+        timeBuckets[bucketOf(timeByOrdinal[ordinal])].clear(ordinal);
+        live.clear(ordinal);
+        cuisineByOrdinal[ordinal] = null;
+    }
+
+    /**
+     * Gets the recipes with any of the given cuisines.
+     *
+     * @param cuisines Cuisine names; empty means every recipe
+     * @return A new bitset of matching ordinals
+     */
+    BitSet cuisines(Collection<String> cuisines) {
+        if (cuisines.isEmpty()) {
+            return (BitSet) live.clone();
+        }
+        BitSet result = new BitSet();
+        for (String cuisine : cuisines) {
+            BitSet bits = cuisineBits.get(normalize(cuisine));
+            if (bits != null) {
+                result.or(bits);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the recipes whose total time lies in [minMins, maxMins].
+     *
+     * @param minMins Minimum minutes (inclusive)
+     * @param maxMins Maximum minutes (inclusive)
+     * @return A new bitset of matching ordinals
+     */
+    BitSet timeRange(int minMins, int maxMins) {
+        BitSet result = new BitSet();
+        int first = bucketOf(Math.max(0, minMins));
+        int last = bucketOf(Math.max(0, maxMins));
+
+        for (int bucket = first; bucket <= last; bucket++) {
+            boolean fullyInside = BUCKET_STARTS[bucket] >= minMins &&
+                (bucket + 1 < BUCKET_STARTS.length ? BUCKET_STARTS[bucket + 1] - 1 <= maxMins
+                                                   : maxMins == Integer.MAX_VALUE);
+            if (fullyInside) {
+                result.or(timeBuckets[bucket]);
+            } else {
+                // Edge bucket: check exact times of its members only
+                BitSet bits = timeBuckets[bucket];
+                for (int ordinal = bits.nextSetBit(0); ordinal >= 0; ordinal = bits.nextSetBit(ordinal + 1)) {
+                    if (timeByOrdinal[ordinal] >= minMins && timeByOrdinal[ordinal] <= maxMins) {
+                        result.set(ordinal);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Gets the exact total time recorded for an ordinal.
+     *
+     * @param ordinal The recipe ordinal
+     * @return Total time in minutes
+     */
+    int timeOf(int ordinal) {
+        return timeByOrdinal[ordinal];
+    }
+
+    private static int bucketOf(int minutes) {
+        int pos = Arrays.binarySearch(BUCKET_STARTS, minutes);
+        return pos >= 0 ? pos : -pos - 2;
+    }
+
+    private static String normalize(String cuisine) {
+        return cuisine != null ? cuisine.trim().toLowerCase() : "";
+    }
+
+    private void ensureCapacity(int ordinal) {
+        if (ordinal >= cuisineByOrdinal.length) {
+            int newLength = Math.max(ordinal + 1, cuisineByOrdinal.length * 2);
+            cuisineByOrdinal = Arrays.copyOf(cuisineByOrdinal, newLength);
+            timeByOrdinal = Arrays.copyOf(timeByOrdinal, newLength);
+        }
+    }
+}
@@ -0,0 +1,631 @@
+package com.recipeplanner.search;
+
+import com.recipeplanner.model.Recipe;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory inverted index over recipe names and ingredient text.
+ * Replaces the LIKE '%term%' table scan used by RecipeRepository.searchByName
+ * with posting-list intersection.
+ *
+ * Text is lowercased the same way as {@link Recipe#matches(String)} and split
+ * into alphanumeric tokens. Each recipe gets a dense ordinal; every token maps
+ * to a sorted {@link PostingList} of ordinals. The lowercased text is kept
+ * per ordinal so phrase verification does not re-lowercase recipe fields.
+ *
+ * Query semantics: every query token must match a recipe token, the last one
+ * as a prefix so results appear while the user is still typing. Multi-token
+ * queries are verified against the lowercased text so the phrase must appear
+ * contiguously, as it would with LIKE. Matches that start in the middle of a
+ * word are not found by this index.
+ *
+ * A {@link Bm25Ranker} over the same ordinals (plus the cuisine field) backs
+ * relevance-ranked search, and a lazily built {@link TrigramIndex} backs
+ * substring and typo-tolerant search. A {@link RecipeFilterIndex} keeps
+ * cuisine and cooking-time bitmaps for {@link #filter(RecipeFilter)}.
+ *
+ * Thread-safe: searches share a read lock, updates take the write lock.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public class RecipeSearchIndex {
+
+    // Sorted so prefix queries can use a sub-map range
+    private final NavigableMap<String, PostingList> postings = new TreeMap<>();
+
+    // Ordinal -> recipe (null once removed) and its lowercased searchable text
+    private final List<Recipe> recipesByOrdinal = new ArrayList<>();
+    private final List<String> textByOrdinal = new ArrayList<>();
+    private final Map<Integer, Integer> ordinalById = new HashMap<>();
+
+    // Term frequencies and field lengths for ranked search
+    private final Bm25Ranker ranker = new Bm25Ranker();
+
+    // Cuisine and cooking-time bitmaps for filtering
+    private final RecipeFilterIndex filters = new RecipeFilterIndex();
+
+    // Substring/fuzzy backend, built on first use since it is larger than the token index
+    private volatile TrigramIndex trigrams;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean loaded;
+
+    // Incremented on every change so derived structures know when to rebuild
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * Replaces the index contents with the given recipes.
+     * Accepts any Iterable, so a streamed result can be indexed without
+     * first being copied into a list.
+     *
+     * @param recipes All recipes to index
+     */
+    public void rebuild(Iterable<Recipe> recipes) {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            recipesByOrdinal.clear();
+            textByOrdinal.clear();
+            ordinalById.clear();
+            ranker.clear();
+            filters.clear();
+            // Once enabled, the trigram index is refilled along with everything else
+            trigrams = trigrams != null ? new TrigramIndex() : null;
+            for (Recipe recipe : recipes) {
+                addInternal(recipe);
+            }
+            loaded = true;
+            version.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Adds a recipe or re-indexes it if it is already present.
+     * Recipes without an ID are ignored because they cannot be removed later.
+     *
+     * @param recipe The saved recipe
+     */
+    public void index(Recipe recipe) {
+        if (recipe == null || recipe.getId() == 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalById.get(recipe.getId());
+            if (ordinal == null) {
+                addInternal(recipe);
+            } else {
+                unpost(ordinal);
+                ranker.remove(ordinal);
+                filters.remove(ordinal);
+                String text = searchableText(recipe);
+                post(ordinal, text);
+                ranker.add(ordinal, recipe);
+                filters.add(ordinal, recipe);
+                recipesByOrdinal.set(ordinal, recipe);
+                textByOrdinal.set(ordinal, text);
+                if (trigrams != null) {
+                    trigrams.addText(ordinal, text);
+                }
+            }
+            version.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes a recipe from the index.
+     * Its ordinal is left empty rather than reused.
+     *
+     * @param recipeId The recipe ID
+     */
+    public void remove(int recipeId) {
+        lock.writeLock().lock();
+        try {
+            Integer ordinal = ordinalById.remove(recipeId);
+            if (ordinal != null) {
+                unpost(ordinal);
+                ranker.remove(ordinal);
+                filters.remove(ordinal);
+                recipesByOrdinal.set(ordinal, null);
+                textByOrdinal.set(ordinal, null);
+                version.incrementAndGet();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Searches recipe names and ingredient text.
+     *
+     * @param searchTerm The search term
+     * @return Matching recipes ordered by name (case-insensitive)
+     */
+    public List<Recipe> search(String searchTerm) {
+        List<Recipe> results = new ArrayList<>();
+        if (searchTerm == null || searchTerm.trim().isEmpty()) {
+            return results;
+        }
+
+        lock.readLock().lock();
+        try {
+            BitSet matches = textMatches(searchTerm);
+            for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                results.add(recipesByOrdinal.get(ordinal));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        results.sort((r1, r2) -> String.CASE_INSENSITIVE_ORDER.compare(r1.getName(), r2.getName()));
+        return results;
+    }
+
+    /**
+     * Filters recipes by cuisine, cooking time and text in one pass over bitmaps.
+     * Cuisines are ORed together (case-insensitive exact match), then ANDed with
+     * the time range and with the {@link #search(String)} matches for the text.
+     *
+     * @param filter The filter to apply
+     * @return Matching recipes ordered by name, or by time then name if requested
+     */
+    public List<Recipe> filter(RecipeFilter filter) {
+        List<Recipe> results = new ArrayList<>();
+        List<Integer> times = new ArrayList<>();
+
+        lock.readLock().lock();
+        try {
+            BitSet matches = filters.cuisines(filter.getCuisines());
+            if (filter.hasTimeRange() && !matches.isEmpty()) {
+                matches.and(filters.timeRange(filter.getMinTimeInMins(), filter.getMaxTimeInMins()));
+            }
+            if (filter.getSearchTerm() != null && !matches.isEmpty()) {
+                matches.and(textMatches(filter.getSearchTerm()));
+            }
+            for (int ordinal = matches.nextSetBit(0); ordinal >= 0; ordinal = matches.nextSetBit(ordinal + 1)) {
+                results.add(recipesByOrdinal.get(ordinal));
+                times.add(filters.timeOf(ordinal));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        Comparator<Recipe> byName = (r1, r2) -> String.CASE_INSENSITIVE_ORDER.compare(r1.getName(), r2.getName());
+        if (filter.isSortByTime()) {
+            // Sort positions so the indexed time is used rather than the (mutable) recipe field
+            Integer[] order = new Integer[results.size()];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, Comparator.comparingInt((Integer i) -> times.get(i))
+                .thenComparing(i -> results.get(i), byName));
+            List<Recipe> sorted = new ArrayList<>(order.length);
+            for (int i : order) {
+                sorted.add(results.get(i));
+            }
+            return sorted;
+        }
+        results.sort(byName);
+        return results;
+    }
+
+    /**
+     * Computes the ordinals matching a name/ingredient search.
+     * Caller must hold the read lock.
+     */
+    private BitSet textMatches(String searchTerm) {
+        BitSet matches = new BitSet(recipesByOrdinal.size());
+        String phrase = searchTerm.toLowerCase().trim();
+        List<String> queryTokens = tokenize(phrase);
+
+        if (queryTokens.isEmpty()) {
+            // Punctuation-only query: nothing to look up, fall back to a scan
+            for (int ordinal = 0; ordinal < textByOrdinal.size(); ordinal++) {
+                String text = textByOrdinal.get(ordinal);
+                if (text != null && text.contains(phrase)) {
+                    matches.set(ordinal);
+                }
+            }
+        } else {
+            boolean verify = queryTokens.size() > 1 || !phrase.equals(queryTokens.get(0));
+            for (int ordinal : matchOrdinals(queryTokens)) {
+                if (!verify || textByOrdinal.get(ordinal).contains(phrase)) {
+                    matches.set(ordinal);
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Searches name, cuisine and ingredients and ranks matches by BM25 score.
+     * Any query term may match; recipes matching more (and rarer) terms score higher.
+     * Cost is proportional to the postings of the query terms, not the corpus size.
+     *
+     * @param searchTerm The search term
+     * @param topK Maximum number of results
+     * @return Up to topK recipes, best match first
+     */
+    public List<Recipe> searchRanked(String searchTerm, int topK) {
+        List<Recipe> results = new ArrayList<>();
+        if (searchTerm == null || searchTerm.trim().isEmpty()) {
+            return results;
+        }
+
+        List<String> queryTokens = tokenize(searchTerm.toLowerCase().trim());
+
+        lock.readLock().lock();
+        try {
+            for (int ordinal : ranker.topK(queryTokens, topK, recipesByOrdinal.size())) {
+                results.add(recipesByOrdinal.get(ordinal));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return results;
+    }
+
+    /**
+     * Finds recipes whose name or ingredient text contains the term anywhere,
+     * including in the middle of a word (same results as LIKE '%term%').
+     * Terms of 3+ characters are answered from the trigram index; shorter
+     * terms fall back to scanning the cached lowercase text.
+     *
+     * @param searchTerm The search term
+     * @return Matching recipes ordered by name (case-insensitive)
+     */
+    public List<Recipe> searchSubstring(String searchTerm) {
+        List<Recipe> results = new ArrayList<>();
+        if (searchTerm == null || searchTerm.trim().isEmpty()) {
+            return results;
+        }
+
+        String phrase = searchTerm.toLowerCase().trim();
+        ensureTrigrams();
+
+        lock.readLock().lock();
+        try {
+            if (phrase.length() < 3) {
+                for (int ordinal = 0; ordinal < textByOrdinal.size(); ordinal++) {
+                    String text = textByOrdinal.get(ordinal);
+                    if (text != null && text.contains(phrase)) {
+                        results.add(recipesByOrdinal.get(ordinal));
+                    }
+                }
+            } else {
+                for (int ordinal : trigrams.substringCandidates(phrase)) {
+                    if (textByOrdinal.get(ordinal).contains(phrase)) {
+                        results.add(recipesByOrdinal.get(ordinal));
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        results.sort((r1, r2) -> String.CASE_INSENSITIVE_ORDER.compare(r1.getName(), r2.getName()));
+        return results;
+    }
+
+    /**
+     * Finds recipes matching every query word within a small edit distance,
+     * so misspellings like "panner" or "karel" still find "paneer" and "karela".
+     * The edit budget grows with word length (0 for 1-2 letters, 1 up to
+     * 5 letters, 2 beyond). The last word also matches as a prefix.
+     *
+     * @param searchTerm The search term
+     * @return Matching recipes, closest spelling first, then by name
+     */
+    public List<Recipe> searchFuzzy(String searchTerm) {
+        List<Recipe> results = new ArrayList<>();
+        if (searchTerm == null || searchTerm.trim().isEmpty()) {
+            return results;
+        }
+
+        List<String> queryTokens = tokenize(searchTerm.toLowerCase().trim());
+        if (queryTokens.isEmpty()) {
+            return results;
+        }
+        ensureTrigrams();
+
+        lock.readLock().lock();
+        try {
+            int ordinalCount = recipesByOrdinal.size();
+            int[] totalDistance = new int[ordinalCount];
+            int[] candidates = null;
+
+            for (int t = 0; t < queryTokens.size(); t++) {
+                String token = queryTokens.get(t);
+                Map<String, Integer> words = trigrams.similarWords(token, TrigramIndex.defaultMaxEdits(token));
+                if (t == queryTokens.size() - 1) {
+                    for (String word : postings.subMap(token, true, token + Character.MAX_VALUE, false).keySet()) {
+                        words.put(word, 0);
+                    }
+                }
+
+                // Closest matching word per recipe for this token
+                int[] best = new int[ordinalCount];
+                Arrays.fill(best, Integer.MAX_VALUE);
+                List<int[]> lists = new ArrayList<>();
+                for (Map.Entry<String, Integer> entry : words.entrySet()) {
+                    PostingList list = postings.get(entry.getKey());
+                    for (int i = 0; i < list.size(); i++) {
+                        int ordinal = list.get(i);
+                        best[ordinal] = Math.min(best[ordinal], entry.getValue());
+                    }
+                    lists.add(list.toArray());
+                }
+
+                int[] matched = TrigramIndex.union(lists);
+                candidates = candidates == null ? matched : PostingList.intersect(candidates, matched);
+                for (int ordinal : candidates) {
+                    totalDistance[ordinal] += best[ordinal];
+                }
+                if (candidates.length == 0) {
+                    break;
+                }
+            }
+
+            List<Integer> ordered = new ArrayList<>();
+            for (int ordinal : candidates) {
+                ordered.add(ordinal);
+            }
+            ordered.sort(Comparator.comparingInt((Integer o) -> totalDistance[o])
+                .thenComparing(o -> recipesByOrdinal.get(o).getName(), String.CASE_INSENSITIVE_ORDER));
+            for (int ordinal : ordered) {
+                results.add(recipesByOrdinal.get(ordinal));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return results;
+    }
+
+    /**
+     * Builds the trigram index from the current contents on first use.
+     */
+    private void ensureTrigrams() {
+        if (trigrams != null) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (trigrams == null) {
+                TrigramIndex built = new TrigramIndex();
+                for (int ordinal = 0; ordinal < textByOrdinal.size(); ordinal++) {
+                    String text = textByOrdinal.get(ordinal);
+                    if (text != null) {
+                        built.addText(ordinal, text);
+                    }
+                }
+                for (String word : postings.keySet()) {
+                    built.addWord(word);
+                }
+                trigrams = built;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Intersects the posting lists for the query tokens, rarest first.
+     * The last token is expanded to every indexed term it is a prefix of.
+     */
+    private int[] matchOrdinals(List<String> queryTokens) {
+        List<int[]> lists = new ArrayList<>();
+        for (int i = 0; i < queryTokens.size() - 1; i++) {
+            PostingList list = postings.get(queryTokens.get(i));
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list.toArray());
+        }
+
+        int[] prefixMatches = prefixOrdinals(queryTokens.get(queryTokens.size() - 1));
+        if (prefixMatches.length == 0) {
+            return prefixMatches;
+        }
+        lists.add(prefixMatches);
+
+        lists.sort((a, b) -> Integer.compare(a.length, b.length));
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = PostingList.intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Unions the posting lists of every term starting with the prefix.
+     */
+    private int[] prefixOrdinals(String prefix) {
+        NavigableMap<String, PostingList> range =
+            postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+        if (range.isEmpty()) {
+            return new int[0];
+        }
+        if (range.size() == 1) {
+            return range.firstEntry().getValue().toArray();
+        }
+
+        BitSet union = new BitSet(recipesByOrdinal.size());
+        for (PostingList list : range.values()) {
+            for (int i = 0; i < list.size(); i++) {
+                union.set(list.get(i));
+            }
+        }
+        return union.stream().toArray();
+    }
+
+    private void addInternal(Recipe recipe) {
+        int ordinal = recipesByOrdinal.size();
+        String text = searchableText(recipe);
+        recipesByOrdinal.add(recipe);
+        textByOrdinal.add(text);
+        ordinalById.put(recipe.getId(), ordinal);
+        post(ordinal, text);
+        ranker.add(ordinal, recipe);
+        filters.add(ordinal, recipe);
+        if (trigrams != null) {
+            trigrams.addText(ordinal, text);
+        }
+    }
+
+    private void post(int ordinal, String text) {
+        for (String token : tokenize(text)) {
+            PostingList list = postings.get(token);
+            if (list == null) {
+                list = new PostingList();
+                postings.put(token, list);
+                if (trigrams != null) {
+                    trigrams.addWord(token);
+                }
+            }
+            list.add(ordinal);
+        }
+    }
+
+    private void unpost(int ordinal) {
+        String text = textByOrdinal.get(ordinal);
+        if (text == null) {
+            return;
+        }
+        if (trigrams != null) {
+            trigrams.removeText(ordinal, text);
+        }
+        for (String token : tokenize(text)) {
+            PostingList list = postings.get(token);
+            if (list != null) {
+                list.remove(ordinal);
+                if (list.isEmpty()) {
+                    postings.remove(token);
+                    if (trigrams != null) {
+                        trigrams.removeWord(token);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the lowercased name and ingredient text used for matching.
+     * The fields are separated by a newline so a phrase cannot span both,
+     * mirroring the per-field checks in Recipe.matches.
+     */
+    private static String searchableText(Recipe recipe) {
+        String name = recipe.getName() != null ? recipe.getName().toLowerCase() : "";
+        String ingredients = recipe.getRawIngredientsText() != null
+            ? recipe.getRawIngredientsText().toLowerCase() : "";
+        return name + "\n" + ingredients;
+    }
+
+    /**
+     * Splits already-lowercased text into alphanumeric tokens.
+     *
+     * @param lowerText Lowercased text
+     * @return Tokens in order of appearance
+     */
+    public static List<String> tokenize(String lowerText) {
+        List<String> tokens = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i < lowerText.length(); i++) {
+            if (Character.isLetterOrDigit(lowerText.charAt(i))) {
+                if (start < 0) {
+                    start = i;
+                }
+            } else if (start >= 0) {
+                tokens.add(lowerText.substring(start, i));
+                start = -1;
+            }
+        }
+        if (start >= 0) {
+            tokens.add(lowerText.substring(start));
+        }
+        return tokens;
+    }
+
+    /**
+     * Gets all indexed recipes in ordinal order.
+     *
+     * @return A copy of the indexed recipes
+     */
+    public List<Recipe> getRecipes() {
+        lock.readLock().lock();
+        try {
+            List<Recipe> recipes = new ArrayList<>(ordinalById.size());
+            for (Recipe recipe : recipesByOrdinal) {
+                if (recipe != null) {
+                    recipes.add(recipe);
+                }
+            }
+            return recipes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the modification counter of the index.
+     * Structures derived from the index can compare it to decide when to rebuild.
+     *
+     * @return A number that changes whenever recipes are added, updated or removed
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Checks whether the index has been built.
+     *
+     * @return true after the first rebuild
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Gets the number of indexed recipes.
+     *
+     * @return The number of recipes currently in the index
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ordinalById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Gets the number of distinct indexed terms.
+     *
+     * @return The vocabulary size
+     */
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.recipeplanner.search;
+
+import java.util.Arrays;
+
+/**
+ * Sorted list of (recipe ordinal, term frequency) pairs for one term in one field.
+ * Stored as two parallel int arrays so scoring walks primitive data only.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public class TermFrequencyList {
+
+    private int[] ordinals;
+    private int[] frequencies;
+    private int size;
+
+    /**
+     * Creates an empty list.
+     */
+    public TermFrequencyList() {
+        this.ordinals = new int[4];
+        this.frequencies = new int[4];
+        this.size = 0;
+    }
+
+    /**
+     * Sets the frequency for an ordinal, inserting it in sorted position if new.
+     *
+     * @param ordinal The recipe ordinal
+     * @param frequency Number of times the term occurs in the field
+     */
+    public void put(int ordinal, int frequency) {
+        int pos = size > 0 && ordinals[size - 1] >= ordinal
+            ? Arrays.binarySearch(ordinals, 0, size, ordinal)
+            : -size - 1;
+        if (pos >= 0) {
+            frequencies[pos] = frequency;
+            return;
+        }
+
+        int index = -pos - 1;
+        if (size == ordinals.length) {
+            ordinals = Arrays.copyOf(ordinals, size * 2);
+            frequencies = Arrays.copyOf(frequencies, size * 2);
+        }
+        System.arraycopy(ordinals, index, ordinals, index + 1, size - index);
+        System.arraycopy(frequencies, index, frequencies, index + 1, size - index);
+        ordinals[index] = ordinal;
+        frequencies[index] = frequency;
+        size++;
+    }
+
+    /**
+     * Removes an ordinal if present.
+     *
+     * @param ordinal The recipe ordinal
+     */
+    public void remove(int ordinal) {
+        int pos = Arrays.binarySearch(ordinals, 0, size, ordinal);
+        if (pos < 0) {
+            return;
+        }
+        System.arraycopy(ordinals, pos + 1, ordinals, pos, size - pos - 1);
+        System.arraycopy(frequencies, pos + 1, frequencies, pos, size - pos - 1);
+        size--;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int ordinalAt(int index) {
+        return ordinals[index];
+    }
+
+    public int frequencyAt(int index) {
+        return frequencies[index];
+    }
+}
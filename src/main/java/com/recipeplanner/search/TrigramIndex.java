@@ -0,0 +1,244 @@
+package com.recipeplanner.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Character-trigram index for substring and typo-tolerant lookup.
+ *
+ * Two structures are kept:
+ * - text trigrams: every 3-character window of a recipe's lowercased name and
+ *   ingredient text maps to the recipe ordinals containing it, so any substring
+ *   of 3+ characters (including ones starting mid-word) is answered by
+ *   intersecting posting lists and verifying the survivors
+ * - word trigrams: every padded trigram of a vocabulary word maps to the words
+ *   containing it, so misspelled words ("panner") are matched by trigram
+ *   overlap before an edit-distance check
+ *
+ * Not thread-safe on its own; {@link RecipeSearchIndex} guards it with its lock.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+class TrigramIndex {
+
+    private static final char PAD = '$';
+
+    private final Map<String, PostingList> textGrams = new HashMap<>();
+    private final Map<String, Set<String>> wordGrams = new HashMap<>();
+
+    /**
+     * Indexes the trigrams of a recipe's searchable text.
+     *
+     * @param ordinal The recipe ordinal
+     * @param text Lowercased searchable text
+     */
+    void addText(int ordinal, String text) {
+        for (String gram : distinctGrams(text)) {
+            textGrams.computeIfAbsent(gram, g -> new PostingList()).add(ordinal);
+        }
+    }
+
+    /**
+     * Removes a recipe's text trigrams.
+     *
+     * @param ordinal The recipe ordinal
+     * @param text The text the recipe was indexed with
+     */
+    void removeText(int ordinal, String text) {
+        for (String gram : distinctGrams(text)) {
+            PostingList list = textGrams.get(gram);
+            if (list != null) {
+                list.remove(ordinal);
+                if (list.isEmpty()) {
+                    textGrams.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds a word to the fuzzy-match vocabulary.
+     *
+     * @param word Lowercased token
+     */
+    void addWord(String word) {
+        for (String gram : distinctGrams(pad(word))) {
+            wordGrams.computeIfAbsent(gram, g -> new HashSet<>()).add(word);
+        }
+    }
+
+    /**
+     * Removes a word from the fuzzy-match vocabulary.
+     *
+     * @param word Lowercased token
+     */
+    void removeWord(String word) {
+        for (String gram : distinctGrams(pad(word))) {
+            Set<String> words = wordGrams.get(gram);
+            if (words != null) {
+                words.remove(word);
+                if (words.isEmpty()) {
+                    wordGrams.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds candidate ordinals whose text contains every trigram of the phrase.
+     * Candidates still need a contains() check, since the trigrams may occur
+     * in a different order.
+     *
+     * @param phrase Lowercased phrase of at least 3 characters
+     * @return Sorted candidate ordinals
+     */
+    int[] substringCandidates(String phrase) {
+        List<int[]> lists = new ArrayList<>();
+        for (String gram : distinctGrams(phrase)) {
+            PostingList list = textGrams.get(gram);
+            if (list == null) {
+                return new int[0];
+            }
+            lists.add(list.toArray());
+        }
+
+        lists.sort((a, b) -> Integer.compare(a.length, b.length));
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = PostingList.intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Finds vocabulary words within maxEdits of the query word.
+     * Words sharing too few padded trigrams are skipped before the
+     * edit distance is computed (q-gram lemma: each edit destroys at most 3).
+     *
+     * @param word Lowercased query word
+     * @param maxEdits Maximum Levenshtein distance
+     * @return Matching words mapped to their edit distance
+     */
+    Map<String, Integer> similarWords(String word, int maxEdits) {
+        Set<String> queryGrams = distinctGrams(pad(word));
+        int minShared = Math.max(1, queryGrams.size() - 3 * maxEdits);
+
+        Map<String, Integer> shared = new HashMap<>();
+        for (String gram : queryGrams) {
+            Set<String> words = wordGrams.get(gram);
+            if (words != null) {
+                for (String candidate : words) {
+                    shared.merge(candidate, 1, Integer::sum);
+                }
+            }
+        }
+
+        Map<String, Integer> matches = new HashMap<>();
+        for (Map.Entry<String, Integer> entry : shared.entrySet()) {
+            String candidate = entry.getKey();
+            if (entry.getValue() < minShared || Math.abs(candidate.length() - word.length()) > maxEdits) {
+                continue;
+            }
+            int distance = boundedEditDistance(word, candidate, maxEdits);
+            if (distance <= maxEdits) {
+                matches.put(candidate, distance);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Computes the Levenshtein distance, stopping early once it exceeds the bound.
+     *
+     * @return The distance, or maxEdits + 1 if it is larger than maxEdits
+     */
+    static int boundedEditDistance(String a, String b, int maxEdits) {
+        int[] previous = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                current[j] = Math.min(Math.min(current[j - 1] + 1, previous[j] + 1), previous[j - 1] + cost);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return maxEdits + 1;
+            }
+            int[] tmp = previous;
+            previous = current;
+            current = tmp;
+        }
+        return Math.min(previous[b.length()], maxEdits + 1);
+    }
+
+    /**
+     * Gets the number of distinct text trigrams.
+     *
+     * @return The trigram count
+     */
+    int gramCount() {
+        return textGrams.size();
+    }
+
+    private static String pad(String word) {
+        return PAD + word + PAD;
+    }
+
+    private static Set<String> distinctGrams(String text) {
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= text.length(); i++) {
+            grams.add(text.substring(i, i + 3));
+        }
+        return grams;
+    }
+
+    /**
+     * Picks the default edit budget for a word: short words must be exact-ish.
+     *
+     * @param word The query word
+     * @return Maximum edits to allow
+     */
+    static int defaultMaxEdits(String word) {
+        if (word.length() <= 2) {
+            return 0;
+        }
+        return word.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Unions the given sorted ordinal arrays.
+     */
+    static int[] union(List<int[]> lists) {
+        int total = 0;
+        for (int[] list : lists) {
+            total += list.length;
+        }
+        int[] all = new int[total];
+        int n = 0;
+        for (int[] list : lists) {
+            System.arraycopy(list, 0, all, n, list.length);
+            n += list.length;
+        }
+        Arrays.sort(all);
+        int unique = 0;
+        for (int i = 0; i < all.length; i++) {
+            if (i == 0 || all[i] != all[i - 1]) {
+                all[unique++] = all[i];
+            }
+        }
+        return Arrays.copyOf(all, unique);
+    }
+}
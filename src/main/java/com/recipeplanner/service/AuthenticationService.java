@@ -83,8 +83,11 @@ public class AuthenticationService {
             // Create RegularUser object (demonstrates polymorphism - Module 5)
             RegularUser newUser = new RegularUser(username.trim(), hashedPassword);
             
-            // Save to repository
-            userRepository.save(newUser);
+            // Register atomically; another session may have taken the name meanwhile
+            if (!userRepository.register(newUser)) {
+                throw new AuthenticationException(
+                    "Username '" + username + "' is already taken");
+            }
             
             return newUser;
             
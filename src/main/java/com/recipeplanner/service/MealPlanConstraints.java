@@ -0,0 +1,198 @@
+package com.recipeplanner.service;
+
+import com.recipeplanner.model.MealType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Constraints for generating a weekly meal plan with MealPlanService.
+ * Demonstrates Builder design pattern for complex object construction.
+ *
+ * Maximum cooking time per meal, allowed cuisines and the weekly limit per
+ * cuisine are hard constraints: no plan breaks them. Within them the
+ * generator keeps the shopping list short and avoids repeating a cuisine
+ * on the same day.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public class MealPlanConstraints {
+
+    private static final int DEFAULT_BREAKFAST_MINS = 30;
+    private static final int DEFAULT_LUNCH_MINS = 45;
+    private static final int DEFAULT_DINNER_MINS = 60;
+    private static final int DEFAULT_MAX_MEALS_PER_CUISINE = 7;
+    private static final int DEFAULT_MAX_ITERATIONS = 20000;
+
+    private final Map<MealType, Integer> maxTimeInMins;
+    private final List<String> cuisines;
+    private final int maxMealsPerCuisine;
+    private final int maxIterations;
+    private final Long seed;
+
+    /**
+     * Private constructor - use ConstraintsBuilder to create instances.
+     *
+     * @param builder The builder containing the constraint values
+     */
+    private MealPlanConstraints(ConstraintsBuilder builder) {
+        this.maxTimeInMins = new EnumMap<>(builder.maxTimeInMins);
+        this.cuisines = Collections.unmodifiableList(new ArrayList<>(builder.cuisines));
+        this.maxMealsPerCuisine = builder.maxMealsPerCuisine;
+        this.maxIterations = builder.maxIterations;
+        this.seed = builder.seed;
+    }
+
+    /**
+     * Gets the longest total cooking time allowed for a meal.
+     *
+     * @param mealType The meal
+     * @return Maximum minutes
+     */
+    public int getMaxTimeInMins(MealType mealType) {
+        return maxTimeInMins.get(mealType);
+    }
+
+    /**
+     * Gets the cuisines recipes may come from.
+     *
+     * @return Cuisine names; empty if every cuisine is allowed
+     */
+    public List<String> getCuisines() {
+        return cuisines;
+    }
+
+    /**
+     * Gets how many meals of the week may share a cuisine.
+     *
+     * @return The weekly limit per cuisine
+     */
+    public int getMaxMealsPerCuisine() {
+        return maxMealsPerCuisine;
+    }
+
+    /**
+     * Gets how many improvement steps the generator may try.
+     *
+     * @return The iteration bound
+     */
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    /**
+     * Gets the random seed, for reproducible plans.
+     *
+     * @return The seed, or null for a different plan each time
+     */
+    public Long getSeed() {
+        return seed;
+    }
+
+    /**
+     * Builder pattern inner class for constructing MealPlanConstraints objects.
+     */
+    public static class ConstraintsBuilder {
+        private final Map<MealType, Integer> maxTimeInMins = new EnumMap<>(MealType.class);
+        private final List<String> cuisines = new ArrayList<>();
+        private int maxMealsPerCuisine = DEFAULT_MAX_MEALS_PER_CUISINE;
+        private int maxIterations = DEFAULT_MAX_ITERATIONS;
+        private Long seed;
+
+        /**
+         * Constructor with the default times: 30 minutes for breakfast,
+         * 45 for lunch and 60 for dinner.
+         */
+        public ConstraintsBuilder() {
+            maxTimeInMins.put(MealType.BREAKFAST, DEFAULT_BREAKFAST_MINS);
+            maxTimeInMins.put(MealType.LUNCH, DEFAULT_LUNCH_MINS);
+            maxTimeInMins.put(MealType.DINNER, DEFAULT_DINNER_MINS);
+        }
+
+        /**
+         * Sets the longest total cooking time allowed for a meal.
+         *
+         * @param mealType The meal
+         * @param maxMins Maximum minutes
+         * @return This builder for method chaining
+         */
+        public ConstraintsBuilder withMaxTime(MealType mealType, int maxMins) {
+            if (maxMins < 1) {
+                throw new IllegalArgumentException("Maximum time must be at least 1 minute");
+            }
+            maxTimeInMins.put(mealType, maxMins);
+            return this;
+        }
+
+        /**
+         * Restricts recipes to the given cuisines.
+         *
+         * @param cuisines Cuisine names (case-insensitive); null or empty for all
+         * @return This builder for method chaining
+         */
+        public ConstraintsBuilder withCuisines(List<String> cuisines) {
+            if (cuisines != null) {
+                for (String cuisine : cuisines) {
+                    if (cuisine != null && !cuisine.trim().isEmpty()) {
+                        this.cuisines.add(cuisine.trim());
+                    }
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Limits how many meals of the week may share a cuisine.
+         * With too few allowed cuisines to fill the week under the limit,
+         * the remaining meals are left empty.
+         *
+         * @param maxMeals The weekly limit per cuisine
+         * @return This builder for method chaining
+         */
+        public ConstraintsBuilder withMaxMealsPerCuisine(int maxMeals) {
+            if (maxMeals < 1) {
+                throw new IllegalArgumentException("Meals per cuisine must be at least 1");
+            }
+            this.maxMealsPerCuisine = maxMeals;
+            return this;
+        }
+
+        /**
+         * Bounds the improvement steps of the generator.
+         *
+         * @param maxIterations The iteration bound; 0 keeps the first plan found
+         * @return This builder for method chaining
+         */
+        public ConstraintsBuilder withMaxIterations(int maxIterations) {
+            if (maxIterations < 0) {
+                throw new IllegalArgumentException("Iterations cannot be negative");
+            }
+            this.maxIterations = maxIterations;
+            return this;
+        }
+
+        /**
+         * Fixes the random seed, so the same constraints give the same plan.
+         *
+         * @param seed The seed
+         * @return This builder for method chaining
+         */
+        public ConstraintsBuilder withSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Builds and returns the MealPlanConstraints object.
+         *
+         * @return The constructed constraints
+         */
+        public MealPlanConstraints build() {
+            return new MealPlanConstraints(this);
+        }
+    }
+}
@@ -0,0 +1,365 @@
+package com.recipeplanner.service;
+
+import com.recipeplanner.model.Ingredient;
+import com.recipeplanner.model.MealPlan;
+import com.recipeplanner.model.MealType;
+import com.recipeplanner.model.Recipe;
+import com.recipeplanner.model.RecipeIngredients;
+import com.recipeplanner.search.RecipeFilter;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Fills a MealPlan with recipes under MealPlanConstraints.
+ *
+ * Candidates for each meal come from the search index's cuisine and time
+ * bitmaps (RecipeService.filterRecipes), shuffled and capped at POOL_SIZE.
+ * A plan is scored by its ingredients: each distinct one adds to the score
+ * and each further use of one takes a little off, so plans whose recipes
+ * share ingredients score lowest and need the shortest shopping list.
+ * Each pair of meals on the same day sharing a cuisine adds a penalty.
+ * No recipe is used twice, and no cuisine more often than the weekly limit;
+ * meals the limit leaves no candidate for stay empty.
+ *
+ * The first plan is built greedily, each meal taking the cheapest of a few
+ * sampled candidates. It is then improved by a bounded local search: each
+ * step either replaces one meal with a random candidate or swaps the same
+ * meal between two days, and is kept unless it raises the score. Scores are
+ * updated incrementally from per-ingredient and per-cuisine counters, so a
+ * step costs about as much as reading two recipes' ingredient IDs.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+class MealPlanGenerator {
+
+    // Candidates kept per meal; more finds more overlap but costs more to prepare
+    private static final int POOL_SIZE = 800;
+
+    // Candidates sampled for each meal of the first plan
+    private static final int GREEDY_SAMPLE = 64;
+
+    // Score of an ingredient the plan does not need yet, and credit for each further use of one.
+    // Scoring distinct ingredients alone favours the shortest recipes (a week of sweets);
+    // the credit makes shared ingredients, not small recipes, what lowers the score
+    private static final int NEW_INGREDIENT_COST = 2;
+    private static final int REUSE_CREDIT = 1;
+
+    // A cuisine repeated on the same day costs as much as three new ingredients
+    private static final int SAME_DAY_CUISINE_PENALTY = 6;
+
+    // Outweighs any ingredient saving, so every meal that can be filled is
+    private static final int EMPTY_SLOT_PENALTY = 1000;
+
+    private static final double SWAP_PROBABILITY = 0.25;
+
+    private static final DayOfWeek[] DAYS = DayOfWeek.values();
+    private static final MealType[] MEALS = MealType.values();
+
+    private final RecipeService recipeService;
+    private final MealPlanConstraints constraints;
+    private final Random random;
+
+    // Candidates, numbered densely: recipe, distinct local ingredient IDs, local cuisine ID
+    private final List<Recipe> recipes = new ArrayList<>();
+    private final List<int[]> ingredientsOf = new ArrayList<>();
+    private int[] cuisineOf;
+    private final int[][] pools = new int[MEALS.length][];
+
+    // Current plan: candidate per slot (day * MEALS.length + meal), or -1
+    private final int[] slots = new int[DAYS.length * MEALS.length];
+    private boolean[] used;
+    private int[] ingredientCounts;
+    private int[] cuisineCounts;
+    private int[][] dayCuisineCounts;
+    private int cuisineLimit;
+
+    // Score parts
+    private int distinctIngredients;
+    private int ingredientUses;
+    private int sameDayCuisinePairs;
+    private int emptySlots;
+
+    private MealPlanGenerator(RecipeService recipeService, MealPlanConstraints constraints) {
+        this.recipeService = recipeService;
+        this.constraints = constraints;
+        this.random = constraints.getSeed() != null ? new Random(constraints.getSeed()) : new Random();
+    }
+
+    /**
+     * Fills every meal of a plan that the constraints allow, replacing any
+     * recipes already in it. Meals no recipe fits are left empty.
+     *
+     * @param plan The plan to fill
+     * @param constraints The constraints to respect
+     * @param recipeService Service providing the indexed recipes and their ingredients
+     */
+    static void fill(MealPlan plan, MealPlanConstraints constraints, RecipeService recipeService) {
+        MealPlanGenerator generator = new MealPlanGenerator(recipeService, constraints);
+        generator.loadCandidates();
+        generator.buildGreedy();
+        generator.improve(constraints.getMaxIterations());
+
+        for (int slot = 0; slot < generator.slots.length; slot++) {
+            int candidate = generator.slots[slot];
+            plan.setRecipe(DAYS[slot / MEALS.length], MEALS[slot % MEALS.length],
+                           candidate >= 0 ? generator.recipes.get(candidate) : null);
+        }
+    }
+
+    /**
+     * Builds the candidate pools and the counters sized to them.
+     */
+    private void loadCandidates() {
+        Map<Integer, Integer> candidateByRecipeId = new HashMap<>();
+        Map<Integer, Integer> localIngredientIds = new HashMap<>();
+        Map<String, Integer> localCuisineIds = new HashMap<>();
+        List<Integer> cuisines = new ArrayList<>();
+
+        for (MealType meal : MEALS) {
+            List<Recipe> matches = new ArrayList<>(recipeService.filterRecipes(new RecipeFilter.FilterBuilder()
+                .withCuisines(constraints.getCuisines())
+                .withTimeRange(1, constraints.getMaxTimeInMins(meal))
+                .build()));
+            Collections.shuffle(matches, random);
+
+            int[] pool = new int[Math.min(matches.size(), POOL_SIZE)];
+            int size = 0;
+            for (int i = 0; i < matches.size() && size < pool.length; i++) {
+                Recipe recipe = matches.get(i);
+                Integer candidate = candidateByRecipeId.get(recipe.getId());
+                if (candidate == null) {
+                    int[] ingredients = localIngredientIds(recipeService.getIngredients(recipe), localIngredientIds);
+                    if (ingredients.length == 0) {
+                        continue;
+                    }
+                    String cuisine = recipe.getCuisine() != null ? recipe.getCuisine().toLowerCase(Locale.ROOT) : "";
+                    candidate = recipes.size();
+                    recipes.add(recipe);
+                    ingredientsOf.add(ingredients);
+                    cuisines.add(localCuisineIds.computeIfAbsent(cuisine, c -> localCuisineIds.size()));
+                    candidateByRecipeId.put(recipe.getId(), candidate);
+                }
+                pool[size++] = candidate;
+            }
+            pools[meal.ordinal()] = Arrays.copyOf(pool, size);
+        }
+
+        cuisineOf = new int[cuisines.size()];
+        for (int i = 0; i < cuisineOf.length; i++) {
+            cuisineOf[i] = cuisines.get(i);
+        }
+        used = new boolean[recipes.size()];
+        ingredientCounts = new int[localIngredientIds.size()];
+        cuisineCounts = new int[localCuisineIds.size()];
+        dayCuisineCounts = new int[DAYS.length][localCuisineIds.size()];
+        cuisineLimit = constraints.getMaxMealsPerCuisine();
+
+        Arrays.fill(slots, -1);
+        emptySlots = slots.length;
+    }
+
+    /**
+     * Maps a recipe's ingredients to sorted, distinct local IDs.
+     */
+    private static int[] localIngredientIds(RecipeIngredients ingredients, Map<Integer, Integer> localIds) {
+        int[] ids = new int[ingredients.size()];
+        int count = 0;
+        for (int i = 0; i < ingredients.size(); i++) {
+            Ingredient ingredient = ingredients.getIngredient(i);
+            if (ingredient != null) {
+                ids[count++] = localIds.computeIfAbsent(ingredient.getId(), id -> localIds.size());
+            }
+        }
+        Arrays.sort(ids, 0, count);
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || ids[i] != ids[distinct - 1]) {
+                ids[distinct++] = ids[i];
+            }
+        }
+        return Arrays.copyOf(ids, distinct);
+    }
+
+    /**
+     * Fills each meal in turn with the cheapest of a few sampled candidates,
+     * falling back to the first allowed one if the sample has none.
+     */
+    private void buildGreedy() {
+        for (int slot = 0; slot < slots.length; slot++) {
+            int[] pool = pools[slot % MEALS.length];
+            if (pool.length == 0) {
+                continue;
+            }
+
+            int best = -1;
+            int bestCost = Integer.MAX_VALUE;
+            for (int i = 0; i < GREEDY_SAMPLE; i++) {
+                int candidate = pool[random.nextInt(pool.length)];
+                if (!isAllowed(candidate, -1)) {
+                    continue;
+                }
+                int cost = additionCost(slot, candidate);
+                if (cost < bestCost) {
+                    best = candidate;
+                    bestCost = cost;
+                }
+            }
+            for (int i = 0; best < 0 && i < pool.length; i++) {
+                if (isAllowed(pool[i], -1)) {
+                    best = pool[i];
+                }
+            }
+            if (best >= 0) {
+                place(slot, best);
+            }
+        }
+    }
+
+    /**
+     * Tries up to maxIterations random moves, keeping each one that does
+     * not raise the score. Keeping equal moves lets the search cross plateaus.
+     */
+    private void improve(int maxIterations) {
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+            if (random.nextDouble() < SWAP_PROBABILITY) {
+                trySwap();
+            } else {
+                tryReplace();
+            }
+        }
+    }
+
+    /**
+     * Replaces one meal with a random candidate for it.
+     */
+    private void tryReplace() {
+        int slot = random.nextInt(slots.length);
+        int[] pool = pools[slot % MEALS.length];
+        if (pool.length == 0) {
+            return;
+        }
+        int candidate = pool[random.nextInt(pool.length)];
+        int current = slots[slot];
+        if (!isAllowed(candidate, current)) {
+            return;
+        }
+
+        int before = score();
+        if (current >= 0) {
+            remove(slot);
+        }
+        place(slot, candidate);
+        if (score() > before) {
+            remove(slot);
+            if (current >= 0) {
+                place(slot, current);
+            }
+        }
+    }
+
+    /**
+     * Swaps the same meal between two days. The recipes and so the
+     * ingredients stay the same; only same-day cuisine repeats can change.
+     */
+    private void trySwap() {
+        int meal = random.nextInt(MEALS.length);
+        int first = random.nextInt(DAYS.length) * MEALS.length + meal;
+        int second = random.nextInt(DAYS.length) * MEALS.length + meal;
+        int a = slots[first];
+        int b = slots[second];
+        if (first == second || a < 0 || b < 0) {
+            return;
+        }
+
+        int before = score();
+        exchange(first, second, a, b);
+        if (score() > before) {
+            exchange(first, second, b, a);
+        }
+    }
+
+    private void exchange(int first, int second, int a, int b) {
+        remove(first);
+        remove(second);
+        place(first, b);
+        place(second, a);
+    }
+
+    /**
+     * Checks the hard constraints for putting a candidate in place of another.
+     *
+     * @param candidate The candidate to add
+     * @param replaced The candidate it replaces, or -1
+     */
+    private boolean isAllowed(int candidate, int replaced) {
+        if (used[candidate]) {
+            return false;
+        }
+        int cuisine = cuisineOf[candidate];
+        int sameCuisine = replaced >= 0 && cuisineOf[replaced] == cuisine ? 1 : 0;
+        return cuisineCounts[cuisine] - sameCuisine < cuisineLimit;
+    }
+
+    /**
+     * Score added by putting a candidate in an empty slot.
+     */
+    private int additionCost(int slot, int candidate) {
+        int[] ingredients = ingredientsOf.get(candidate);
+        int added = 0;
+        for (int ingredient : ingredients) {
+            if (ingredientCounts[ingredient] == 0) {
+                added++;
+            }
+        }
+        return NEW_INGREDIENT_COST * added - REUSE_CREDIT * (ingredients.length - added)
+               + SAME_DAY_CUISINE_PENALTY * dayCuisineCounts[slot / MEALS.length][cuisineOf[candidate]];
+    }
+
+    private int score() {
+        return NEW_INGREDIENT_COST * distinctIngredients - REUSE_CREDIT * (ingredientUses - distinctIngredients)
+               + SAME_DAY_CUISINE_PENALTY * sameDayCuisinePairs
+               + EMPTY_SLOT_PENALTY * emptySlots;
+    }
+
+    private void place(int slot, int candidate) {
+        slots[slot] = candidate;
+        used[candidate] = true;
+        emptySlots--;
+        ingredientUses += ingredientsOf.get(candidate).length;
+        for (int ingredient : ingredientsOf.get(candidate)) {
+            if (ingredientCounts[ingredient]++ == 0) {
+                distinctIngredients++;
+            }
+        }
+        int cuisine = cuisineOf[candidate];
+        int[] dayCounts = dayCuisineCounts[slot / MEALS.length];
+        sameDayCuisinePairs += dayCounts[cuisine]++;
+        cuisineCounts[cuisine]++;
+    }
+
+    private void remove(int slot) {
+        int candidate = slots[slot];
+        slots[slot] = -1;
+        used[candidate] = false;
+        emptySlots++;
+        ingredientUses -= ingredientsOf.get(candidate).length;
+        for (int ingredient : ingredientsOf.get(candidate)) {
+            if (--ingredientCounts[ingredient] == 0) {
+                distinctIngredients--;
+            }
+        }
+        int cuisine = cuisineOf[candidate];
+        int[] dayCounts = dayCuisineCounts[slot / MEALS.length];
+        sameDayCuisinePairs -= --dayCounts[cuisine];
+        cuisineCounts[cuisine]--;
+    }
+}
@@ -0,0 +1,131 @@
+package com.recipeplanner.service;
+
+import com.recipeplanner.repository.MealPlanRepository;
+import com.recipeplanner.repository.RepositoryManager;
+import com.recipeplanner.model.MealPlan;
+import com.recipeplanner.model.RegularUser;
+import com.recipeplanner.model.User;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service class for weekly meal plans.
+ * Generates plans from the indexed recipes and stores them per user.
+ * Demonstrates service layer pattern and business logic separation.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public class MealPlanService {
+
+    private static final DateTimeFormatter PLAN_NAME_FORMAT = DateTimeFormatter.ofPattern("d MMM yyyy");
+
+    private final RecipeService recipeService;
+    private final MealPlanRepository mealPlanRepository;
+
+    /**
+     * Constructor with service and repository dependency injection.
+     *
+     * @param recipeService Service providing the indexed recipes and their ingredients
+     * @param mealPlanRepository The meal plan repository
+     */
+    public MealPlanService(RecipeService recipeService, MealPlanRepository mealPlanRepository) {
+        this.recipeService = recipeService;
+        this.mealPlanRepository = mealPlanRepository;
+    }
+
+    /**
+     * Constructor using the singleton RepositoryManager's meal plan repository.
+     *
+     * @param recipeService Service providing the indexed recipes and their ingredients
+     */
+    public MealPlanService(RecipeService recipeService) {
+        this(recipeService, RepositoryManager.getInstance().getMealPlanRepository());
+    }
+
+    /**
+     * Generates a plan for the coming week, starting next Monday
+     * (or today, if today is Monday).
+     *
+     * @param constraints The constraints to respect
+     * @return A new, unsaved plan
+     */
+    public MealPlan generatePlan(MealPlanConstraints constraints) {
+        return generatePlan(constraints, LocalDate.now().with(TemporalAdjusters.nextOrSame(DayOfWeek.MONDAY)));
+    }
+
+    /**
+     * Generates a plan for the week starting on the given date.
+     * Meals that no recipe fits under the constraints are left empty.
+     *
+     * @param constraints The constraints to respect
+     * @param weekStart The first day of the plan
+     * @return A new, unsaved plan
+     */
+    public MealPlan generatePlan(MealPlanConstraints constraints, LocalDate weekStart) {
+        if (constraints == null || weekStart == null) {
+            throw new IllegalArgumentException("Constraints and week start cannot be null");
+        }
+        MealPlan plan = new MealPlan(0, "Week of " + weekStart.format(PLAN_NAME_FORMAT), weekStart);
+        MealPlanGenerator.fill(plan, constraints, recipeService);
+        return plan;
+    }
+
+    /**
+     * Saves a plan for a user. A new plan counts towards a regular user's
+     * meal plan count.
+     *
+     * @param plan The plan to save
+     * @param user The owner of the plan
+     * @return The saved plan with ID assigned
+     * @throws IllegalArgumentException if the plan has no meals
+     */
+    public MealPlan savePlan(MealPlan plan, User user) {
+        if (plan.getMealCount() == 0) {
+            throw new IllegalArgumentException("Meal plan has no meals");
+        }
+        boolean isNew = plan.getId() == 0;
+        plan.setUserId(user.getId());
+        MealPlan saved = mealPlanRepository.save(plan);
+        if (isNew && saved.getId() != 0 && user instanceof RegularUser) {
+            ((RegularUser) user).incrementMealPlanCount();
+        }
+        return saved;
+    }
+
+    /**
+     * Gets a plan by ID.
+     *
+     * @param planId The plan ID
+     * @return The plan, or null if not found
+     */
+    public MealPlan getPlanById(int planId) {
+        Optional<MealPlan> plan = mealPlanRepository.findById(planId);
+        return plan.orElse(null);
+    }
+
+    /**
+     * Gets all plans of a user, latest week first.
+     *
+     * @param userId The user ID
+     * @return List of the user's plans
+     */
+    public List<MealPlan> getUserPlans(int userId) {
+        return mealPlanRepository.findByUserId(userId);
+    }
+
+    /**
+     * Deletes a plan by ID.
+     *
+     * @param planId The plan ID to delete
+     * @return true if deletion was successful
+     */
+    public boolean deletePlan(int planId) {
+        return mealPlanRepository.delete(planId);
+    }
+}
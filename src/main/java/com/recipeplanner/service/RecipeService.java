@@ -1,11 +1,28 @@
 package com.recipeplanner.service;
 
+import com.recipeplanner.repository.IngredientRepository;
+import com.recipeplanner.repository.RecipeOrder;
+import com.recipeplanner.repository.RecipePage;
 import com.recipeplanner.repository.RecipeRepository;
 import com.recipeplanner.repository.RepositoryManager;
 import com.recipeplanner.model.Recipe;
+import com.recipeplanner.model.RecipeIngredients;
+import com.recipeplanner.model.RecipeSummary;
+import com.recipeplanner.search.AutocompleteIndex;
+import com.recipeplanner.search.PantryMatcher;
+import com.recipeplanner.search.RecipeFilter;
+import com.recipeplanner.search.RecipeSearchIndex;
+import com.recipeplanner.util.IngredientQuantityParser;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Service class for recipe-related business operations.
@@ -18,6 +35,28 @@ import java.util.Optional;
 public class RecipeService {
 
     private final RecipeRepository recipeRepository;
+    private final RecipeSearchIndex searchIndex;
+    private final IngredientRepository ingredientRepository;
+    
+    // Upper bound for getQuickRecipes
+    private static final int QUICK_RECIPE_MAX_MINS = 30;
+    
+    // Backend for name/ingredient search
+    // (-Drecipeplanner.search.strategy=DATABASE|INVERTED_INDEX|TRIGRAM|FULLTEXT)
+    private volatile SearchStrategy searchStrategy = defaultSearchStrategy();
+    
+    // Prefix completions, rebuilt in the background when the search index changes;
+    // selections are added at query time and never trigger a rebuild
+    private volatile AutocompleteIndex autocompleteIndex;
+    private volatile long autocompleteVersion = -1;
+    private final Map<String, Integer> suggestionSelections = new ConcurrentHashMap<>();
+    private final Object autocompleteLock = new Object();
+    private final AtomicBoolean autocompleteRebuilding = new AtomicBoolean();
+    
+    // Pantry ("what can I cook") matcher, rebuilt when the search index changes
+    private volatile PantryMatcher pantryMatcher;
+    private volatile long pantryMatcherVersion = -1;
+    private final Object pantryMatcherLock = new Object();
 
     /**
      * Constructor with RecipeRepository dependency injection.
@@ -25,14 +64,58 @@ public class RecipeService {
      * @param recipeRepository The recipe repository
      */
     public RecipeService(RecipeRepository recipeRepository) {
+        this(recipeRepository, new RecipeSearchIndex());
+    }
+
+    /**
+     * Constructor with repository and search index dependency injection.
+     * 
+     * @param recipeRepository The recipe repository
+     * @param searchIndex The in-memory search index kept in sync with the repository
+     */
+    public RecipeService(RecipeRepository recipeRepository, RecipeSearchIndex searchIndex) {
+        this(recipeRepository, searchIndex, new IngredientRepository());
+    }
+
+    /**
+     * Constructor with repository, search index and ingredient repository dependency injection.
+     * 
+     * @param recipeRepository The recipe repository
+     * @param searchIndex The in-memory search index kept in sync with the repository
+     * @param ingredientRepository The repository assigning ingredient IDs for pantry matching
+     */
+    public RecipeService(RecipeRepository recipeRepository, RecipeSearchIndex searchIndex,
+                         IngredientRepository ingredientRepository) {
         this.recipeRepository = recipeRepository;
+        this.searchIndex = searchIndex;
+        this.ingredientRepository = ingredientRepository;
     }
 
     /**
      * Default constructor that uses singleton RepositoryManager.
      */
     public RecipeService() {
-        this.recipeRepository = RepositoryManager.getInstance().getRecipeRepository();
+        this(RepositoryManager.getInstance().getRecipeRepository(),
+             RepositoryManager.getInstance().getRecipeSearchIndex(),
+             RepositoryManager.getInstance().getIngredientRepository());
+    }
+
+    /**
+     * Gets the search index, loading it from the repository on first use.
+     * 
+     * @return The loaded search index
+     */
+    private RecipeSearchIndex getSearchIndex() {
+        if (!searchIndex.isLoaded()) {
+            synchronized (searchIndex) {
+                if (!searchIndex.isLoaded()) {
+                    try (Stream<Recipe> recipes = recipeRepository.streamAll()) {
+                        searchIndex.rebuild(recipes::iterator);
+                    }
+                }
+            }
+        }
+        return searchIndex;
     }
 
     /**
@@ -58,11 +141,11 @@ public class RecipeService {
         // Demonstrates String handling (Module 3)
         switch (searchType.toLowerCase()) {
             case "name":
-                return recipeRepository.searchByName(searchTerm);
+                return searchText(searchTerm);
             
             case "ingredient":
                 // Search in rawIngredientsText
-                return recipeRepository.searchByName(searchTerm);
+                return searchText(searchTerm);
             
             case "cuisine":
                 return recipeRepository.findByCuisine(searchTerm);
@@ -75,6 +158,195 @@ public class RecipeService {
         }
     }
 
+    /**
+     * Searches recipe names and ingredient text with the configured strategy.
+     * 
+     * @param searchTerm The search term
+     * @return List of matching recipes
+     */
+    private List<Recipe> searchText(String searchTerm) {
+        switch (searchStrategy) {
+            case DATABASE:
+                return recipeRepository.searchByName(searchTerm);
+            
+            case FULLTEXT:
+                // Every word required, last one as a prefix, like the word index
+                return recipeRepository.searchFullText(searchTerm, true, Integer.MAX_VALUE);
+            
+            case TRIGRAM:
+                List<Recipe> results = getSearchIndex().searchSubstring(searchTerm);
+                if (results.isEmpty()) {
+                    // Nothing contains the term - try spelling variants
+                    results = getSearchIndex().searchFuzzy(searchTerm);
+                }
+                return results;
+            
+            case INVERTED_INDEX:
+            default:
+                return getSearchIndex().search(searchTerm);
+        }
+    }
+
+    /**
+     * Gets the backend used for name and ingredient search.
+     * 
+     * @return The current search strategy
+     */
+    public SearchStrategy getSearchStrategy() {
+        return searchStrategy;
+    }
+
+    /**
+     * Sets the backend used for name and ingredient search.
+     * 
+     * @param searchStrategy The strategy to use
+     * @throws IllegalArgumentException if searchStrategy is null
+     */
+    public void setSearchStrategy(SearchStrategy searchStrategy) {
+        if (searchStrategy == null) {
+            throw new IllegalArgumentException("Search strategy cannot be null");
+        }
+        this.searchStrategy = searchStrategy;
+    }
+
+    /**
+     * Reads the default search strategy from system properties.
+     */
+    private static SearchStrategy defaultSearchStrategy() {
+        SearchStrategy configured = SearchStrategy.fromString(System.getProperty("recipeplanner.search.strategy"));
+        return configured != null ? configured : SearchStrategy.INVERTED_INDEX;
+    }
+
+    /**
+     * Searches name, cuisine and ingredients and returns the best matches first.
+     * Uses BM25 scores precomputed in the search index instead of
+     * calling Recipe.getRelevanceScore on every recipe. With the FULLTEXT
+     * strategy, MySQL's natural-language relevance over name and ingredients
+     * is used instead.
+     * 
+     * @param searchTerm The search term
+     * @param topK Maximum number of results to return
+     * @return Up to topK recipes ordered by descending relevance
+     */
+    public List<Recipe> searchRecipesRanked(String searchTerm, int topK) {
+        if (searchTerm == null || searchTerm.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (searchStrategy == SearchStrategy.FULLTEXT) {
+            return recipeRepository.searchFullText(searchTerm, false, topK);
+        }
+        return getSearchIndex().searchRanked(searchTerm, topK);
+    }
+
+    /**
+     * Suggests completions for text typed into the search box.
+     * Served from an in-memory prefix index, so it can run on every keystroke
+     * without touching the database.
+     * 
+     * @param prefix The text typed so far
+     * @param limit Maximum number of suggestions
+     * @return Recipe names, cuisines and ingredients, most popular first
+     */
+    public List<AutocompleteIndex.Suggestion> getSuggestions(String prefix, int limit) {
+        if (prefix == null || prefix.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+        return getAutocompleteIndex().complete(prefix, limit, suggestionSelections);
+    }
+
+    /**
+     * Builds the autocomplete index ahead of the first keystroke.
+     * Intended to run off the Event Dispatch Thread, e.g. right after seeding.
+     */
+    public void prepareSuggestions() {
+        rebuildAutocompleteIndex();
+    }
+
+    /**
+     * Records that the user picked a suggestion, making it rank higher next time.
+     * 
+     * @param suggestionText The text of the chosen suggestion
+     */
+    public void recordSuggestionSelection(String suggestionText) {
+        if (suggestionText == null || suggestionText.trim().isEmpty()) {
+            return;
+        }
+        suggestionSelections.merge(suggestionText.trim().toLowerCase(), 1, Integer::sum);
+    }
+
+    /**
+     * Gets the autocomplete index. It is only built here if prepareSuggestions
+     * was never called; when the recipes have changed, the current index keeps
+     * serving while a new one is built in the background.
+     */
+    private AutocompleteIndex getAutocompleteIndex() {
+        AutocompleteIndex current = autocompleteIndex;
+        if (current == null) {
+            return rebuildAutocompleteIndex();
+        }
+        if (autocompleteVersion != getSearchIndex().getVersion()
+                && autocompleteRebuilding.compareAndSet(false, true)) {
+            CompletableFuture.runAsync(() -> {
+                try {
+                    rebuildAutocompleteIndex();
+                } finally {
+                    autocompleteRebuilding.set(false);
+                }
+            });
+        }
+        return current;
+    }
+
+    /**
+     * Builds the autocomplete index if it is missing or older than the search index.
+     */
+    private AutocompleteIndex rebuildAutocompleteIndex() {
+        RecipeSearchIndex index = getSearchIndex();
+        synchronized (autocompleteLock) {
+            long version = index.getVersion();
+            if (autocompleteIndex == null || autocompleteVersion != version) {
+                autocompleteIndex = AutocompleteIndex.build(index.getRecipes(), ingredientRepository);
+                autocompleteVersion = version;
+            }
+            return autocompleteIndex;
+        }
+    }
+
+    /**
+     * Finds recipes that can be cooked with the ingredients the user has.
+     * 
+     * @param pantry Ingredient names the user has
+     * @param maxMissing Maximum number of recipe ingredients the user may lack
+     * @param limit Maximum number of results
+     * @return Matches with the fewest missing ingredients first
+     */
+    public List<PantryMatcher.PantryMatch> findRecipesByPantry(List<String> pantry, int maxMissing, int limit) {
+        if (pantry == null || pantry.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (maxMissing < 0) {
+            throw new IllegalArgumentException("Allowed missing ingredients cannot be negative");
+        }
+        return getPantryMatcher().match(pantry, maxMissing, limit);
+    }
+
+    /**
+     * Gets the pantry matcher, rebuilding it if the recipes have changed.
+     */
+    private PantryMatcher getPantryMatcher() {
+        RecipeSearchIndex index = getSearchIndex();
+        if (pantryMatcher == null || pantryMatcherVersion != index.getVersion()) {
+            synchronized (pantryMatcherLock) {
+                long version = index.getVersion();
+                if (pantryMatcher == null || pantryMatcherVersion != version) {
+                    pantryMatcher = PantryMatcher.build(index.getRecipes(), ingredientRepository);
+                    pantryMatcherVersion = version;
+                }
+            }
+        }
+        return pantryMatcher;
+    }
+
     /**
      * Gets all recipes created by a specific user.
      * 
@@ -85,6 +357,16 @@ public class RecipeService {
         return recipeRepository.findByCreatedBy(userId);
     }
 
+    /**
+     * Gets summaries of all recipes created by a specific user.
+     * 
+     * @param userId The user ID
+     * @return List of the user's recipe summaries
+     */
+    public List<RecipeSummary> getUserRecipeSummaries(int userId) {
+        return recipeRepository.findSummariesByCreatedBy(userId);
+    }
+
     /**
      * Gets a recipe by its ID with full details.
      * 
@@ -96,6 +378,23 @@ public class RecipeService {
         return recipe.orElse(null);
     }
 
+    /**
+     * Gets the structured ingredient entries of a recipe.
+     * Recipes imported from the CSV dataset were parsed at import; others,
+     * such as those read from MySQL, are parsed now and keep the result.
+     * 
+     * @param recipe The recipe
+     * @return The parsed entries; empty if the recipe has no ingredient text
+     */
+    public RecipeIngredients getIngredients(Recipe recipe) {
+        RecipeIngredients ingredients = recipe.getIngredients();
+        if (ingredients == null) {
+            ingredients = IngredientQuantityParser.parse(recipe.getRawIngredientsText(), ingredientRepository);
+            recipe.setIngredients(ingredients);
+        }
+        return ingredients;
+    }
+
     /**
      * Gets all recipes.
      * 
@@ -105,6 +404,20 @@ public class RecipeService {
         return recipeRepository.findAll();
     }
 
+    /**
+     * Passes every recipe to the action without loading them all into memory.
+     * Use for statistics and exports over the whole catalogue.
+     * 
+     * @param action Called once per recipe
+     * @return The number of recipes processed
+     */
+    public int forEachRecipe(Consumer<Recipe> action) {
+        if (action == null) {
+            throw new IllegalArgumentException("Action cannot be null");
+        }
+        return recipeRepository.forEachRecipe(action);
+    }
+
     /**
      * Saves a recipe (insert if new, update if existing).
      * Validates that recipe meets minimum requirements.
@@ -116,7 +429,14 @@ public class RecipeService {
     public Recipe saveRecipe(Recipe recipe) {
         // Validate recipe
         validateRecipe(recipe);
-        return recipeRepository.save(recipe);
+        // Only index what was actually written
+        boolean written = recipe.getId() == 0
+            ? recipeRepository.save(recipe).getId() != 0
+            : recipeRepository.update(recipe);
+        if (written && searchIndex.isLoaded()) {
+            searchIndex.index(recipe);
+        }
+        return recipe;
     }
 
     /**
@@ -126,16 +446,23 @@ public class RecipeService {
      * @return true if deletion was successful
      */
     public boolean deleteRecipe(int recipeId) {
-        return recipeRepository.delete(recipeId);
+        boolean deleted = recipeRepository.delete(recipeId);
+        if (deleted) {
+            searchIndex.remove(recipeId);
+        }
+        return deleted;
     }
 
     /**
-     * Gets quick recipes (under 30 minutes).
+     * Gets quick recipes (30 minutes or less).
      * 
-     * @return List of all recipes (filtering can be added later)
+     * @return Quick recipes, fastest first
      */
     public List<Recipe> getQuickRecipes() {
-        return recipeRepository.findAll();
+        return filterRecipes(new RecipeFilter.FilterBuilder()
+            .withMaxTime(QUICK_RECIPE_MAX_MINS)
+            .sortedByTime()
+            .build());
     }
 
     /**
@@ -148,7 +475,45 @@ public class RecipeService {
         if (cuisines == null || cuisines.isEmpty()) {
             return recipeRepository.findAll();
         }
-        return recipeRepository.findByCuisine(cuisines.get(0));
+        return filterRecipes(new RecipeFilter.FilterBuilder().withCuisines(cuisines).build());
+    }
+
+    /**
+     * Searches for recipes by cuisines, maximum cooking time and an optional search term.
+     * 
+     * @param cuisines Cuisines to match (any of them); null or empty for all
+     * @param maxTimeInMins Maximum total time in minutes
+     * @param searchTerm Name/ingredient search term, or null
+     * @return Matching recipes ordered by name
+     */
+    public List<Recipe> searchByCuisines(List<String> cuisines, int maxTimeInMins, String searchTerm) {
+        return filterRecipes(new RecipeFilter.FilterBuilder()
+            .withCuisines(cuisines)
+            .withMaxTime(maxTimeInMins)
+            .withText(searchTerm)
+            .build());
+    }
+
+    /**
+     * Filters recipes with the in-memory cuisine/time bitmaps.
+     * 
+     * @param filter The filter to apply
+     * @return Matching recipes
+     */
+    public List<Recipe> filterRecipes(RecipeFilter filter) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Filter cannot be null");
+        }
+        return getSearchIndex().filter(filter);
+    }
+
+    /**
+     * Gets all recipes ordered by total cooking time, shortest first.
+     * 
+     * @return All recipes sorted by time, then name
+     */
+    public List<Recipe> getRecipesSortedByTime() {
+        return filterRecipes(new RecipeFilter.FilterBuilder().sortedByTime().build());
     }
 
     /**
@@ -178,10 +543,51 @@ public class RecipeService {
             return false;
         }
         
-        List<Recipe> matches = recipeRepository.searchByName(recipeName.trim());
+        List<Recipe> matches = getSearchIndex().search(recipeName.trim());
         return !matches.isEmpty();
     }
 
+    /**
+     * Gets one page of recipes using keyset pagination.
+     * 
+     * @param order The ordering to page through
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param pageSize Maximum number of recipes per page
+     * @return The page and the cursor for the next one
+     */
+    public RecipePage<Recipe> getRecipePage(RecipeOrder order, RecipePage.Cursor after, int pageSize) {
+        if (order == null) {
+            throw new IllegalArgumentException("Order cannot be null");
+        }
+        return recipeRepository.findPage(order, after, pageSize);
+    }
+
+    /**
+     * Gets one page of recipe summaries using keyset pagination.
+     * Use for list screens; load the full recipe with {@link #getRecipeById(int)}
+     * when the user opens one.
+     * 
+     * @param order The ordering to page through
+     * @param after Cursor returned with the previous page, or null for the first page
+     * @param pageSize Maximum number of summaries per page
+     * @return The page and the cursor for the next one
+     */
+    public RecipePage<RecipeSummary> getRecipeSummaryPage(RecipeOrder order, RecipePage.Cursor after, int pageSize) {
+        if (order == null) {
+            throw new IllegalArgumentException("Order cannot be null");
+        }
+        return recipeRepository.findSummaryPage(order, after, pageSize);
+    }
+
+    /**
+     * Gets the total number of recipes.
+     * 
+     * @return The recipe count
+     */
+    public int getRecipeCount() {
+        return recipeRepository.count();
+    }
+
     /**
      * Gets a summary of available recipes.
      * 
@@ -0,0 +1,77 @@
+package com.recipeplanner.service;
+
+/**
+ * Enumeration of the backends RecipeService can use for name and ingredient search.
+ * Demonstrates enum usage with fields and methods.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public enum SearchStrategy {
+    /**
+     * LIKE '%term%' query against MySQL (RecipeRepository.searchByName)
+     */
+    DATABASE("Database scan"),
+
+    /**
+     * In-memory token index with prefix matching on the last word
+     */
+    INVERTED_INDEX("Word index"),
+
+    /**
+     * In-memory trigram index: true substring matches, falling back to
+     * typo-tolerant matching when nothing contains the term
+     */
+    TRIGRAM("Substring and fuzzy"),
+
+    /**
+     * MySQL FULLTEXT index over name and ingredients (MATCH ... AGAINST),
+     * for deployments that keep no in-process index
+     */
+    FULLTEXT("Database full-text");
+
+    private final String displayName;
+
+    /**
+     * Constructor for SearchStrategy enum.
+     *
+     * @param displayName The human-readable name for display in UI
+     */
+    SearchStrategy(String displayName) {
+        this.displayName = displayName;
+    }
+
+    /**
+     * Gets the display name for this strategy.
+     *
+     * @return The human-readable strategy name
+     */
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    /**
+     * Converts a string to a SearchStrategy enum value.
+     * Case-insensitive matching on the constant name.
+     *
+     * @param text The string to convert
+     * @return The corresponding SearchStrategy, or null if not found
+     */
+    public static SearchStrategy fromString(String text) {
+        if (text == null || text.trim().isEmpty()) {
+            return null;
+        }
+
+        for (SearchStrategy strategy : SearchStrategy.values()) {
+            if (strategy.name().equalsIgnoreCase(text.trim())) {
+                return strategy;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return displayName;
+    }
+}
@@ -1,39 +1,128 @@
 package com.recipeplanner.util;
 
 import com.recipeplanner.model.Recipe;
+import com.recipeplanner.repository.IngredientRepository;
 import com.recipeplanner.repository.RecipeRepository;
+import com.recipeplanner.repository.RepositoryManager;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.stream.Stream;
 
 /**
  * Utility class to load recipes from CSV file.
  * Demonstrates file I/O, String handling, and ArrayList usage.
  * 
+ * Each recipe's ingredient text is parsed into structured entries as it is
+ * loaded (see IngredientQuantityParser), so the ingredient names are
+ * registered in the shared IngredientRepository once, at import.
+ * 
  * @author Recipe Planner Team
  * @version 2.0
  */
 public class CSVRecipeLoader {
     
+    // Recipes per JDBC batch/transaction during import
+    private static final int BATCH_SIZE = 500;
+    
+    // Switch between the parallel and sequential parsers (-Drecipeplanner.csv.parallel=false)
+    private static final boolean PARALLEL_PARSE = 
+        Boolean.parseBoolean(System.getProperty("recipeplanner.csv.parallel", "true"));
+    
+    // Chunks per worker thread, so uneven chunks still balance across the pool
+    private static final int CHUNKS_PER_THREAD = 4;
+    
+    private static final String CSV_FILE = "Cleaned_Indian_Food_Dataset.csv";
+    
+    // Copy bundled with the application, used when the working directory has none
+    private static final String DATASET_RESOURCE = "/dataset/" + CSV_FILE;
+    
+    /**
+     * Callback for import progress, invoked on the importing thread after each batch.
+     */
+    @FunctionalInterface
+    public interface ImportProgressListener {
+        /**
+         * Reports how many recipes have been stored so far.
+         * 
+         * @param imported Recipes stored so far
+         * @param total Total recipes to store, or -1 if not known yet
+         */
+        void recipesImported(int imported, int total);
+    }
+    
     /**
      * Loads recipes from the CSV dataset file.
+     * Uses the parallel or sequential parser depending on recipeplanner.csv.parallel.
      * Demonstrates String parsing and Collections (Modules 3, 4).
      * 
      * @param recipeRepository The repository to store recipes
      * @return Number of recipes loaded
      */
     public static int loadRecipesFromCSV(RecipeRepository recipeRepository) {
+        return loadRecipesFromCSV(recipeRepository, PARALLEL_PARSE, (imported, total) -> { });
+    }
+    
+    /**
+     * Loads recipes from the CSV dataset file, reporting progress after every batch.
+     * 
+     * @param recipeRepository The repository to store recipes
+     * @param listener Receives the running count of stored recipes
+     * @return Number of recipes loaded
+     */
+    public static int loadRecipesFromCSV(RecipeRepository recipeRepository, ImportProgressListener listener) {
+        return loadRecipesFromCSV(recipeRepository, PARALLEL_PARSE, listener);
+    }
+    
+    /**
+     * Loads recipes from the CSV dataset file with an explicit parser choice.
+     * 
+     * @param recipeRepository The repository to store recipes
+     * @param parallel true to parse chunks on a ForkJoinPool, false for the sequential parser
+     * @return Number of recipes loaded
+     */
+    public static int loadRecipesFromCSV(RecipeRepository recipeRepository, boolean parallel) {
+        return loadRecipesFromCSV(recipeRepository, parallel, (imported, total) -> { });
+    }
+    
+    /**
+     * Loads recipes from the CSV dataset file with an explicit parser choice and progress reporting.
+     * 
+     * @param recipeRepository The repository to store recipes
+     * @param parallel true to parse chunks on a ForkJoinPool, false for the sequential parser
+     * @param listener Receives the running count of stored recipes
+     * @return Number of recipes loaded
+     */
+    public static int loadRecipesFromCSV(RecipeRepository recipeRepository, boolean parallel,
+                                         ImportProgressListener listener) {
         int count = 0;
-        String csvFile = "Cleaned_Indian_Food_Dataset.csv";
         
         try {
-            // Try to read from file system first
-            BufferedReader br = new BufferedReader(new FileReader(csvFile));
-            count = parseCSV(br, recipeRepository);
-            br.close();
+            ByteBuffer data = openDataset();
+            if (parallel) {
+                List<Recipe> recipes = parseCSVParallel(data, ForkJoinPool.commonPool());
+                
+                // Store in batch-sized slices so progress can be reported between them
+                for (int from = 0; from < recipes.size(); from += BATCH_SIZE) {
+                    int to = Math.min(from + BATCH_SIZE, recipes.size());
+                    count += recipeRepository.saveAll(recipes.subList(from, to), BATCH_SIZE);
+                    listener.recipesImported(count, recipes.size());
+                }
+            } else {
+                count = parseCSV(data, recipeRepository, listener);
+            }
             
         } catch (IOException e) {
             System.err.println("Error loading recipes from CSV: " + e.getMessage());
@@ -43,189 +132,151 @@ public class CSVRecipeLoader {
     }
     
     /**
-     * Parses CSV content and creates Recipe objects.
-     * Demonstrates String manipulation and exception handling.
-     * Handles multi-line CSV entries properly.
+     * Brings the seeded recipes in a non-empty repository in line with the CSV
+     * dataset, writing only what changed instead of reloading everything.
+     * Stored recipes are streamed for comparison, so the table is not locked
+     * while the delta is computed. Running it again after an interruption
+     * applies only the remaining changes.
+     * 
+     * @param recipeRepository The repository to update
+     * @param listener Receives the running count of applied changes
+     * @return The applied delta, or null if the dataset could not be read
      */
-    private static int parseCSV(BufferedReader br, RecipeRepository recipeRepository) throws IOException {
-        int count = 0;
-        String line;
-        boolean firstLine = true;
-        StringBuilder currentLine = new StringBuilder();
-        boolean inQuotes = false;
-        
-        while ((line = br.readLine()) != null) {
-            // Skip header line
-            if (firstLine) {
-                firstLine = false;
-                continue;
-            }
-            
-            // Handle multi-line CSV entries (fields with newlines inside quotes)
-            currentLine.append(line);
-            
-            // Count quotes to see if we're inside a quoted field
-            for (char c : line.toCharArray()) {
-                if (c == '"') {
-                    inQuotes = !inQuotes;
-                }
-            }
-            
-            // If we're still inside quotes, continue reading
-            if (inQuotes) {
-                currentLine.append("\n");
-                continue;
-            }
+    public static RecipeDelta syncRecipesFromCSV(RecipeRepository recipeRepository,
+                                                 ImportProgressListener listener) {
+        try {
+            List<Recipe> recipes = parseCSVParallel(openDataset(), ForkJoinPool.commonPool());
             
-            // We have a complete record, parse it
-            try {
-                Recipe recipe = parseRecipeLine(currentLine.toString());
-                if (recipe != null) {
-                    recipeRepository.save(recipe);
-                    count++;
-                }
-            } catch (Exception e) {
-                // Skip malformed lines
-                System.err.println("Error parsing line: " + e.getMessage());
+            RecipeDelta delta;
+            try (Stream<Recipe> stored = recipeRepository.streamAll()) {
+                delta = RecipeDelta.compute(stored::iterator, recipes);
             }
+            delta.apply(recipeRepository, BATCH_SIZE, listener);
+            return delta;
             
-            // Reset for next record
-            currentLine = new StringBuilder();
+        } catch (IOException | IllegalStateException e) {
+            System.err.println("Error syncing recipes from CSV: " + e.getMessage());
+            return null;
         }
-        
-        return count;
     }
     
     /**
-     * Parses a single CSV line into a Recipe object.
-     * Demonstrates String handling with split and trim (Module 3).
+     * Opens the CSV dataset as a read-only buffer of its raw bytes.
+     * A file in the working directory is memory-mapped, so it is never copied
+     * onto the heap; otherwise the copy bundled on the classpath is read.
      * 
-     * CSV Format:
-     * 0: TranslatedRecipeName
-     * 1: TranslatedIngredients
-     * 2: TotalTimeInMins
-     * 3: Cuisine
-     * 4: TranslatedInstructions
-     * 5: URL
-     * 6: Cleaned-Ingredients
-     * 7: image-url
-     * 8: Ingredient-count
+     * @return Buffer spanning the whole dataset
+     * @throws IOException if the dataset cannot be found or read
      */
-    private static Recipe parseRecipeLine(String line) {
-        if (line == null || line.trim().isEmpty()) {
-            return null;
-        }
-        
-        // Split by comma, handling quoted fields
-        String[] fields = splitCSVLine(line);
-        
-        if (fields.length < 5) {
-            return null; // Not enough fields
+    public static ByteBuffer openDataset() throws IOException {
+        Path file = Paths.get(CSV_FILE);
+        if (Files.isRegularFile(file)) {
+            // The mapping stays valid after the channel is closed
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
         }
         
-        try {
-            // Parse fields according to CSV structure
-            String name = cleanField(fields[0]);              // TranslatedRecipeName
-            String ingredients = cleanField(fields[1]);       // TranslatedIngredients (with quantities!)
-            int totalTime = parseTime(fields[2]);             // TotalTimeInMins
-            String cuisine = cleanField(fields[3]);           // Cuisine
-            String instructions = cleanField(fields[4]);      // TranslatedInstructions
-            String imageUrl = cleanField(fields.length > 7 ? fields[7] : "");  // image-url
-            
-            // Validate that we have a proper recipe name
-            if (name == null || name.trim().isEmpty() || name.length() < 2) {
-                return null;
-            }
-            
-            // Remove any newlines or extra whitespace from name
-            name = name.replaceAll("\\n", " ").replaceAll("\\s+", " ").trim();
-            
-            // Always use TranslatedIngredients (column 1) to preserve quantities
-            // DO NOT use Cleaned-Ingredients as it strips quantities
-            
-            // Create recipe
-            Recipe recipe = new Recipe();
-            recipe.setName(name);
-            recipe.setCuisine(cuisine);
-            recipe.setTotalTimeInMins(totalTime);
-            recipe.setRawIngredientsText(ingredients);
-            recipe.setCreatedBy(0); // System recipe
-            recipe.setImageUrl(imageUrl);
-            
-            // Parse instructions - split by period or newline
-            if (instructions != null && !instructions.isEmpty()) {
-                // Split by newline first, then by period if no newlines
-                String[] steps = instructions.split("\\n|\\.");
-                for (String step : steps) {
-                    String trimmedStep = step.trim();
-                    if (!trimmedStep.isEmpty() && trimmedStep.length() > 5) {
-                        recipe.addInstruction(trimmedStep);
-                    }
-                }
+        try (InputStream in = CSVRecipeLoader.class.getResourceAsStream(DATASET_RESOURCE)) {
+            if (in == null) {
+                throw new FileNotFoundException(CSV_FILE + " not found in working directory or on classpath");
             }
-            
-            return recipe;
-            
-        } catch (Exception e) {
-            System.err.println("Error parsing recipe: " + e.getMessage());
-            return null;
+            return ByteBuffer.wrap(in.readAllBytes()).asReadOnlyBuffer();
         }
     }
     
     /**
-     * Splits a CSV line handling quoted fields.
-     * Demonstrates String handling (Module 3).
+     * Parses the dataset sequentially and writes the recipes in batches via
+     * RecipeRepository.saveAll.
      */
-    private static String[] splitCSVLine(String line) {
-        List<String> fields = new ArrayList<>();
-        StringBuilder currentField = new StringBuilder();
-        boolean inQuotes = false;
+    private static int parseCSV(ByteBuffer data, RecipeRepository recipeRepository,
+                                ImportProgressListener listener) {
+        IngredientRepository ingredientRepository = RepositoryManager.getInstance().getIngredientRepository();
+        List<Recipe> batch = new ArrayList<>(BATCH_SIZE);
+        int[] count = {0};
         
-        for (int i = 0; i < line.length(); i++) {
-            char c = line.charAt(i);
-            
-            if (c == '"') {
-                inQuotes = !inQuotes;
-            } else if (c == ',' && !inQuotes) {
-                fields.add(currentField.toString());
-                currentField = new StringBuilder();
-            } else {
-                currentField.append(c);
+        new RecipeCsvParser(data).parse(RecipeCsvParser.headerEnd(data), data.limit(), recipe -> {
+            parseIngredients(recipe, ingredientRepository);
+            batch.add(recipe);
+            if (batch.size() == BATCH_SIZE) {
+                count[0] += recipeRepository.saveAll(batch, BATCH_SIZE);
+                batch.clear();
+                listener.recipesImported(count[0], -1);
             }
+        });
+        
+        // Flush the final partial batch
+        if (!batch.isEmpty()) {
+            count[0] += recipeRepository.saveAll(batch, BATCH_SIZE);
+            listener.recipesImported(count[0], -1);
         }
         
-        fields.add(currentField.toString());
-        return fields.toArray(new String[0]);
+        return count[0];
+    }
+    
+    /**
+     * Parses the whole CSV file in parallel.
+     * 
+     * @param data Raw UTF-8 bytes of the CSV file, including the header
+     * @param pool The pool to parse chunks on
+     * @return Parsed recipes in original file order
+     * @throws IOException if a chunk fails to parse
+     */
+    public static List<Recipe> parseCSVParallel(byte[] data, ForkJoinPool pool) throws IOException {
+        return parseCSVParallel(ByteBuffer.wrap(data), pool);
     }
     
     /**
-     * Cleans a CSV field by removing quotes and trimming.
+     * Parses the whole CSV file in parallel.
+     * The buffer is split into byte ranges that start and end on record
+     * boundaries, each range is parsed on the given pool straight from the
+     * shared buffer, and the results are concatenated in file order.
+     * Ingredient entries are parsed on the same threads.
+     * 
+     * @param data Raw UTF-8 bytes of the CSV file, including the header
+     * @param pool The pool to parse chunks on
+     * @return Parsed recipes in original file order
+     * @throws IOException if a chunk fails to parse
      */
-    private static String cleanField(String field) {
-        if (field == null) {
-            return "";
+    public static List<Recipe> parseCSVParallel(ByteBuffer data, ForkJoinPool pool) throws IOException {
+        int chunkCount = Math.max(1, pool.getParallelism() * CHUNKS_PER_THREAD);
+        int[] boundaries = RecipeCsvParser.findRecordBoundaries(data, RecipeCsvParser.headerEnd(data), chunkCount);
+        IngredientRepository ingredientRepository = RepositoryManager.getInstance().getIngredientRepository();
+        
+        List<ForkJoinTask<List<Recipe>>> tasks = new ArrayList<>();
+        for (int i = 0; i + 1 < boundaries.length; i++) {
+            int from = boundaries[i];
+            int to = boundaries[i + 1];
+            tasks.add(pool.submit(() -> {
+                List<Recipe> recipes = new ArrayList<>();
+                new RecipeCsvParser(data).parse(from, to, recipe -> {
+                    parseIngredients(recipe, ingredientRepository);
+                    recipes.add(recipe);
+                });
+                return recipes;
+            }));
         }
         
-        field = field.trim();
-        if (field.startsWith("\"") && field.endsWith("\"")) {
-            field = field.substring(1, field.length() - 1);
+        List<Recipe> recipes = new ArrayList<>();
+        try {
+            for (ForkJoinTask<List<Recipe>> task : tasks) {
+                recipes.addAll(task.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while parsing CSV", e);
+        } catch (ExecutionException e) {
+            throw new IOException("Error parsing CSV chunk: " + e.getCause().getMessage(), e.getCause());
         }
         
-        return field.trim();
+        return recipes;
     }
     
     /**
-     * Parses time field from CSV.
+     * Parses a recipe's ingredient text into structured entries.
+     * IngredientRepository.findOrCreate is lock-free, so chunks can share it.
      */
-    private static int parseTime(String timeStr) {
-        try {
-            String cleaned = cleanField(timeStr);
-            if (cleaned.isEmpty()) {
-                return 30; // Default time
-            }
-            return Integer.parseInt(cleaned);
-        } catch (NumberFormatException e) {
-            return 30; // Default time
-        }
+    private static void parseIngredients(Recipe recipe, IngredientRepository ingredientRepository) {
+        recipe.setIngredients(IngredientQuantityParser.parse(recipe.getRawIngredientsText(), ingredientRepository));
     }
 }
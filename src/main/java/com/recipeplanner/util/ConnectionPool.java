@@ -0,0 +1,415 @@
+package com.recipeplanner.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded pool of JDBC connections.
+ * Physical connections are reused instead of being opened per operation,
+ * so callers pay the MySQL handshake only when the pool grows.
+ *
+ * Connections handed out by {@link #borrow()} are proxies: calling close()
+ * returns the physical connection to the pool, which keeps the existing
+ * try-with-resources style in the repositories unchanged.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public class ConnectionPool {
+
+    private final String url;
+    private final String user;
+    private final String password;
+    private final int minSize;
+    private final int maxSize;
+    private final long borrowTimeoutMillis;
+    private final long idleTimeoutMillis;
+    private final int validationTimeoutSeconds;
+
+    // Idle connections, most recently returned first (LIFO keeps hot connections in use)
+    private final LinkedBlockingDeque<IdleConnection> idle = new LinkedBlockingDeque<>();
+    // One permit per connection that may be in use or idle
+    private final Semaphore permits;
+    private final ScheduledExecutorService evictor;
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final AtomicLong borrowCount = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+    private final AtomicLong maxWaitNanos = new AtomicLong();
+    private final AtomicLong timeoutCount = new AtomicLong();
+    private final AtomicLong evictedCount = new AtomicLong();
+
+    private volatile boolean closed;
+
+    /**
+     * Creates a pool and starts the idle eviction task.
+     *
+     * @param url JDBC URL
+     * @param user Database username
+     * @param password Database password
+     * @param minSize Number of idle connections kept open by the evictor
+     * @param maxSize Maximum number of open connections
+     * @param borrowTimeoutMillis Maximum time to wait for a free connection
+     * @param idleTimeoutMillis Idle time after which surplus connections are closed
+     * @param validationTimeoutSeconds Timeout for Connection.isValid on borrow
+     */
+    public ConnectionPool(String url, String user, String password,
+                          int minSize, int maxSize,
+                          long borrowTimeoutMillis, long idleTimeoutMillis,
+                          int validationTimeoutSeconds) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("Pool max size must be at least 1");
+        }
+        if (minSize < 0 || minSize > maxSize) {
+            throw new IllegalArgumentException("Pool min size must be between 0 and " + maxSize);
+        }
+
+        this.url = url;
+        this.user = user;
+        this.password = password;
+        this.minSize = minSize;
+        this.maxSize = maxSize;
+        this.borrowTimeoutMillis = borrowTimeoutMillis;
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.validationTimeoutSeconds = validationTimeoutSeconds;
+        this.permits = new Semaphore(maxSize, true);
+
+        this.evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "connection-pool-evictor");
+            t.setDaemon(true);
+            return t;
+        });
+        long period = Math.max(1000, idleTimeoutMillis / 2);
+        evictor.scheduleWithFixedDelay(this::evictIdle, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Borrows a connection, waiting up to the borrow timeout if the pool is exhausted.
+     * Idle connections are validated before being handed out.
+     *
+     * @return Pooled connection; close() returns it to the pool
+     * @throws SQLException if no connection is available in time or opening one fails
+     */
+    public Connection borrow() throws SQLException {
+        if (closed) {
+            throw new SQLException("Connection pool is closed");
+        }
+
+        long start = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(borrowTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", e);
+        }
+        long waited = System.nanoTime() - start;
+
+        if (!acquired) {
+            timeoutCount.incrementAndGet();
+            throw new SQLTimeoutException("Timed out after " + borrowTimeoutMillis +
+                " ms waiting for a database connection (max pool size " + maxSize + ")");
+        }
+
+        try {
+            Connection physical = takeValidIdle();
+            if (physical == null) {
+                physical = openPhysical();
+            }
+            active.incrementAndGet();
+            borrowCount.incrementAndGet();
+            // Only successful borrows, so the average divides by the same count
+            recordWait(waited);
+            return wrap(physical);
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Pops idle connections until one passes validation.
+     * Invalid connections are discarded.
+     */
+    private Connection takeValidIdle() {
+        IdleConnection candidate;
+        while ((candidate = idle.pollFirst()) != null) {
+            if (isUsable(candidate.connection)) {
+                return candidate.connection;
+            }
+            discard(candidate.connection);
+        }
+        return null;
+    }
+
+    private boolean isUsable(Connection connection) {
+        try {
+            return !connection.isClosed() && connection.isValid(validationTimeoutSeconds);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    private Connection openPhysical() throws SQLException {
+        Connection connection = DriverManager.getConnection(url, user, password);
+        totalConnections.incrementAndGet();
+        return connection;
+    }
+
+    /**
+     * Returns a physical connection to the pool after resetting its state.
+     * Uncommitted work is rolled back so the next borrower starts clean.
+     */
+    private void release(Connection physical) {
+        active.decrementAndGet();
+        try {
+            if (closed || physical.isClosed()) {
+                discard(physical);
+                return;
+            }
+            if (!physical.getAutoCommit()) {
+                physical.rollback();
+                physical.setAutoCommit(true);
+            }
+            idle.offerFirst(new IdleConnection(physical, System.currentTimeMillis()));
+        } catch (SQLException e) {
+            discard(physical);
+        } finally {
+            permits.release();
+        }
+    }
+
+    private void discard(Connection physical) {
+        totalConnections.decrementAndGet();
+        try {
+            physical.close();
+        } catch (SQLException e) {
+            // Connection is being thrown away anyway
+        }
+    }
+
+    /**
+     * Closes connections idle for longer than the idle timeout,
+     * keeping at least minSize connections open.
+     */
+    private void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleTimeoutMillis;
+        // Oldest entries are at the tail of the deque
+        while (idle.size() > minSize) {
+            IdleConnection oldest = idle.peekLast();
+            if (oldest == null || oldest.idleSince > cutoff) {
+                break;
+            }
+            if (idle.removeLastOccurrence(oldest)) {
+                discard(oldest.connection);
+                evictedCount.incrementAndGet();
+            }
+        }
+    }
+
+    private void recordWait(long nanos) {
+        totalWaitNanos.addAndGet(nanos);
+        maxWaitNanos.accumulateAndGet(nanos, Math::max);
+    }
+
+    /**
+     * Opens connections until minSize connections are idle.
+     *
+     * @throws SQLException if a connection cannot be opened
+     */
+    public void warmUp() throws SQLException {
+        while (totalConnections.get() < minSize) {
+            idle.offerLast(new IdleConnection(openPhysical(), System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * Closes all idle connections and stops the evictor.
+     * Borrowed connections are closed when they are returned.
+     */
+    public void shutdown() {
+        closed = true;
+        evictor.shutdownNow();
+        IdleConnection entry;
+        while ((entry = idle.pollFirst()) != null) {
+            discard(entry.connection);
+        }
+    }
+
+    /**
+     * Gets a snapshot of the pool statistics.
+     *
+     * @return Current pool statistics
+     */
+    public PoolStats getStats() {
+        return new PoolStats(active.get(), idle.size(), totalConnections.get(), maxSize,
+            borrowCount.get(), totalWaitNanos.get(), maxWaitNanos.get(),
+            timeoutCount.get(), evictedCount.get());
+    }
+
+    /**
+     * Wraps a physical connection so that close() returns it to the pool.
+     */
+    private Connection wrap(Connection physical) {
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            new PooledConnectionHandler(physical));
+    }
+
+    /**
+     * Invocation handler backing the pooled connection proxy.
+     * Demonstrates INNER CLASS usage for access to the pool's release logic.
+     */
+    private class PooledConnectionHandler implements InvocationHandler {
+        private final Connection physical;
+        private boolean returned;
+
+        PooledConnectionHandler(Connection physical) {
+            this.physical = physical;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (!returned) {
+                        returned = true;
+                        release(physical);
+                    }
+                    return null;
+                case "isClosed":
+                    return returned || physical.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "PooledConnection[" + physical + "]";
+                default:
+                    break;
+            }
+
+            if (returned) {
+                throw new SQLException("Connection has already been returned to the pool");
+            }
+            try {
+                return method.invoke(physical, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    /**
+     * Idle connection together with the time it was returned.
+     */
+    private static class IdleConnection {
+        final Connection connection;
+        final long idleSince;
+
+        IdleConnection(Connection connection, long idleSince) {
+            this.connection = connection;
+            this.idleSince = idleSince;
+        }
+    }
+
+    /**
+     * Immutable snapshot of pool statistics.
+     */
+    public static class PoolStats {
+        private final int active;
+        private final int idle;
+        private final int total;
+        private final int maxSize;
+        private final long borrowCount;
+        private final long totalWaitNanos;
+        private final long maxWaitNanos;
+        private final long timeoutCount;
+        private final long evictedCount;
+
+        PoolStats(int active, int idle, int total, int maxSize, long borrowCount,
+                  long totalWaitNanos, long maxWaitNanos, long timeoutCount, long evictedCount) {
+            this.active = active;
+            this.idle = idle;
+            this.total = total;
+            this.maxSize = maxSize;
+            this.borrowCount = borrowCount;
+            this.totalWaitNanos = totalWaitNanos;
+            this.maxWaitNanos = maxWaitNanos;
+            this.timeoutCount = timeoutCount;
+            this.evictedCount = evictedCount;
+        }
+
+        public int getActive() {
+            return active;
+        }
+
+        public int getIdle() {
+            return idle;
+        }
+
+        public int getTotal() {
+            return total;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public long getBorrowCount() {
+            return borrowCount;
+        }
+
+        public long getTimeoutCount() {
+            return timeoutCount;
+        }
+
+        public long getEvictedCount() {
+            return evictedCount;
+        }
+
+        /**
+         * Gets the average time callers waited for a connection they got.
+         * Timed-out waits are counted by getTimeoutCount instead.
+         *
+         * @return Average wait in milliseconds
+         */
+        public double getAverageWaitMillis() {
+            return borrowCount == 0 ? 0.0 : totalWaitNanos / 1_000_000.0 / borrowCount;
+        }
+
+        /**
+         * Gets the longest time a caller waited for a connection they got.
+         *
+         * @return Maximum wait in milliseconds
+         */
+        public double getMaxWaitMillis() {
+            return maxWaitNanos / 1_000_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("PoolStats{active=%d, idle=%d, total=%d/%d, borrows=%d, " +
+                "avgWait=%.3fms, maxWait=%.3fms, timeouts=%d, evicted=%d}",
+                active, idle, total, maxSize, borrowCount,
+                getAverageWaitMillis(), getMaxWaitMillis(), timeoutCount, evictedCount);
+        }
+    }
+}
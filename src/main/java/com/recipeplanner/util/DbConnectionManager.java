@@ -1,12 +1,13 @@
 package com.recipeplanner.util;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
 
 /**
  * Simple database connection manager for MySQL.
- * Provides centralized JDBC connection handling.
+ * Provides centralized JDBC connection handling backed by a bounded
+ * {@link ConnectionPool}, so repositories reuse connections instead of
+ * opening a new one per operation.
  * 
  * SETUP INSTRUCTIONS:
  * 1. Install MySQL and start the service
@@ -21,26 +22,75 @@ public class DbConnectionManager {
     
     // ========== CONFIGURE THESE FOR YOUR MYSQL SETUP ==========
     private static final String URL = 
-        "jdbc:mysql://localhost:3306/dynamic_recipe?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true";
+        "jdbc:mysql://localhost:3306/dynamic_recipe?useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true" +
+        "&rewriteBatchedStatements=true";   // multi-row INSERTs for RecipeRepository.saveAll
     private static final String USER = "root";           // MySQL username
     private static final String PASSWORD = "root";       // MySQL password
     // ===========================================================
     
+    // Pool settings, overridable with -Drecipeplanner.db.pool.<name>=<value>
+    private static final int POOL_MIN_SIZE = Integer.getInteger("recipeplanner.db.pool.minSize", 2);
+    private static final int POOL_MAX_SIZE = Integer.getInteger("recipeplanner.db.pool.maxSize", 10);
+    private static final long POOL_BORROW_TIMEOUT_MS = 
+        Long.getLong("recipeplanner.db.pool.borrowTimeoutMs", 5000L);
+    private static final long POOL_IDLE_TIMEOUT_MS = 
+        Long.getLong("recipeplanner.db.pool.idleTimeoutMs", 300000L);
+    private static final int POOL_VALIDATION_TIMEOUT_SECS = 
+        Integer.getInteger("recipeplanner.db.pool.validationTimeoutSecs", 2);
+    
+    // Created lazily on first use
+    private static ConnectionPool pool;
+    
     /**
-     * Gets a database connection.
+     * Gets a pooled database connection.
+     * Closing the returned connection gives it back to the pool.
      * 
      * @return Active MySQL connection
      * @throws SQLException if connection fails
      */
     public static Connection getConnection() throws SQLException {
-        try {
-            // Load MySQL JDBC driver (required for some Java versions)
-            Class.forName("com.mysql.cj.jdbc.Driver");
-        } catch (ClassNotFoundException e) {
-            throw new SQLException("MySQL JDBC Driver not found. Check pom.xml dependencies.", e);
+        return getPool().borrow();
+    }
+    
+    /**
+     * Gets the shared connection pool, creating it on first use.
+     * 
+     * @return The connection pool
+     * @throws SQLException if the MySQL JDBC driver is missing
+     */
+    private static synchronized ConnectionPool getPool() throws SQLException {
+        if (pool == null) {
+            try {
+                // Load MySQL JDBC driver once (required for some Java versions)
+                Class.forName("com.mysql.cj.jdbc.Driver");
+            } catch (ClassNotFoundException e) {
+                throw new SQLException("MySQL JDBC Driver not found. Check pom.xml dependencies.", e);
+            }
+            
+            pool = new ConnectionPool(URL, USER, PASSWORD, POOL_MIN_SIZE, POOL_MAX_SIZE,
+                POOL_BORROW_TIMEOUT_MS, POOL_IDLE_TIMEOUT_MS, POOL_VALIDATION_TIMEOUT_SECS);
+        }
+        return pool;
+    }
+    
+    /**
+     * Gets a snapshot of the connection pool statistics.
+     * 
+     * @return Pool statistics, or null if the pool has not been created yet
+     */
+    public static synchronized ConnectionPool.PoolStats getPoolStats() {
+        return pool != null ? pool.getStats() : null;
+    }
+    
+    /**
+     * Closes all pooled connections.
+     * The next call to getConnection() creates a fresh pool.
+     */
+    public static synchronized void shutdown() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
         }
-        
-        return DriverManager.getConnection(URL, USER, PASSWORD);
     }
     
     /**
@@ -50,7 +100,11 @@ public class DbConnectionManager {
      */
     public static boolean testConnection() {
         try (Connection conn = getConnection()) {
-            return conn != null && !conn.isClosed();
+            boolean ok = conn != null && !conn.isClosed();
+            if (ok) {
+                getPool().warmUp();
+            }
+            return ok;
         } catch (SQLException e) {
             System.err.println("❌ Database connection failed: " + e.getMessage());
             System.err.println("   Check:");
@@ -1,8 +1,22 @@
 package com.recipeplanner.util;
 
 import com.recipeplanner.model.*;
+import com.recipeplanner.repository.InMemoryRecipeRepository;
 import com.recipeplanner.repository.RecipeRepository;
 import com.recipeplanner.repository.RepositoryManager;
+import com.recipeplanner.repository.StorageMode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.stream.Stream;
 
 /**
  * Utility class to seed initial data into in-memory repositories.
@@ -15,6 +29,32 @@ public class InMemoryDataSeeder {
     
     private final RepositoryManager repositoryManager;
     
+    // Binary snapshot of the parsed CSV for in-memory starts
+    // (-Drecipeplanner.snapshot=<file>; an empty value disables it)
+    private static final String SNAPSHOT_FILE = System.getProperty("recipeplanner.snapshot", "recipes.snapshot");
+    
+    // Sync a non-empty database with the CSV instead of skipping the import (-Drecipeplanner.import.delta=true)
+    private static final boolean DELTA_IMPORT =
+        Boolean.parseBoolean(System.getProperty("recipeplanner.import.delta", "false"));
+    
+    // Checksum of the dataset the database was last fully synced with
+    private static final String CHECKPOINT_FILE =
+        System.getProperty("recipeplanner.import.checkpoint", "recipes.import");
+    
+    /**
+     * Callback for seeding progress, invoked on the seeding thread.
+     */
+    @FunctionalInterface
+    public interface SeedProgressListener {
+        /**
+         * Reports the current seeding step.
+         * 
+         * @param message Description of the current step
+         * @param percent Overall progress from 0 to 100
+         */
+        void progress(String message, int percent);
+    }
+    
     /**
      * Constructor initializes with RepositoryManager.
      */
@@ -28,58 +68,257 @@ public class InMemoryDataSeeder {
      * Demonstrates object creation and manipulation (Module 2).
      */
     public void seedAllData() {
+        seedAllData((message, percent) -> { });
+    }
+    
+    /**
+     * Seeds all initial data, reporting progress as it goes.
+     * Intended to run off the Event Dispatch Thread; the listener is called
+     * on the seeding thread.
+     * 
+     * @param listener Receives progress updates
+     */
+    public void seedAllData(SeedProgressListener listener) {
         System.out.println("=== Initializing Data ===");
+        StorageMode storageMode = repositoryManager.getStorageMode();
         
-        // Test database connection first
-        if (!DbConnectionManager.testConnection()) {
-            System.err.println("\n⚠️  WARNING: MySQL database connection failed!");
-            System.err.println("The application will not work properly without database access.");
-            System.err.println("Please check DbConnectionManager.java for setup instructions.\n");
-            return;
+        if (storageMode == StorageMode.MYSQL) {
+            listener.progress("Connecting to database...", 0);
+            
+            // Test database connection first
+            if (!DbConnectionManager.testConnection()) {
+                System.err.println("\n⚠️  WARNING: MySQL database connection failed!");
+                System.err.println("The application will not work properly without database access.");
+                System.err.println("Please check DbConnectionManager.java for setup instructions,");
+                System.err.println("or run without MySQL using -D" + StorageMode.PROPERTY + "=MEMORY\n");
+                return;
+            }
+            
+            System.out.println("✓ Database connection successful");
+        } else {
+            System.out.println("✓ Using " + storageMode.getDisplayName() + " storage (no database)");
         }
         
-        System.out.println("✓ Database connection successful");
-        
         // Create demo users (demonstrates polymorphism - Module 5)
+        listener.progress("Creating demo users...", 5);
         createDemoUsers();
         
         // Create sample ingredients (in-memory)
         createSampleIngredients();
         
         // Load recipes from CSV into MySQL (only on first run)
-        loadRecipesFromCsv();
+        loadRecipesFromCsv(listener);
+        
+        // Build the in-memory search index from the stored recipes
+        listener.progress("Building search index...", 90);
+        buildSearchIndex();
+        listener.progress("Ready", 100);
         
         System.out.println("\n=== Data Initialization Complete ===");
         System.out.println("- Users: " + repositoryManager.getUserRepository().count());
         System.out.println("- Ingredients: " + repositoryManager.getIngredientRepository().count());
-        System.out.println("- Recipes in MySQL: " + repositoryManager.getRecipeRepository().count());
+        System.out.println("- Recipes (" + storageMode.getDisplayName() + "): " +
+                           repositoryManager.getRecipeRepository().count());
     }
     
     /**
      * Loads recipes from CSV into MySQL database.
-     * Only runs on first application start when database is empty.
+     * Runs the full import on first application start when the database is
+     * empty; afterwards only in delta mode, and only if the dataset changed.
      */
-    private void loadRecipesFromCsv() {
+    private void loadRecipesFromCsv(SeedProgressListener listener) {
         RecipeRepository recipeRepo = repositoryManager.getRecipeRepository();
         
         // Check if database already has recipes
+        listener.progress("Checking stored recipes...", 10);
         int existingCount = recipeRepo.count();
         
         if (existingCount > 0) {
             System.out.println("✓ Database already contains " + existingCount + " recipes");
+            if (DELTA_IMPORT) {
+                syncRecipesWithCsv(recipeRepo, listener);
+            }
             return;
         }
         
+        // In memory, a snapshot of an unchanged CSV replaces parsing it again
+        long[] source = null;
+        if (recipeRepo instanceof InMemoryRecipeRepository && !SNAPSHOT_FILE.isEmpty()) {
+            source = datasetChecksum();
+            if (source != null && restoreFromSnapshot((InMemoryRecipeRepository) recipeRepo, source)) {
+                return;
+            }
+        }
+        
         // Database is empty - load from CSV
         System.out.println("\nDatabase is empty - loading recipes from CSV...");
-        System.out.println("This is a one-time operation and may take a minute...");
+        System.out.println("This is a one-time batched import and takes a few seconds...");
         
         long startTime = System.currentTimeMillis();
-        int loadedCount = CSVRecipeLoader.loadRecipesFromCSV(recipeRepo);
+        listener.progress("Importing recipes from CSV...", 10);
+        int loadedCount = CSVRecipeLoader.loadRecipesFromCSV(recipeRepo, (imported, total) -> {
+            // Import covers 10-90% of the overall progress
+            int percent = total > 0 ? 10 + (int) (80L * imported / total) : 10;
+            listener.progress("Importing recipes from CSV... " + imported +
+                              (total > 0 ? " of " + total : ""), percent);
+        });
         long endTime = System.currentTimeMillis();
         
-        System.out.println("✓ Successfully loaded " + loadedCount + " recipes into MySQL");
+        System.out.println("✓ Successfully loaded " + loadedCount + " recipes into " +
+                           repositoryManager.getStorageMode().getDisplayName());
         System.out.println("  Time taken: " + (endTime - startTime) / 1000.0 + " seconds");
+        
+        if (source != null && loadedCount > 0) {
+            writeSnapshot(recipeRepo, source);
+        }
+        if (DELTA_IMPORT && loadedCount > 0 && !(recipeRepo instanceof InMemoryRecipeRepository)) {
+            writeCheckpoint(datasetChecksum());
+        }
+    }
+    
+    /**
+     * Applies only the differences between the CSV and the stored recipes.
+     * Skipped when the checkpoint shows the database already matches this
+     * dataset. The checkpoint is written only once every change is applied,
+     * so an interrupted or partly failed sync is picked up on the next start.
+     */
+    private void syncRecipesWithCsv(RecipeRepository recipeRepo, SeedProgressListener listener) {
+        long[] source = datasetChecksum();
+        if (source == null) {
+            return;
+        }
+        if (Arrays.equals(source, readCheckpoint())) {
+            System.out.println("✓ Recipes are up to date with the CSV dataset");
+            return;
+        }
+        
+        System.out.println("\nSyncing recipes with the CSV dataset...");
+        long startTime = System.currentTimeMillis();
+        listener.progress("Comparing recipes with CSV...", 10);
+        RecipeDelta delta = CSVRecipeLoader.syncRecipesFromCSV(recipeRepo, (applied, total) -> {
+            int percent = total > 0 ? 10 + (int) (80L * applied / total) : 10;
+            listener.progress("Applying recipe changes... " + applied + " of " + total, percent);
+        });
+        long endTime = System.currentTimeMillis();
+        if (delta == null) {
+            return;
+        }
+        
+        System.out.println("✓ Synced recipes: " + delta);
+        System.out.println("  Time taken: " + (endTime - startTime) / 1000.0 + " seconds");
+        if (delta.isComplete()) {
+            writeCheckpoint(source);
+        } else {
+            System.err.println("Only " + delta.getApplied() + " of " + delta.size() +
+                               " recipe changes were applied; the rest are retried on the next start");
+        }
+    }
+    
+    /**
+     * Reads the dataset checksum recorded by the last completed import.
+     * 
+     * @return {checksum, length}, or null if there is no usable checkpoint
+     */
+    private long[] readCheckpoint() {
+        Path checkpointFile = Paths.get(CHECKPOINT_FILE);
+        if (!Files.exists(checkpointFile)) {
+            return null;
+        }
+        
+        Properties checkpoint = new Properties();
+        try (InputStream in = Files.newInputStream(checkpointFile)) {
+            checkpoint.load(in);
+            return new long[] {
+                Long.parseLong(checkpoint.getProperty("dataset.checksum")),
+                Long.parseLong(checkpoint.getProperty("dataset.length"))
+            };
+        } catch (IOException | NumberFormatException e) {
+            System.err.println("Error reading import checkpoint: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Records that the database matches the dataset with the given checksum.
+     * Failure only costs the next start a comparison, so it is reported and ignored.
+     */
+    private void writeCheckpoint(long[] source) {
+        if (source == null) {
+            return;
+        }
+        
+        Properties checkpoint = new Properties();
+        checkpoint.setProperty("dataset.checksum", Long.toString(source[0]));
+        checkpoint.setProperty("dataset.length", Long.toString(source[1]));
+        try (OutputStream out = Files.newOutputStream(Paths.get(CHECKPOINT_FILE))) {
+            checkpoint.store(out, "Recipe Planner import checkpoint");
+        } catch (IOException e) {
+            System.err.println("Error writing import checkpoint: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Computes the checksum of the CSV dataset that snapshots are validated against.
+     * 
+     * @return {checksum, length}, or null if the dataset cannot be read
+     */
+    private long[] datasetChecksum() {
+        try {
+            return RecipeSnapshot.checksumOf(CSVRecipeLoader.openDataset());
+        } catch (IOException e) {
+            System.err.println("Error reading recipe dataset: " + e.getMessage());
+            return null;
+        }
+    }
+    
+    /**
+     * Restores recipes from the snapshot if it matches the current dataset.
+     * 
+     * @return true if the recipes were restored
+     */
+    private boolean restoreFromSnapshot(InMemoryRecipeRepository recipeRepo, long[] source) {
+        long startTime = System.currentTimeMillis();
+        RecipeSnapshot snapshot = RecipeSnapshot.open(Paths.get(SNAPSHOT_FILE), source[0], source[1]);
+        if (snapshot == null) {
+            return false;
+        }
+        int restored = recipeRepo.restoreAll(snapshot.readAll());
+        long endTime = System.currentTimeMillis();
+        
+        System.out.println("✓ Restored " + restored + " recipes from snapshot " + SNAPSHOT_FILE +
+                           " in " + (endTime - startTime) + " ms");
+        return restored > 0;
+    }
+    
+    /**
+     * Writes a snapshot of the freshly imported recipes for the next start.
+     * Failure only costs the next start a CSV parse, so it is reported and ignored.
+     */
+    private void writeSnapshot(RecipeRepository recipeRepo, long[] source) {
+        Path snapshotFile = Paths.get(SNAPSHOT_FILE);
+        try {
+            List<Recipe> recipes = recipeRepo.findAll();
+            recipes.sort(Comparator.comparingInt(Recipe::getId));
+            RecipeSnapshot.write(snapshotFile, source[0], source[1], recipes);
+            System.out.println("✓ Wrote recipe snapshot " + snapshotFile);
+        } catch (IOException e) {
+            System.err.println("Error writing recipe snapshot: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Loads all recipes from MySQL into the in-memory search index.
+     * Rows are streamed straight into the index without an intermediate list.
+     */
+    private void buildSearchIndex() {
+        long startTime = System.currentTimeMillis();
+        try (Stream<Recipe> recipes = repositoryManager.getRecipeRepository().streamAll()) {
+            repositoryManager.getRecipeSearchIndex().rebuild(recipes::iterator);
+        }
+        long endTime = System.currentTimeMillis();
+        
+        System.out.println("✓ Search index built: " + repositoryManager.getRecipeSearchIndex().termCount() +
+                           " terms in " + (endTime - startTime) + " ms");
     }
     
     /**
@@ -0,0 +1,364 @@
+package com.recipeplanner.util;
+
+import com.recipeplanner.model.Ingredient;
+import com.recipeplanner.model.RecipeIngredients;
+import com.recipeplanner.model.RecipeIngredients.RecipeIngredientsBuilder;
+import com.recipeplanner.model.Unit;
+import com.recipeplanner.repository.IngredientRepository;
+
+/**
+ * Parses a recipe's raw ingredient text into structured entries of amount,
+ * unit, ingredient and note.
+ *
+ * Handles the quantity forms found in the dataset:
+ * - Whole numbers and decimals: "2", "0.5"
+ * - Fractions and mixed numbers: "1/2", "1 1/2", "1-1/2", "½", "1½"
+ * - Ranges: "2-3", "2 to 3" (amount 2, upper amount 3)
+ * - No quantity: "Salt - to taste", "Oil - as required"
+ *
+ * Entries are scanned in place by index, without split or regular
+ * expressions; the only strings created per entry are the unit word and the
+ * ingredient name, which is resolved through IngredientRepository.findOrCreate.
+ * Names are lowercased and single-spaced; {@link #extractName} gives the same
+ * name for text typed by the user, such as a pantry entry.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public class IngredientQuantityParser {
+
+    // Notes in these forms mark an entry as added to taste rather than measured
+    private static final String[] TO_TASTE_PHRASES = { "to taste", "as required", "as needed", "as per" };
+
+    private static final String NOTE_SEPARATOR = " - ";
+
+    private final String text;
+    private final IngredientRepository ingredientRepository;
+
+    // Scan position, and whether the last number read was written as a fraction
+    private int pos;
+    private boolean fraction;
+
+    // Reused buffer for building ingredient names
+    private char[] scratch = new char[64];
+
+    private IngredientQuantityParser(String text, IngredientRepository ingredientRepository) {
+        this.text = text;
+        this.ingredientRepository = ingredientRepository;
+    }
+
+    /**
+     * Parses comma-separated ingredient text.
+     * Empty entries are skipped.
+     *
+     * @param rawIngredientsText Raw ingredient text from the dataset
+     * @param ingredientRepository Repository resolving ingredient names
+     * @return The parsed entries in order; empty if the text is null or empty
+     */
+    public static RecipeIngredients parse(String rawIngredientsText, IngredientRepository ingredientRepository) {
+        if (rawIngredientsText == null || rawIngredientsText.isEmpty()) {
+            return RecipeIngredients.EMPTY;
+        }
+
+        IngredientQuantityParser parser = new IngredientQuantityParser(rawIngredientsText, ingredientRepository);
+        RecipeIngredientsBuilder builder =
+            new RecipeIngredientsBuilder(rawIngredientsText, countEntries(rawIngredientsText));
+
+        int start = 0;
+        while (start <= rawIngredientsText.length()) {
+            int comma = rawIngredientsText.indexOf(',', start);
+            int end = comma >= 0 ? comma : rawIngredientsText.length();
+            parser.parseEntry(start, end, builder);
+            start = end + 1;
+        }
+        return builder.build();
+    }
+
+    /**
+     * Extracts the normalized ingredient name from a single entry, exactly as
+     * parse names it, without resolving it to an Ingredient.
+     * "2 teaspoons Cumin seeds (Jeera) - roasted" gives "cumin seeds (jeera)".
+     *
+     * @param entry One ingredient entry
+     * @return The lowercased ingredient name, or an empty string if none was found
+     */
+    public static String extractName(String entry) {
+        if (entry == null) {
+            return "";
+        }
+        return new IngredientQuantityParser(entry, null).parseEntry(0, entry.length(), null);
+    }
+
+    /**
+     * Parses one entry in text[from, to) and adds it to the builder, if any.
+     *
+     * @return The normalized ingredient name
+     */
+    private String parseEntry(int from, int to, RecipeIngredientsBuilder builder) {
+        int start = skipSpaces(from, to);
+        int end = trimEnd(start, to);
+        if (start == end) {
+            return "";
+        }
+
+        // Preparation note: "Onion - thinly sliced"
+        int nameEnd = end;
+        int noteStart = -1;
+        int separator = indexOf(NOTE_SEPARATOR, start, end);
+        if (separator >= 0) {
+            nameEnd = separator;
+            noteStart = skipSpaces(separator + NOTE_SEPARATOR.length(), end);
+            if (noteStart == end) {
+                noteStart = -1;
+            }
+        }
+
+        pos = start;
+        double amount = readQuantity(nameEnd);
+        double maxAmount = amount;
+        Unit unit = null;
+        if (amount > 0) {
+            maxAmount = readRange(amount, nameEnd);
+            unit = readUnit(nameEnd);
+        } else {
+            amount = 0;
+            maxAmount = 0;
+        }
+
+        String name = normalizeName(skipSpaces(pos, nameEnd), nameEnd);
+        if (builder == null) {
+            return name;
+        }
+        Ingredient ingredient = name.isEmpty() ? null : ingredientRepository.findOrCreate(name);
+        // Unmeasured entries may also say so without a separator: "Salt to taste"
+        boolean toTaste = amount > 0 ? noteStart >= 0 && isToTaste(noteStart, end) : isToTaste(start, end);
+        builder.addEntry(start, end, amount, maxAmount, unit, ingredient, noteStart, end, toTaste);
+        return name;
+    }
+
+    /**
+     * Reads the leading quantity, including mixed numbers such as "1 1/2"
+     * and "1-1/2".
+     *
+     * @return The amount, or NaN if the entry does not start with one
+     */
+    private double readQuantity(int limit) {
+        double amount = readNumber(limit);
+        if (Double.isNaN(amount) || fraction) {
+            return amount;
+        }
+
+        int save = pos;
+        int next = skipSpaces(pos, limit);
+        if (next == pos && next < limit && text.charAt(next) == '-') {
+            next++; // "1-1/2"; a range such as "2-3" is left to readRange
+        } else if (next == pos) {
+            return amount;
+        }
+        pos = next;
+        double part = readNumber(limit);
+        if (!Double.isNaN(part) && fraction && part < 1) {
+            return amount + part;
+        }
+        pos = save;
+        return amount;
+    }
+
+    /**
+     * Reads the upper end of a range after the quantity: "-3" or " to 3".
+     *
+     * @return The upper end, or the amount itself if no range follows
+     */
+    private double readRange(double amount, int limit) {
+        int save = pos;
+        int next = skipSpaces(pos, limit);
+        if (next < limit && text.charAt(next) == '-') {
+            next++;
+        } else if (next > pos && text.regionMatches(true, next, "to ", 0, 3)) {
+            next += 3;
+        } else {
+            return amount;
+        }
+
+        pos = skipSpaces(next, limit);
+        double upper = readNumber(limit);
+        if (!Double.isNaN(upper) && upper > amount) {
+            return upper;
+        }
+        pos = save;
+        return amount;
+    }
+
+    /**
+     * Reads a unit word after the quantity, along with a following "of".
+     * A word only counts as a unit if more of the name follows it, so that
+     * "4 Cloves" and "2 Cloves (Laung)" keep cloves as the ingredient.
+     *
+     * @return The unit, or PIECE for counted items
+     */
+    private Unit readUnit(int limit) {
+        int wordStart = skipSpaces(pos, limit);
+        int wordEnd = wordStart;
+        while (wordEnd < limit && Character.isLetter(text.charAt(wordEnd))) {
+            wordEnd++;
+        }
+        int after = wordEnd < limit && text.charAt(wordEnd) == '.' ? wordEnd + 1 : wordEnd;
+        int rest = skipSpaces(after, limit);
+        if (wordEnd == wordStart || rest == after || rest >= limit || text.charAt(rest) == '(') {
+            return Unit.PIECE;
+        }
+
+        Unit unit = Unit.fromString(text.substring(wordStart, wordEnd));
+        if (unit == null) {
+            return Unit.PIECE;
+        }
+        pos = rest;
+        if (text.regionMatches(true, pos, "of ", 0, 3)) {
+            pos = skipSpaces(pos + 3, limit);
+        }
+        return unit;
+    }
+
+    /**
+     * Reads one number: "2", "0.5", "1/2", "½" or "1½".
+     * Sets fraction when the number was written as a fraction.
+     *
+     * @return The value, or NaN if there is no number at pos
+     */
+    private double readNumber(int limit) {
+        int p = pos;
+        fraction = false;
+        if (p >= limit) {
+            return Double.NaN;
+        }
+
+        double vulgar = vulgarFraction(text.charAt(p));
+        if (vulgar > 0) {
+            pos = p + 1;
+            fraction = true;
+            return vulgar;
+        }
+        if (!isDigit(text.charAt(p))) {
+            return Double.NaN;
+        }
+
+        double value = 0;
+        while (p < limit && isDigit(text.charAt(p))) {
+            value = value * 10 + (text.charAt(p++) - '0');
+        }
+        if (p + 1 < limit && text.charAt(p) == '.' && isDigit(text.charAt(p + 1))) {
+            double scale = 1;
+            p++;
+            while (p < limit && isDigit(text.charAt(p))) {
+                scale /= 10;
+                value += (text.charAt(p++) - '0') * scale;
+            }
+        } else if (p + 1 < limit && text.charAt(p) == '/' && isDigit(text.charAt(p + 1))) {
+            double denominator = 0;
+            p++;
+            while (p < limit && isDigit(text.charAt(p))) {
+                denominator = denominator * 10 + (text.charAt(p++) - '0');
+            }
+            if (denominator > 0) {
+                value /= denominator;
+                fraction = true;
+            }
+        } else if (p < limit && vulgarFraction(text.charAt(p)) > 0) {
+            value += vulgarFraction(text.charAt(p++)); // "1½"
+        }
+        pos = p;
+        return value;
+    }
+
+    /**
+     * Builds the lowercased, single-spaced name in text[from, to), dropping a
+     * dangling separator such as the one in "Cumin powder -".
+     */
+    private String normalizeName(int from, int to) {
+        int end = to;
+        while (end > from && (text.charAt(end - 1) <= ' ' || text.charAt(end - 1) == '-')) {
+            end--;
+        }
+        if (scratch.length < end - from) {
+            scratch = new char[end - from];
+        }
+        int length = 0;
+        boolean pendingSpace = false;
+        for (int i = from; i < end; i++) {
+            char c = text.charAt(i);
+            if (c <= ' ' || Character.isWhitespace(c)) {
+                pendingSpace = length > 0;
+            } else {
+                if (pendingSpace) {
+                    scratch[length++] = ' ';
+                    pendingSpace = false;
+                }
+                scratch[length++] = Character.toLowerCase(c);
+            }
+        }
+        return new String(scratch, 0, length);
+    }
+
+    private boolean isToTaste(int from, int to) {
+        for (String phrase : TO_TASTE_PHRASES) {
+            if (indexOfIgnoreCase(phrase, from, to) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private int indexOf(String target, int from, int to) {
+        int index = text.indexOf(target, from);
+        return index >= 0 && index + target.length() <= to ? index : -1;
+    }
+
+    private int indexOfIgnoreCase(String target, int from, int to) {
+        for (int i = from; i + target.length() <= to; i++) {
+            if (text.regionMatches(true, i, target, 0, target.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int skipSpaces(int from, int to) {
+        while (from < to && Character.isWhitespace(text.charAt(from))) {
+            from++;
+        }
+        return from;
+    }
+
+    private int trimEnd(int from, int to) {
+        while (to > from && Character.isWhitespace(text.charAt(to - 1))) {
+            to--;
+        }
+        return to;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static double vulgarFraction(char c) {
+        switch (c) {
+            case '½': return 0.5;
+            case '¼': return 0.25;
+            case '¾': return 0.75;
+            case '⅓': return 1.0 / 3;
+            case '⅔': return 2.0 / 3;
+            case '⅛': return 0.125;
+            default: return 0;
+        }
+    }
+
+    private static int countEntries(String text) {
+        int count = 1;
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) == ',') {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,420 @@
+package com.recipeplanner.util;
+
+import com.recipeplanner.model.Recipe;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Byte-level parser for the recipe CSV dataset.
+ *
+ * A single pass over the raw UTF-8 bytes tracks quoting and records where each
+ * field starts and ends; nothing is decoded while scanning. Only the fields a
+ * Recipe keeps (name, ingredients, cuisine, instructions, source and image
+ * URLs) are turned into Strings, the time is parsed straight from its bytes,
+ * and instruction steps are decoded one by one instead of decoding the whole
+ * column and splitting it. Cuisines repeat across thousands of rows, so each
+ * distinct one is decoded once and shared.
+ *
+ * Splits records the same way the former line-based parser did: quote
+ * characters are dropped, fields are trimmed, a record ends at an unquoted
+ * line break, and records with fewer than five fields or without a name are
+ * skipped.
+ *
+ * The data buffer is only read with absolute gets, so several parsers may
+ * share it; a parser itself is not thread-safe.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+class RecipeCsvParser {
+
+    // CSV Format:
+    // 0: TranslatedRecipeName
+    // 1: TranslatedIngredients (with quantities; Cleaned-Ingredients strips them)
+    // 2: TotalTimeInMins
+    // 3: Cuisine
+    // 4: TranslatedInstructions
+    // 5: URL
+    // 6: Cleaned-Ingredients
+    // 7: image-url
+    // 8: Ingredient-count
+    private static final int NAME = 0;
+    private static final int INGREDIENTS = 1;
+    private static final int TIME = 2;
+    private static final int CUISINE = 3;
+    private static final int INSTRUCTIONS = 4;
+    private static final int URL = 5;
+    private static final int IMAGE_URL = 7;
+
+    private static final int MIN_FIELDS = 5;
+    private static final int TRACKED_FIELDS = IMAGE_URL + 1;
+    private static final int DEFAULT_TIME = 30;
+    private static final int MIN_STEP_LENGTH = 6;
+
+    private final ByteBuffer data;
+    private final int[] fieldStart = new int[TRACKED_FIELDS];
+    private final int[] fieldEnd = new int[TRACKED_FIELDS];
+
+    // Reused buffer holding the current field with quotes removed and ends trimmed
+    private byte[] scratch = new byte[4096];
+    private int scratchFrom;
+    private int scratchTo;
+
+    private final Map<ByteKey, String> cuisines = new HashMap<>();
+    private final ByteKey probe = new ByteKey();
+
+    RecipeCsvParser(ByteBuffer data) {
+        this.data = data;
+    }
+
+    /**
+     * Gets the offset of the first record, just after the header line.
+     *
+     * @param data The whole CSV
+     * @return Offset of the first data record, or data.limit() if there is none
+     */
+    static int headerEnd(ByteBuffer data) {
+        boolean inQuotes = false;
+        for (int i = 0; i < data.limit(); i++) {
+            byte b = data.get(i);
+            if (b == '"') {
+                inQuotes = !inQuotes;
+            } else if (!inQuotes && (b == '\n' || b == '\r')) {
+                return b == '\r' && i + 1 < data.limit() && data.get(i + 1) == '\n' ? i + 2 : i + 1;
+            }
+        }
+        return data.limit();
+    }
+
+    /**
+     * Finds offsets that split the records into roughly equal chunks.
+     * Tracks quoting so a boundary is only placed after a line break that
+     * ends a record, never inside a multi-line field.
+     *
+     * @param data The whole CSV
+     * @param from Offset of the first record
+     * @param chunkCount Desired number of chunks
+     * @return Sorted offsets; chunk i spans [boundaries[i], boundaries[i + 1])
+     */
+    static int[] findRecordBoundaries(ByteBuffer data, int from, int chunkCount) {
+        int limit = data.limit();
+        int chunkSize = Math.max(1, (limit - from) / Math.max(1, chunkCount));
+        List<Integer> boundaries = new ArrayList<>();
+        boundaries.add(from);
+
+        int target = from + chunkSize;
+        boolean inQuotes = false;
+        for (int i = from; i < limit; i++) {
+            byte b = data.get(i);
+            if (b == '"') {
+                inQuotes = !inQuotes;
+            } else if (b == '\n' && !inQuotes && i + 1 >= target && i + 1 < limit) {
+                boundaries.add(i + 1);
+                target = i + 1 + chunkSize;
+            }
+        }
+        boundaries.add(limit);
+
+        int[] result = new int[boundaries.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = boundaries.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * Parses the records in [from, to) and hands each recipe to the sink.
+     * The range must start at a record boundary. A quoted field still open
+     * at the end of the range is dropped.
+     *
+     * @param from Offset of the first record
+     * @param to End offset (exclusive)
+     * @param sink Receives parsed recipes in order
+     */
+    void parse(int from, int to, Consumer<Recipe> sink) {
+        int pos = from;
+        while (pos < to) {
+            fieldStart[0] = pos;
+            int fieldCount = 0;
+            boolean inQuotes = false;
+            int i = pos;
+            byte b = 0;
+
+            for (; i < to; i++) {
+                b = data.get(i);
+                if (b == '"') {
+                    inQuotes = !inQuotes;
+                } else if (!inQuotes) {
+                    if (b == ',') {
+                        if (fieldCount < TRACKED_FIELDS) {
+                            fieldEnd[fieldCount] = i;
+                        }
+                        fieldCount++;
+                        if (fieldCount < TRACKED_FIELDS) {
+                            fieldStart[fieldCount] = i + 1;
+                        }
+                    } else if (b == '\n' || b == '\r') {
+                        break;
+                    }
+                }
+            }
+            if (inQuotes) {
+                return;
+            }
+            if (fieldCount < TRACKED_FIELDS) {
+                fieldEnd[fieldCount] = i;
+            }
+            fieldCount++;
+
+            try {
+                Recipe recipe = toRecipe(fieldCount);
+                if (recipe != null) {
+                    sink.accept(recipe);
+                }
+            } catch (RuntimeException e) {
+                // Skip malformed records
+                System.err.println("Error parsing line: " + e.getMessage());
+            }
+
+            pos = i + 1;
+            if (b == '\r' && pos < to && data.get(pos) == '\n') {
+                pos++;
+            }
+        }
+    }
+
+    /**
+     * Builds a recipe from the fields of the current record.
+     *
+     * @return The recipe, or null if the record has too few fields or no usable name
+     */
+    private Recipe toRecipe(int fieldCount) {
+        if (fieldCount < MIN_FIELDS) {
+            return null;
+        }
+
+        load(NAME);
+        collapseWhitespace();
+        String name = decode(scratchFrom, scratchTo);
+        if (name.length() < 2) {
+            return null;
+        }
+
+        Recipe recipe = new Recipe();
+        recipe.setName(name);
+        load(CUISINE);
+        recipe.setCuisine(cuisine());
+        load(TIME);
+        recipe.setTotalTimeInMins(parseTime());
+        load(INGREDIENTS);
+        recipe.setRawIngredientsText(decode(scratchFrom, scratchTo));
+        recipe.setCreatedBy(0); // System recipe
+        if (fieldCount > URL) {
+            load(URL);
+            recipe.setSourceUrl(decode(scratchFrom, scratchTo));
+        } else {
+            recipe.setSourceUrl("");
+        }
+        if (fieldCount > IMAGE_URL) {
+            load(IMAGE_URL);
+            recipe.setImageUrl(decode(scratchFrom, scratchTo));
+        } else {
+            recipe.setImageUrl("");
+        }
+
+        // Steps are separated by newlines or periods; very short fragments are dropped
+        load(INSTRUCTIONS);
+        int stepStart = scratchFrom;
+        for (int i = scratchFrom; i <= scratchTo; i++) {
+            if (i == scratchTo || scratch[i] == '\n' || scratch[i] == '.') {
+                addStep(recipe, stepStart, i);
+                stepStart = i + 1;
+            }
+        }
+        return recipe;
+    }
+
+    private void addStep(Recipe recipe, int from, int to) {
+        while (from < to && isTrimmed(scratch[from])) {
+            from++;
+        }
+        while (to > from && isTrimmed(scratch[to - 1])) {
+            to--;
+        }
+        // A UTF-8 string has at most as many chars as bytes, so short steps need no decoding
+        if (to - from >= MIN_STEP_LENGTH) {
+            String step = decode(from, to);
+            if (step.length() >= MIN_STEP_LENGTH) {
+                recipe.addInstruction(step);
+            }
+        }
+    }
+
+    /**
+     * Copies a field into the scratch buffer, dropping quote characters and
+     * turning line breaks inside quotes into '\n', then trims it.
+     */
+    private void load(int field) {
+        int from = fieldStart[field];
+        int to = fieldEnd[field];
+        if (scratch.length < to - from) {
+            scratch = new byte[Math.max(to - from, scratch.length * 2)];
+        }
+
+        int length = 0;
+        for (int i = from; i < to; i++) {
+            byte b = data.get(i);
+            if (b == '"') {
+                continue;
+            }
+            if (b == '\r') {
+                b = '\n';
+                if (i + 1 < to && data.get(i + 1) == '\n') {
+                    i++;
+                }
+            }
+            scratch[length++] = b;
+        }
+
+        scratchFrom = 0;
+        scratchTo = length;
+        while (scratchFrom < scratchTo && isTrimmed(scratch[scratchFrom])) {
+            scratchFrom++;
+        }
+        while (scratchTo > scratchFrom && isTrimmed(scratch[scratchTo - 1])) {
+            scratchTo--;
+        }
+    }
+
+    /**
+     * Replaces each run of whitespace in the loaded field with a single space.
+     */
+    private void collapseWhitespace() {
+        int out = scratchFrom;
+        boolean inRun = false;
+        for (int i = scratchFrom; i < scratchTo; i++) {
+            byte b = scratch[i];
+            if (b == ' ' || b == '\t' || b == '\n' || b == 0x0B || b == '\f' || b == '\r') {
+                if (!inRun) {
+                    scratch[out++] = ' ';
+                    inRun = true;
+                }
+            } else {
+                scratch[out++] = b;
+                inRun = false;
+            }
+        }
+        scratchTo = out;
+    }
+
+    /**
+     * Gets the loaded cuisine, decoding each distinct value only once.
+     */
+    private String cuisine() {
+        probe.set(scratch, scratchFrom, scratchTo);
+        String cuisine = cuisines.get(probe);
+        if (cuisine == null) {
+            cuisine = decode(scratchFrom, scratchTo);
+            ByteKey key = new ByteKey();
+            key.set(Arrays.copyOfRange(scratch, scratchFrom, scratchTo), 0, scratchTo - scratchFrom);
+            cuisines.put(key, cuisine);
+        }
+        return cuisine;
+    }
+
+    /**
+     * Parses the loaded field as a whole number of minutes, like Integer.parseInt.
+     *
+     * @return The time, or 30 if the field is empty or not a number
+     */
+    private int parseTime() {
+        int i = scratchFrom;
+        if (i == scratchTo) {
+            return DEFAULT_TIME;
+        }
+        boolean negative = scratch[i] == '-';
+        if (scratch[i] == '-' || scratch[i] == '+') {
+            i++;
+        }
+        if (i == scratchTo) {
+            return DEFAULT_TIME;
+        }
+
+        long value = 0;
+        for (; i < scratchTo; i++) {
+            byte b = scratch[i];
+            if (b < '0' || b > '9') {
+                // Non-ASCII digits are rare enough to leave to Integer.parseInt
+                return b < 0 ? parseTimeSlow() : DEFAULT_TIME;
+            }
+            value = value * 10 + (b - '0');
+            if (value > Integer.MAX_VALUE + 1L) {
+                return DEFAULT_TIME;
+            }
+        }
+        value = negative ? -value : value;
+        return value > Integer.MAX_VALUE ? DEFAULT_TIME : (int) value;
+    }
+
+    private int parseTimeSlow() {
+        try {
+            return Integer.parseInt(decode(scratchFrom, scratchTo));
+        } catch (NumberFormatException e) {
+            return DEFAULT_TIME;
+        }
+    }
+
+    private String decode(int from, int to) {
+        return new String(scratch, from, to - from, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Matches String.trim(): every char up to U+0020 is one byte in UTF-8.
+     */
+    private static boolean isTrimmed(byte b) {
+        return (b & 0xFF) <= ' ';
+    }
+
+    /**
+     * Byte range usable as a hash map key, so a cuisine can be looked up
+     * before deciding to decode it.
+     */
+    private static final class ByteKey {
+        private byte[] bytes;
+        private int from;
+        private int to;
+        private int hash;
+
+        void set(byte[] bytes, int from, int to) {
+            this.bytes = bytes;
+            this.from = from;
+            this.to = to;
+            int h = 1;
+            for (int i = from; i < to; i++) {
+                h = 31 * h + bytes[i];
+            }
+            this.hash = h;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof ByteKey)) {
+                return false;
+            }
+            ByteKey other = (ByteKey) o;
+            return hash == other.hash && Arrays.equals(bytes, from, to, other.bytes, other.from, other.to);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package com.recipeplanner.util;
+
+import com.recipeplanner.model.Recipe;
+import com.recipeplanner.repository.RecipeRepository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Difference between the seeded recipes in a repository and a freshly parsed
+ * dataset, as the inserts, updates and deletes that turn one into the other.
+ *
+ * Records are matched by source URL, which is unique in the dataset. Stored
+ * recipes imported before source URLs were kept are matched by name instead,
+ * and get their URL on the next update. A matched pair only counts as changed
+ * when the fingerprints differ: a SHA-256 hash of the URL and every stored
+ * column. Recipes created by users (createdBy != 0) are never touched.
+ *
+ * Applying a delta commits one batch at a time, so an interrupted import
+ * keeps the batches already written, and computing the delta again afterwards
+ * yields only the changes that are still missing.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public class RecipeDelta {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private final List<Recipe> inserts = new ArrayList<>();
+    private final List<Recipe> updates = new ArrayList<>();
+    private final List<Integer> deletes = new ArrayList<>();
+    private int unchanged;
+    private int applied;
+
+    /**
+     * ID and fingerprint of a stored recipe; the recipe itself is not kept.
+     */
+    private static final class StoredRecipe {
+        private final int id;
+        private final long fingerprint;
+
+        StoredRecipe(int id, long fingerprint) {
+            this.id = id;
+            this.fingerprint = fingerprint;
+        }
+    }
+
+    private RecipeDelta() {
+    }
+
+    /**
+     * Compares stored recipes against a parsed dataset.
+     * The stored recipes are only read once and not retained, so they can
+     * come straight from RecipeRepository.streamAll.
+     *
+     * @param stored Recipes currently in the repository
+     * @param parsed Recipes parsed from the dataset, without IDs
+     * @return The changes needed to bring the repository in line with the dataset
+     */
+    public static RecipeDelta compute(Iterable<Recipe> stored, List<Recipe> parsed) {
+        MessageDigest digest = newDigest();
+        Map<String, Deque<StoredRecipe>> byUrl = new HashMap<>();
+        Map<String, Deque<StoredRecipe>> byName = new HashMap<>();
+
+        for (Recipe recipe : stored) {
+            if (!recipe.isSeededRecipe()) {
+                continue;
+            }
+            StoredRecipe entry = new StoredRecipe(recipe.getId(), fingerprint(digest, recipe));
+            String url = recipe.getSourceUrl();
+            if (url != null && !url.isEmpty()) {
+                byUrl.computeIfAbsent(url, key -> new ArrayDeque<>()).add(entry);
+            } else {
+                byName.computeIfAbsent(recipe.getName(), key -> new ArrayDeque<>()).add(entry);
+            }
+        }
+
+        RecipeDelta delta = new RecipeDelta();
+        for (Recipe recipe : parsed) {
+            StoredRecipe match = null;
+            String url = recipe.getSourceUrl();
+            if (url != null && !url.isEmpty()) {
+                match = poll(byUrl, url);
+            }
+            if (match == null) {
+                match = poll(byName, recipe.getName());
+            }
+
+            if (match == null) {
+                delta.inserts.add(recipe);
+            } else if (match.fingerprint != fingerprint(digest, recipe)) {
+                recipe.setId(match.id);
+                delta.updates.add(recipe);
+            } else {
+                delta.unchanged++;
+            }
+        }
+
+        // Whatever was not matched is no longer in the dataset
+        for (Deque<StoredRecipe> entries : byUrl.values()) {
+            entries.forEach(entry -> delta.deletes.add(entry.id));
+        }
+        for (Deque<StoredRecipe> entries : byName.values()) {
+            entries.forEach(entry -> delta.deletes.add(entry.id));
+        }
+        Collections.sort(delta.deletes);
+        return delta;
+    }
+
+    /**
+     * Writes the changes in batches: deletes first, then updates, then inserts.
+     * Each batch is committed on its own, so concurrent readers are never
+     * blocked for longer than one batch.
+     *
+     * @param repository The repository to change
+     * @param batchSize Recipes per batch
+     * @param listener Receives the running count of applied changes after each batch
+     * @return Number of changes applied; less than size() if some batches failed
+     */
+    public int apply(RecipeRepository repository, int batchSize,
+                     CSVRecipeLoader.ImportProgressListener listener) {
+        int total = size();
+        applied = 0;
+
+        for (int from = 0; from < deletes.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, deletes.size());
+            applied += repository.deleteAll(deletes.subList(from, to), batchSize);
+            listener.recipesImported(applied, total);
+        }
+        for (int from = 0; from < updates.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, updates.size());
+            applied += repository.saveAll(updates.subList(from, to), batchSize);
+            listener.recipesImported(applied, total);
+        }
+        for (int from = 0; from < inserts.size(); from += batchSize) {
+            int to = Math.min(from + batchSize, inserts.size());
+            applied += repository.saveAll(inserts.subList(from, to), batchSize);
+            listener.recipesImported(applied, total);
+        }
+        return applied;
+    }
+
+    /**
+     * Gets the recipes in the dataset but not in the repository.
+     *
+     * @return Unmodifiable list of recipes to insert
+     */
+    public List<Recipe> getInserts() {
+        return Collections.unmodifiableList(inserts);
+    }
+
+    /**
+     * Gets the recipes whose content changed, with the stored IDs assigned.
+     *
+     * @return Unmodifiable list of recipes to update
+     */
+    public List<Recipe> getUpdates() {
+        return Collections.unmodifiableList(updates);
+    }
+
+    /**
+     * Gets the IDs of seeded recipes that are no longer in the dataset.
+     *
+     * @return Unmodifiable list of recipe IDs to delete
+     */
+    public List<Integer> getDeletes() {
+        return Collections.unmodifiableList(deletes);
+    }
+
+    /**
+     * Gets the number of recipes that are already up to date.
+     *
+     * @return The unchanged count
+     */
+    public int getUnchanged() {
+        return unchanged;
+    }
+
+    /**
+     * Gets the total number of changes.
+     *
+     * @return Inserts, updates and deletes combined
+     */
+    public int size() {
+        return inserts.size() + updates.size() + deletes.size();
+    }
+
+    /**
+     * Gets the number of changes written by the last apply.
+     *
+     * @return The applied count
+     */
+    public int getApplied() {
+        return applied;
+    }
+
+    /**
+     * Checks if every change was written by the last apply.
+     *
+     * @return true if apply wrote all changes
+     */
+    public boolean isComplete() {
+        return applied == size();
+    }
+
+    /**
+     * Checks if the repository already matches the dataset.
+     *
+     * @return true if there is nothing to change
+     */
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Computes the fingerprint of a recipe's content.
+     *
+     * @param recipe The recipe
+     * @return First 8 bytes of the SHA-256 hash of its URL and columns
+     */
+    public static long fingerprint(Recipe recipe) {
+        return fingerprint(newDigest(), recipe);
+    }
+
+    private static long fingerprint(MessageDigest digest, Recipe recipe) {
+        digest.reset();
+        update(digest, recipe.getSourceUrl());
+        update(digest, recipe.getName());
+        update(digest, recipe.getDescription());
+        update(digest, recipe.getCuisine());
+        update(digest, Integer.toString(recipe.getTotalTimeInMins()));
+        update(digest, recipe.getImageUrl());
+        update(digest, recipe.getRawIngredientsText());
+        // Same newline-joined form as the instructions column
+        update(digest, recipe.getInstructions() != null ? String.join("\n", recipe.getInstructions()) : null);
+
+        byte[] hash = digest.digest();
+        long fingerprint = 0;
+        for (int i = 0; i < Long.BYTES; i++) {
+            fingerprint = (fingerprint << 8) | (hash[i] & 0xFF);
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Adds one field; null and empty hash alike, as the database may return either.
+     */
+    private static void update(MessageDigest digest, String field) {
+        if (field != null) {
+            digest.update(field.getBytes(StandardCharsets.UTF_8));
+        }
+        digest.update((byte) 0); // Field separator
+    }
+
+    private static StoredRecipe poll(Map<String, Deque<StoredRecipe>> index, String key) {
+        Deque<StoredRecipe> entries = index.get(key);
+        if (entries == null) {
+            return null;
+        }
+        StoredRecipe entry = entries.poll();
+        if (entries.isEmpty()) {
+            index.remove(key);
+        }
+        return entry;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new RuntimeException("SHA-256 algorithm not available", e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return inserts.size() + " new, " + updates.size() + " changed, " +
+               deletes.size() + " removed, " + unchanged + " unchanged";
+    }
+}
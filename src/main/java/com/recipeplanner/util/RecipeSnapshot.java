@@ -0,0 +1,362 @@
+package com.recipeplanner.util;
+
+import com.recipeplanner.model.Recipe;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Compact binary snapshot of the parsed recipe corpus, so a start without
+ * MySQL can skip CSV parsing when the dataset has not changed.
+ *
+ * File layout (all integers big-endian):
+ * <pre>
+ * header      48 bytes  magic, format version, source checksum + length,
+ *                       body checksum, recipe count, cuisine count, pool size
+ * cuisines    4 bytes per cuisine: pool offset of its name
+ * records     40 bytes per recipe: id, cuisine code, total time, creator,
+ *                       then pool offsets of name, description, source URL,
+ *                       image URL, ingredient text and instructions
+ * pool        UTF-8 strings, each prefixed with its byte length
+ * </pre>
+ * Cuisines are dictionary-encoded: a record stores a small code instead of
+ * the name. Equal strings are stored once in the pool; offset -1 means null.
+ * Records have a fixed size, so recipe {@code i} and its cuisine and time
+ * can be read directly from the mapped file without decoding anything else.
+ *
+ * A snapshot records the CRC32C and length of the source it was built from
+ * and is only opened for that exact source. The body has its own checksum,
+ * so a truncated or damaged file is rejected rather than misread.
+ *
+ * @author Recipe Planner Team
+ * @version 1.0
+ */
+public class RecipeSnapshot {
+
+    private static final int MAGIC = 0x52534E50;    // "RSNP"
+    private static final int FORMAT_VERSION = 2;    // Also bumped when parsed recipes change
+    private static final int HEADER_BYTES = 48;
+    private static final int RECORD_BYTES = 40;
+    private static final int NULL_REF = -1;
+
+    // Record field offsets
+    private static final int ID = 0;
+    private static final int CUISINE_CODE = 4;
+    private static final int TIME = 8;
+    private static final int CREATED_BY = 12;
+    private static final int NAME = 16;
+    private static final int DESCRIPTION = 20;
+    private static final int SOURCE_URL = 24;
+    private static final int IMAGE_URL = 28;
+    private static final int INGREDIENTS = 32;
+    private static final int INSTRUCTIONS = 36;
+
+    private final ByteBuffer buffer;
+    private final int recipeCount;
+    private final int recordsStart;
+    private final int poolStart;
+    private final String[] cuisines;
+
+    private RecipeSnapshot(ByteBuffer buffer, int recipeCount, int cuisineCount) {
+        this.buffer = buffer;
+        this.recipeCount = recipeCount;
+        this.recordsStart = HEADER_BYTES + 4 * cuisineCount;
+        this.poolStart = recordsStart + RECORD_BYTES * recipeCount;
+        this.cuisines = new String[cuisineCount];
+        for (int code = 0; code < cuisineCount; code++) {
+            cuisines[code] = string(buffer.getInt(HEADER_BYTES + 4 * code));
+        }
+    }
+
+    /**
+     * Writes a snapshot of the recipes, replacing any existing file atomically.
+     *
+     * @param snapshotFile Where to write the snapshot
+     * @param sourceChecksum Checksum of the source the recipes were loaded from
+     * @param sourceLength Length in bytes of that source
+     * @param recipes The recipes, in the order they should be restored
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path snapshotFile, long sourceChecksum, long sourceLength,
+                             List<Recipe> recipes) throws IOException {
+        StringPool pool = new StringPool();
+        Map<String, Integer> cuisineCodes = new HashMap<>();
+        List<Integer> cuisineRefs = new ArrayList<>();
+
+        ByteBuffer records = ByteBuffer.allocate(RECORD_BYTES * recipes.size());
+        for (Recipe recipe : recipes) {
+            int cuisineCode = NULL_REF;
+            if (recipe.getCuisine() != null) {
+                Integer code = cuisineCodes.get(recipe.getCuisine());
+                if (code == null) {
+                    code = cuisineCodes.size();
+                    cuisineCodes.put(recipe.getCuisine(), code);
+                    cuisineRefs.add(pool.add(recipe.getCuisine()));
+                }
+                cuisineCode = code;
+            }
+            records.putInt(recipe.getId())
+                   .putInt(cuisineCode)
+                   .putInt(recipe.getTotalTimeInMins())
+                   .putInt(recipe.getCreatedBy())
+                   .putInt(pool.add(recipe.getName()))
+                   .putInt(pool.add(recipe.getDescription()))
+                   .putInt(pool.add(recipe.getSourceUrl()))
+                   .putInt(pool.add(recipe.getImageUrl()))
+                   .putInt(pool.add(recipe.getRawIngredientsText()))
+                   .putInt(pool.add(recipe.getInstructions() != null
+                       ? String.join("\n", recipe.getInstructions()) : null));
+        }
+
+        byte[] poolBytes = pool.toByteArray();
+        ByteBuffer body = ByteBuffer.allocate(4 * cuisineRefs.size() + records.capacity() + poolBytes.length);
+        for (int ref : cuisineRefs) {
+            body.putInt(ref);
+        }
+        body.put(records.array()).put(poolBytes);
+        body.flip();
+
+        CRC32C bodyChecksum = new CRC32C();
+        bodyChecksum.update(body.duplicate());
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+        header.putInt(MAGIC)
+              .putInt(FORMAT_VERSION)
+              .putLong(sourceChecksum)
+              .putLong(sourceLength)
+              .putLong(bodyChecksum.getValue())
+              .putInt(recipes.size())
+              .putInt(cuisineRefs.size())
+              .putInt(poolBytes.length)
+              .putInt(0);   // reserved
+        header.flip();
+
+        // Write next to the target and move into place, so readers never see a partial file
+        Path parent = snapshotFile.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(parent, snapshotFile.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (header.hasRemaining()) {
+                    channel.write(header);
+                }
+                while (body.hasRemaining()) {
+                    channel.write(body);
+                }
+                channel.force(false);
+            }
+            Files.move(temp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Opens a snapshot if it was built from the given source and is intact.
+     * The header is read first, so a stale snapshot is never mapped.
+     *
+     * @param snapshotFile The snapshot file
+     * @param sourceChecksum Checksum of the current source
+     * @param sourceLength Length in bytes of the current source
+     * @return The memory-mapped snapshot, or null if it is missing, stale or damaged
+     */
+    public static RecipeSnapshot open(Path snapshotFile, long sourceChecksum, long sourceLength) {
+        if (!Files.isRegularFile(snapshotFile)) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+            while (header.hasRemaining() && channel.read(header) >= 0) {
+                // keep reading until the header is complete or the file ends
+            }
+            header.flip();
+            if (header.remaining() < HEADER_BYTES || header.getInt(0) != MAGIC) {
+                System.err.println("Ignoring " + snapshotFile + ": not a recipe snapshot");
+                return null;
+            }
+            if (header.getInt(4) != FORMAT_VERSION) {
+                System.out.println("Recipe snapshot has an old format version; it will be rebuilt");
+                return null;
+            }
+            if (header.getLong(8) != sourceChecksum || header.getLong(16) != sourceLength) {
+                System.out.println("Recipe dataset changed since the snapshot was written; it will be rebuilt");
+                return null;
+            }
+
+            int recipeCount = header.getInt(32);
+            int cuisineCount = header.getInt(36);
+            long poolBytes = header.getInt(40) & 0xFFFFFFFFL;
+            long expectedSize = HEADER_BYTES + 4L * cuisineCount + (long) RECORD_BYTES * recipeCount + poolBytes;
+            if (recipeCount < 0 || cuisineCount < 0 || expectedSize != fileSize || fileSize > Integer.MAX_VALUE) {
+                System.err.println("Ignoring " + snapshotFile + ": unexpected size");
+                return null;
+            }
+
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, fileSize);
+            CRC32C bodyChecksum = new CRC32C();
+            bodyChecksum.update(mapped.duplicate().position(HEADER_BYTES));
+            if (bodyChecksum.getValue() != header.getLong(24)) {
+                System.err.println("Ignoring " + snapshotFile + ": checksum mismatch");
+                return null;
+            }
+            return new RecipeSnapshot(mapped, recipeCount, cuisineCount);
+
+        } catch (IOException | RuntimeException e) {
+            System.err.println("Error reading recipe snapshot: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Computes the CRC32C and length of the source data.
+     *
+     * @param source The source bytes, from position to limit; the position is not moved
+     * @return {checksum, length}
+     */
+    public static long[] checksumOf(ByteBuffer source) {
+        CRC32C checksum = new CRC32C();
+        checksum.update(source.duplicate());
+        return new long[] {checksum.getValue(), source.remaining()};
+    }
+
+    /**
+     * Gets the number of recipes in the snapshot.
+     *
+     * @return The recipe count
+     */
+    public int size() {
+        return recipeCount;
+    }
+
+    /**
+     * Gets the cuisine dictionary; record cuisine codes index into it.
+     *
+     * @return Unmodifiable list of distinct cuisines
+     */
+    public List<String> getCuisines() {
+        return Collections.unmodifiableList(Arrays.asList(cuisines));
+    }
+
+    /**
+     * Gets a recipe's cuisine code without decoding the record.
+     *
+     * @param index Record index
+     * @return Index into {@link #getCuisines()}, or -1 if the recipe has no cuisine
+     */
+    public int cuisineCodeAt(int index) {
+        return buffer.getInt(record(index) + CUISINE_CODE);
+    }
+
+    /**
+     * Gets a recipe's total time without decoding the record.
+     *
+     * @param index Record index
+     * @return Total time in minutes
+     */
+    public int timeAt(int index) {
+        return buffer.getInt(record(index) + TIME);
+    }
+
+    /**
+     * Decodes one recipe.
+     *
+     * @param index Record index, from 0 to size() - 1
+     * @return A new Recipe
+     */
+    public Recipe recipeAt(int index) {
+        int record = record(index);
+        int cuisineCode = buffer.getInt(record + CUISINE_CODE);
+        Recipe recipe = new Recipe(
+            buffer.getInt(record + ID),
+            string(buffer.getInt(record + NAME)),
+            string(buffer.getInt(record + DESCRIPTION)),
+            cuisineCode >= 0 ? cuisines[cuisineCode] : null,
+            buffer.getInt(record + TIME),
+            buffer.getInt(record + CREATED_BY),
+            string(buffer.getInt(record + SOURCE_URL)),
+            string(buffer.getInt(record + IMAGE_URL)),
+            string(buffer.getInt(record + INGREDIENTS)));
+
+        String instructions = string(buffer.getInt(record + INSTRUCTIONS));
+        if (instructions != null && !instructions.isEmpty()) {
+            recipe.setInstructions(new ArrayList<>(Arrays.asList(instructions.split("\n"))));
+        }
+        return recipe;
+    }
+
+    /**
+     * Decodes every recipe in stored order.
+     *
+     * @return A new list of recipes
+     */
+    public List<Recipe> readAll() {
+        List<Recipe> recipes = new ArrayList<>(recipeCount);
+        for (int i = 0; i < recipeCount; i++) {
+            recipes.add(recipeAt(i));
+        }
+        return recipes;
+    }
+
+    private int record(int index) {
+        if (index < 0 || index >= recipeCount) {
+            throw new IndexOutOfBoundsException("Record " + index + " of " + recipeCount);
+        }
+        return recordsStart + RECORD_BYTES * index;
+    }
+
+    private String string(int ref) {
+        if (ref == NULL_REF) {
+            return null;
+        }
+        int position = poolStart + ref;
+        byte[] bytes = new byte[buffer.getInt(position)];
+        buffer.get(position + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Collects length-prefixed UTF-8 strings, storing each distinct string once.
+     */
+    private static class StringPool {
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final Map<String, Integer> offsets = new HashMap<>();
+
+        int add(String value) {
+            if (value == null) {
+                return NULL_REF;
+            }
+            Integer offset = offsets.get(value);
+            if (offset == null) {
+                offset = bytes.size();
+                byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                bytes.write(utf8.length >>> 24);
+                bytes.write(utf8.length >>> 16);
+                bytes.write(utf8.length >>> 8);
+                bytes.write(utf8.length);
+                bytes.write(utf8, 0, utf8.length);
+                offsets.put(value, offset);
+            }
+            return offset;
+        }
+
+        byte[] toByteArray() {
+            return bytes.toByteArray();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.recipeplanner.model;
+
+import com.recipeplanner.repository.IngredientRepository;
+import com.recipeplanner.util.IngredientQuantityParser;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for ShoppingList.
+ */
+public class ShoppingListTest {
+
+    private static final double DELTA = 1e-9;
+
+    private IngredientRepository ingredientRepository;
+    private ShoppingList shoppingList;
+
+    @Before
+    public void setUp() {
+        ingredientRepository = new IngredientRepository();
+        shoppingList = new ShoppingList();
+    }
+
+    private void add(int id, String rawIngredients) {
+        Recipe recipe = new Recipe(id, "Recipe " + id, null, "Indian", 30, 0, null, null, rawIngredients);
+        shoppingList.addRecipe(recipe, IngredientQuantityParser.parse(rawIngredients, ingredientRepository));
+    }
+
+    private ShoppingList.ShoppingItem item(String name) {
+        for (ShoppingList.ShoppingItem item : shoppingList.getItems()) {
+            if (item.getName().equals(name)) {
+                return item;
+            }
+        }
+        throw new AssertionError("No item " + name);
+    }
+
+    @Test
+    public void combinesVolumesAcrossUnits() {
+        add(1, "2 teaspoons Salt");
+        add(2, "1 tablespoon Salt");
+
+        List<Measurement> quantities = item("salt").getQuantities();
+        assertEquals(1, quantities.size());
+        assertEquals(25.0 / 15, quantities.get(0).getAmount(), DELTA);
+        assertEquals("tbsp", quantities.get(0).getUnit());
+        assertEquals(2, item("salt").getUseCount());
+    }
+
+    @Test
+    public void keepsIncompatibleUnitsApart() {
+        add(1, "2 cups Onion");
+        add(2, "3 Onion");
+
+        assertEquals(2, item("onion").getQuantities().size());
+    }
+
+    @Test
+    public void unmeasuredUseAddsNoQuantity() {
+        add(1, "Salt - to taste");
+
+        assertTrue(item("salt").hasUnmeasuredUse());
+        assertTrue(item("salt").getQuantities().isEmpty());
+        assertEquals("as required", item("salt").getQuantityText());
+    }
+
+    @Test
+    public void removingUndoesAdding() {
+        add(1, "2 teaspoons Salt, 1 cup Rice");
+        add(2, "1 tablespoon Salt, Salt - to taste, 2 Onions");
+
+        assertTrue(shoppingList.removeRecipe(2));
+        assertEquals(2, shoppingList.getItemCount());
+        assertEquals(10, item("salt").getQuantities().get(0).convertTo("ml").getAmount(), DELTA);
+        assertFalse(item("salt").hasUnmeasuredUse());
+
+        assertTrue(shoppingList.removeRecipe(1));
+        assertTrue(shoppingList.isEmpty());
+        assertEquals(0, shoppingList.getItemCount());
+        assertFalse(shoppingList.removeRecipe(1));
+    }
+
+    @Test
+    public void repeatedRecipeIsRemovedOneOccurrenceAtATime() {
+        add(1, "1 cup Rice");
+        add(1, "1 cup Rice");
+
+        assertEquals(2, shoppingList.getOccurrences(1));
+        assertEquals(2, item("rice").getQuantities().get(0).getAmount(), DELTA);
+
+        shoppingList.removeRecipe(1);
+        assertTrue(shoppingList.containsRecipe(1));
+        assertEquals(1, item("rice").getQuantities().get(0).getAmount(), DELTA);
+        assertEquals(1, shoppingList.getRecipeCount());
+    }
+}
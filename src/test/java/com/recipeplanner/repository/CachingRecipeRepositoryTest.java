@@ -0,0 +1,75 @@
+package com.recipeplanner.repository;
+
+import com.recipeplanner.model.Recipe;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for CachingRecipeRepository.
+ */
+public class CachingRecipeRepositoryTest {
+
+    private static final int MAX_ENTRIES = 5;
+
+    private InMemoryRecipeRepository delegate;
+    private CachingRecipeRepository cache;
+
+    @Before
+    public void setUp() {
+        delegate = new InMemoryRecipeRepository();
+        for (int i = 1; i <= 4; i++) {
+            delegate.save(new Recipe(0, "Dal " + i, null, "Indian", 30, 0, null, null, "1 cup Dal"));
+        }
+        delegate.save(new Recipe(0, "Pasta", null, "Italian", 20, 7, null, null, "200 grams Pasta"));
+        cache = new CachingRecipeRepository(delegate, MAX_ENTRIES, 10);
+    }
+
+    @Test
+    public void listsCountAgainstTheEntryBudget() {
+        cache.findByCuisine("Indian");
+        cache.findById(5);
+        cache.findByCreatedBy(7);
+
+        assertTrue(cache.getStats().getEntryCount() <= MAX_ENTRIES);
+        assertTrue(cache.getStats().getEvictionCount() > 0);
+    }
+
+    @Test
+    public void listLargerThanTheBudgetIsNotCached() {
+        cache = new CachingRecipeRepository(delegate, 3, 10);
+        cache.findByCuisine("Indian");
+
+        assertEquals(0, cache.getStats().getListCount());
+        assertEquals(0, cache.getStats().getEntryCount());
+    }
+
+    @Test
+    public void findByIdReturnsCopies() {
+        cache.findById(1).get().setName("Changed");
+
+        assertEquals("Dal 1", cache.findById(1).get().getName());
+    }
+
+    @Test
+    public void failedUpdateIsNotCached() {
+        Recipe missing = new Recipe(99, "Ghost", null, "Indian", 10, 0, null, null, "1 cup Water");
+
+        assertFalse(cache.update(missing));
+        cache.save(missing);
+        assertFalse(cache.findById(99).isPresent());
+    }
+
+    @Test
+    public void updateReplacesCachedRecipe() {
+        Recipe dal = cache.findById(1).get();
+        dal.setName("Dal Tadka");
+
+        assertTrue(cache.update(dal));
+        assertEquals("Dal Tadka", cache.findById(1).get().getName());
+        assertEquals("Dal Tadka", delegate.findById(1).get().getName());
+    }
+}
@@ -0,0 +1,94 @@
+package com.recipeplanner.repository;
+
+import com.recipeplanner.model.Ingredient;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for IngredientRepository.
+ */
+public class IngredientRepositoryTest {
+
+    private IngredientRepository repository;
+
+    @Before
+    public void setUp() {
+        repository = new IngredientRepository();
+    }
+
+    @Test
+    public void namesAreNormalized() {
+        Ingredient cumin = repository.findOrCreate("Cumin Seeds");
+
+        assertSame(cumin, repository.findOrCreate("  cumin   SEEDS "));
+        assertEquals(1, repository.count());
+    }
+
+    @Test
+    public void parenthesizedNameDoesNotClaimTheNameAroundIt() {
+        Ingredient split = repository.findOrCreate("Urad Dal (Split)");
+        Ingredient whole = repository.findOrCreate("Urad Dal");
+
+        assertNotSame(split, whole);
+        assertSame(whole, repository.findByName("urad dal").get());
+    }
+
+    @Test
+    public void findOrCreateDoesNotDependOnCreationOrder() {
+        IngredientRepository reversed = new IngredientRepository();
+        Ingredient cumin = repository.findOrCreate("Cumin seeds (Jeera)");
+        Ingredient jeera = repository.findOrCreate("Jeera");
+        Ingredient reversedJeera = reversed.findOrCreate("Jeera");
+        Ingredient reversedCumin = reversed.findOrCreate("Cumin seeds (Jeera)");
+
+        assertSame(cumin, jeera);
+        assertSame(reversedCumin, reversedJeera);
+        assertEquals("cumin seeds (jeera)", reversedJeera.getName());
+        assertEquals(1, repository.count());
+        assertEquals(1, reversed.count());
+    }
+
+    @Test
+    public void aliasTableMergesSpellings() {
+        Ingredient cumin = repository.findOrCreate("cumin (jeera) seeds");
+
+        assertSame(cumin, repository.findOrCreate("Cumin seeds"));
+        assertSame(cumin, repository.findByName("cumin seeds (jeera)").get());
+        assertNotSame(cumin, repository.findOrCreate("Cumin powder"));
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    public void findByNameResolvesParenthesizedText() {
+        Ingredient methi = repository.findOrCreate("Methi seeds (Fenugreek seeds)");
+
+        assertSame(methi, repository.findByName("fenugreek seeds").get());
+        assertTrue(repository.findByName("methi seeds").isEmpty());
+    }
+
+    @Test
+    public void sharedParenthesizedTextResolvesToFirstName() {
+        repository.findOrCreate("Fenugreek seeds (Methi)");
+        Ingredient leaves = repository.findOrCreate("Fenugreek leaves (Methi)");
+
+        assertSame(leaves, repository.findByName("methi").get());
+    }
+
+    @Test
+    public void addedAliasResolvesEverywhere() {
+        assertTrue(repository.addAlias("Zeera", "jeera"));
+        Ingredient cumin = repository.findOrCreate("Zeera");
+
+        assertEquals("cumin seeds (jeera)", cumin.getName());
+        assertSame(cumin, repository.findByName("ZEERA").get());
+        assertSame(cumin, repository.findOrCreate("cumin seeds (jeera)"));
+        assertFalse(repository.addAlias("Cumin seeds (Jeera)", "Zeera"));
+        assertEquals(1, repository.count());
+    }
+}
@@ -0,0 +1,55 @@
+package com.recipeplanner.search;
+
+import com.recipeplanner.model.Recipe;
+import com.recipeplanner.repository.IngredientRepository;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Unit tests for AutocompleteIndex.
+ */
+public class AutocompleteIndexTest {
+
+    private AutocompleteIndex index;
+
+    @Before
+    public void setUp() {
+        index = AutocompleteIndex.build(Arrays.asList(
+            new Recipe(1, "Paneer Tikka", null, "Indian", 30, 0, null, null, "200 grams Paneer"),
+            new Recipe(2, "Palak Paneer", null, "Indian", 40, 0, null, null, "200 grams Paneer, 1 bunch Palak"),
+            new Recipe(3, "Pasta", null, "Italian", 20, 0, null, null, "200 grams Pasta")),
+            new IngredientRepository());
+    }
+
+    @Test
+    public void completesByPopularity() {
+        List<AutocompleteIndex.Suggestion> suggestions = index.complete("pa", 2);
+
+        assertEquals(2, suggestions.size());
+        assertEquals("paneer", suggestions.get(0).getText());
+    }
+
+    @Test
+    public void completesFromLaterWords() {
+        List<AutocompleteIndex.Suggestion> suggestions = index.complete("tikka", 5);
+
+        assertEquals(1, suggestions.size());
+        assertEquals("Paneer Tikka", suggestions.get(0).getText());
+    }
+
+    @Test
+    public void selectionsRaiseRankWithoutRebuilding() {
+        List<AutocompleteIndex.Suggestion> suggestions =
+            index.complete("pa", 1, Collections.singletonMap("pasta", 5));
+
+        assertEquals(1, suggestions.size());
+        assertEquals("Pasta", suggestions.get(0).getText());
+        assertEquals(6, suggestions.get(0).getWeight());
+    }
+}
@@ -0,0 +1,67 @@
+package com.recipeplanner.search;
+
+import com.recipeplanner.model.Recipe;
+import com.recipeplanner.repository.IngredientRepository;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for PantryMatcher.
+ */
+public class PantryMatcherTest {
+
+    private PantryMatcher matcher;
+
+    @Before
+    public void setUp() {
+        Recipe saltedRice = new Recipe(1, "Salted Rice", null, "Indian", 20, 0, null, null,
+                                       "1 cup Rice, 1 teaspoon Salt, 2 cups Water");
+        Recipe hotChocolate = new Recipe(2, "Hot Chocolate", null, "Continental", 10, 0, null, null,
+                                         "50 grams Chocolate, 1 cup Milk, 1 teaspoon Sugar, Salt - a pinch");
+        matcher = PantryMatcher.build(Arrays.asList(saltedRice, hotChocolate), new IngredientRepository());
+    }
+
+    @Test
+    public void staplesAloneDoNotMatchARecipe() {
+        List<PantryMatcher.PantryMatch> matches = matcher.match(Collections.singletonList("chocolate"), 3, 10);
+
+        assertEquals(1, matches.size());
+        assertEquals("Hot Chocolate", matches.get(0).getRecipe().getName());
+    }
+
+    @Test
+    public void staplesAreNeverMissingOrMatched() {
+        PantryMatcher.PantryMatch match = matcher.match(Collections.singletonList("chocolate"), 3, 10).get(0);
+
+        assertEquals(1, match.getMatchedCount());
+        assertEquals(Arrays.asList("milk", "sugar"), match.getMissingIngredients());
+        assertFalse(match.getMissingIngredients().contains("salt"));
+    }
+
+    @Test
+    public void recipeNeedingOnlyStaplesBesidesPantryHasNothingMissing() {
+        List<PantryMatcher.PantryMatch> matches = matcher.match(Collections.singletonList("rice"), 0, 10);
+
+        assertEquals(1, matches.size());
+        assertEquals("Salted Rice", matches.get(0).getRecipe().getName());
+        assertTrue(matches.get(0).getMissingIngredients().isEmpty());
+    }
+
+    @Test
+    public void pantryEntriesAreParsedLikeRecipeEntries() {
+        List<PantryMatcher.PantryMatch> matches =
+            matcher.match(Arrays.asList("2 cups Milk", "100 grams Chocolate - dark", "Sugar"), 0, 10);
+
+        assertEquals(1, matches.size());
+        assertEquals("Hot Chocolate", matches.get(0).getRecipe().getName());
+        assertEquals(3, matches.get(0).getMatchedCount());
+    }
+}
@@ -0,0 +1,135 @@
+package com.recipeplanner.service;
+
+import com.recipeplanner.model.MealPlan;
+import com.recipeplanner.model.MealType;
+import com.recipeplanner.model.Recipe;
+import com.recipeplanner.repository.InMemoryRecipeRepository;
+import com.recipeplanner.search.RecipeSearchIndex;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.DayOfWeek;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for MealPlanGenerator.
+ */
+public class MealPlanGeneratorTest {
+
+    private static final String[] INGREDIENTS = {
+        "1 cup Rice, 1 Onion", "2 cups Flour, 1 tsp Salt", "1 cup Dal, 1 Tomato",
+        "200 grams Paneer, 1 Onion", "1 cup Curd, 1 tsp Salt", "2 Potatoes, 1 Tomato"
+    };
+
+    private RecipeService recipeService;
+
+    @Before
+    public void setUp() {
+        InMemoryRecipeRepository repository = new InMemoryRecipeRepository();
+        addRecipes(repository, "Indian", 20, 15);
+        addRecipes(repository, "Italian", 6, 25);
+        addRecipes(repository, "Mexican", 4, 40);
+        // Too long for any meal
+        addRecipes(repository, "Thai", 3, 90);
+
+        RecipeSearchIndex searchIndex = new RecipeSearchIndex();
+        searchIndex.rebuild(repository.findAll());
+        recipeService = new RecipeService(repository, searchIndex);
+    }
+
+    private static void addRecipes(InMemoryRecipeRepository repository, String cuisine, int count, int firstTime) {
+        for (int i = 0; i < count; i++) {
+            repository.save(new Recipe(0, cuisine + " " + i, null, cuisine, firstTime + 5 * (i % 6), 0,
+                                       null, null, INGREDIENTS[i % INGREDIENTS.length]));
+        }
+    }
+
+    private MealPlan generate(MealPlanConstraints constraints) {
+        MealPlan plan = new MealPlan();
+        MealPlanGenerator.fill(plan, constraints, recipeService);
+        return plan;
+    }
+
+    private static void assertWithinConstraints(MealPlan plan, MealPlanConstraints constraints) {
+        Set<Integer> recipeIds = new HashSet<>();
+        Map<String, Integer> mealsPerCuisine = new HashMap<>();
+        for (DayOfWeek day : DayOfWeek.values()) {
+            for (MealType meal : MealType.values()) {
+                Recipe recipe = plan.getRecipe(day, meal);
+                if (recipe == null) {
+                    continue;
+                }
+                assertTrue("Recipe used twice: " + recipe.getName(), recipeIds.add(recipe.getId()));
+                assertTrue(recipe.getName() + " too long for " + meal,
+                           recipe.getTotalTimeInMins() <= constraints.getMaxTimeInMins(meal));
+                mealsPerCuisine.merge(recipe.getCuisine(), 1, Integer::sum);
+            }
+        }
+        for (Map.Entry<String, Integer> entry : mealsPerCuisine.entrySet()) {
+            assertTrue(entry.getKey() + " used " + entry.getValue() + " times",
+                       entry.getValue() <= constraints.getMaxMealsPerCuisine());
+        }
+    }
+
+    @Test
+    public void plansRespectTheConstraints() {
+        for (long seed = 0; seed < 5; seed++) {
+            MealPlanConstraints constraints = new MealPlanConstraints.ConstraintsBuilder()
+                .withMaxMealsPerCuisine(12)
+                .withMaxIterations(2000)
+                .withSeed(seed)
+                .build();
+            MealPlan plan = generate(constraints);
+
+            assertWithinConstraints(plan, constraints);
+            assertEquals(21, plan.getMealCount());
+        }
+    }
+
+    @Test
+    public void cuisineLimitLeavesSlotsEmpty() {
+        MealPlanConstraints constraints = new MealPlanConstraints.ConstraintsBuilder()
+            .withCuisines(Arrays.asList("Indian", "Italian"))
+            .withMaxMealsPerCuisine(3)
+            .withMaxIterations(2000)
+            .withSeed(1)
+            .build();
+        MealPlan plan = generate(constraints);
+
+        assertWithinConstraints(plan, constraints);
+        assertEquals(6, plan.getMealCount());
+    }
+
+    @Test
+    public void slotsStayEmptyWithoutCandidates() {
+        MealPlanConstraints constraints = new MealPlanConstraints.ConstraintsBuilder()
+            .withCuisines(Arrays.asList("Thai"))
+            .withSeed(1)
+            .build();
+
+        assertEquals(0, generate(constraints).getMealCount());
+    }
+
+    @Test
+    public void sameSeedGivesSamePlan() {
+        MealPlanConstraints constraints = new MealPlanConstraints.ConstraintsBuilder()
+            .withMaxIterations(2000)
+            .withSeed(42)
+            .build();
+        List<Recipe> first = generate(constraints).getRecipes();
+        List<Recipe> second = generate(constraints).getRecipes();
+
+        assertEquals(first.size(), second.size());
+        for (int i = 0; i < first.size(); i++) {
+            assertEquals(first.get(i).getId(), second.get(i).getId());
+        }
+    }
+}
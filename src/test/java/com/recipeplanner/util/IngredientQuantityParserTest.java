@@ -0,0 +1,149 @@
+package com.recipeplanner.util;
+
+import com.recipeplanner.model.IngredientQuantity;
+import com.recipeplanner.model.RecipeIngredients;
+import com.recipeplanner.model.Unit;
+import com.recipeplanner.repository.IngredientRepository;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for IngredientQuantityParser.
+ */
+public class IngredientQuantityParserTest {
+
+    private static final double DELTA = 1e-9;
+
+    private IngredientRepository ingredientRepository;
+
+    @Before
+    public void setUp() {
+        ingredientRepository = new IngredientRepository();
+    }
+
+    private IngredientQuantity parseOne(String entry) {
+        RecipeIngredients parsed = IngredientQuantityParser.parse(entry, ingredientRepository);
+        assertEquals(1, parsed.size());
+        return parsed.get(0);
+    }
+
+    @Test
+    public void parsesWholeNumberAndUnit() {
+        IngredientQuantity quantity = parseOne("2 cups Rice");
+
+        assertEquals(2, quantity.getAmount(), DELTA);
+        assertEquals(Unit.CUP, quantity.getUnit());
+        assertEquals("rice", quantity.getIngredient().getName());
+        assertFalse(quantity.isRange());
+    }
+
+    @Test
+    public void parsesMixedNumberWithSpace() {
+        IngredientQuantity quantity = parseOne("1 1/2 teaspoons Cumin seeds (Jeera)");
+
+        assertEquals(1.5, quantity.getAmount(), DELTA);
+        assertEquals(Unit.TEASPOON, quantity.getUnit());
+        assertEquals("cumin seeds (jeera)", quantity.getIngredient().getName());
+    }
+
+    @Test
+    public void parsesMixedNumberWithHyphen() {
+        IngredientQuantity quantity = parseOne("1-1/2 cups Milk");
+
+        assertEquals(1.5, quantity.getAmount(), DELTA);
+        assertFalse(quantity.isRange());
+    }
+
+    @Test
+    public void parsesHyphenatedRange() {
+        IngredientQuantity quantity = parseOne("2-3 Green Chillies");
+
+        assertEquals(2, quantity.getAmount(), DELTA);
+        assertEquals(3, quantity.getMaxAmount(), DELTA);
+        assertTrue(quantity.isRange());
+        assertEquals("green chillies", quantity.getIngredient().getName());
+    }
+
+    @Test
+    public void parsesWordRange() {
+        IngredientQuantity quantity = parseOne("2 to 3 cups Water");
+
+        assertEquals(2, quantity.getAmount(), DELTA);
+        assertEquals(3, quantity.getMaxAmount(), DELTA);
+        assertEquals(Unit.CUP, quantity.getUnit());
+    }
+
+    @Test
+    public void parsesVulgarFractions() {
+        assertEquals(0.5, parseOne("½ cup Curd").getAmount(), DELTA);
+        assertEquals(1.5, parseOne("1½ cups Flour").getAmount(), DELTA);
+        assertEquals(1.25, parseOne("1 ¼ cups Sugar").getAmount(), DELTA);
+    }
+
+    @Test
+    public void parsesToTasteWithSeparator() {
+        IngredientQuantity quantity = parseOne("Salt - to taste");
+
+        assertFalse(quantity.hasAmount());
+        assertNull(quantity.getUnit());
+        assertTrue(quantity.isToTaste());
+        assertEquals("salt", quantity.getIngredient().getName());
+        assertEquals("to taste", quantity.getNote());
+    }
+
+    @Test
+    public void parsesToTasteWithoutSeparator() {
+        IngredientQuantity quantity = parseOne("Salt to taste");
+
+        assertFalse(quantity.hasAmount());
+        assertTrue(quantity.isToTaste());
+    }
+
+    @Test
+    public void keepsUnitWordAsIngredientWhenNothingFollows() {
+        IngredientQuantity quantity = parseOne("4 Cloves");
+
+        assertEquals(4, quantity.getAmount(), DELTA);
+        assertEquals(Unit.PIECE, quantity.getUnit());
+        assertEquals("cloves (laung)", quantity.getIngredient().getName());
+    }
+
+    @Test
+    public void keepsUnitWordAsIngredientBeforeParentheses() {
+        IngredientQuantity quantity = parseOne("2 Cloves (Laung)");
+
+        assertEquals(Unit.PIECE, quantity.getUnit());
+        assertEquals("cloves (laung)", quantity.getIngredient().getName());
+    }
+
+    @Test
+    public void readsUnitWordFollowedByIngredient() {
+        IngredientQuantity quantity = parseOne("4 cloves Garlic - crushed");
+
+        assertEquals(Unit.CLOVE, quantity.getUnit());
+        assertEquals("garlic", quantity.getIngredient().getName());
+        assertEquals("crushed", quantity.getNote());
+        assertFalse(quantity.isToTaste());
+    }
+
+    @Test
+    public void skipsEmptyEntries() {
+        RecipeIngredients parsed = IngredientQuantityParser.parse("1 cup Rice, , 2 cups Water,", ingredientRepository);
+
+        assertEquals(2, parsed.size());
+        assertEquals("water", parsed.getIngredient(1).getName());
+    }
+
+    @Test
+    public void extractNameMatchesParse() {
+        assertEquals("cumin seeds (jeera)",
+                     IngredientQuantityParser.extractName("2 teaspoons Cumin seeds (Jeera) - roasted"));
+        assertEquals("cumin powder", IngredientQuantityParser.extractName("  Cumin   powder -"));
+        assertEquals("", IngredientQuantityParser.extractName("   "));
+    }
+}
@@ -0,0 +1,139 @@
+package com.recipeplanner.util;
+
+import com.recipeplanner.model.Recipe;
+import com.recipeplanner.repository.InMemoryRecipeRepository;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Unit tests for RecipeDelta.
+ */
+public class RecipeDeltaTest {
+
+    private static final CSVRecipeLoader.ImportProgressListener IGNORE = (imported, total) -> { };
+
+    private InMemoryRecipeRepository repository;
+
+    @Before
+    public void setUp() {
+        repository = new InMemoryRecipeRepository();
+    }
+
+    private static Recipe seeded(String name, String url, int minutes) {
+        return new Recipe(0, name, null, "Indian", minutes, 0, url, null, "1 cup Rice");
+    }
+
+    private RecipeDelta compute(List<Recipe> parsed) {
+        return RecipeDelta.compute(repository.findAll(), parsed);
+    }
+
+    @Test
+    public void unchangedRecipeProducesNoChange() {
+        repository.save(seeded("Dal", "https://example.com/dal", 30));
+
+        RecipeDelta delta = compute(Collections.singletonList(seeded("Dal", "https://example.com/dal", 30)));
+
+        assertTrue(delta.isEmpty());
+        assertEquals(1, delta.getUnchanged());
+    }
+
+    @Test
+    public void changedFieldProducesUpdate() {
+        int id = repository.save(seeded("Dal", "https://example.com/dal", 30)).getId();
+
+        RecipeDelta delta = compute(Collections.singletonList(seeded("Dal Tadka", "https://example.com/dal", 30)));
+
+        assertEquals(1, delta.size());
+        assertEquals(1, delta.getUpdates().size());
+        assertEquals(id, delta.getUpdates().get(0).getId());
+
+        delta.apply(repository, 10, IGNORE);
+        assertEquals("Dal Tadka", repository.findById(id).get().getName());
+    }
+
+    @Test
+    public void storedRecipeWithoutUrlIsMatchedByName() {
+        int id = repository.save(seeded("Dal", null, 30)).getId();
+
+        RecipeDelta delta = compute(Collections.singletonList(seeded("Dal", "https://example.com/dal", 30)));
+
+        assertTrue(delta.getInserts().isEmpty());
+        assertTrue(delta.getDeletes().isEmpty());
+        assertEquals(id, delta.getUpdates().get(0).getId());
+
+        delta.apply(repository, 10, IGNORE);
+        assertEquals("https://example.com/dal", repository.findById(id).get().getSourceUrl());
+        assertTrue(compute(Collections.singletonList(seeded("Dal", "https://example.com/dal", 30))).isEmpty());
+    }
+
+    @Test
+    public void userRecipesAreLeftAlone() {
+        Recipe mine = new Recipe(0, "Dal", null, "Indian", 30, 7, null, null, "1 cup Dal");
+        int id = repository.save(mine).getId();
+
+        RecipeDelta delta = compute(Collections.singletonList(seeded("Dal", null, 45)));
+
+        assertEquals(1, delta.getInserts().size());
+        assertTrue(delta.getUpdates().isEmpty());
+        assertTrue(delta.getDeletes().isEmpty());
+
+        delta.apply(repository, 10, IGNORE);
+        assertEquals(30, repository.findById(id).get().getTotalTimeInMins());
+        assertEquals(2, repository.count());
+    }
+
+    @Test
+    public void recomputingAfterPartialApplyReturnsRemainingChanges() {
+        repository.save(seeded("Dal", "https://example.com/dal", 30));
+        repository.save(seeded("Old Curry", "https://example.com/old", 20));
+
+        // Fails every insert batch after the first
+        InMemoryRecipeRepository failing = new InMemoryRecipeRepository() {
+            private int insertBatches;
+
+            @Override
+            public int saveAll(Iterable<Recipe> recipes, int batchSize) {
+                if (recipes.iterator().next().getId() == 0 && ++insertBatches > 1) {
+                    return 0;
+                }
+                return repository.saveAll(recipes, batchSize);
+            }
+
+            @Override
+            public int deleteAll(Collection<Integer> recipeIds, int batchSize) {
+                return repository.deleteAll(recipeIds, batchSize);
+            }
+        };
+
+        RecipeDelta delta = compute(parsed());
+        assertEquals(4, delta.size());
+        assertEquals(3, delta.apply(failing, 1, IGNORE));
+        assertFalse(delta.isComplete());
+
+        RecipeDelta remaining = compute(parsed());
+        assertEquals(1, remaining.size());
+        assertEquals("Upma", remaining.getInserts().get(0).getName());
+        assertEquals(2, remaining.getUnchanged());
+        assertEquals(1, remaining.apply(repository, 1, IGNORE));
+        assertTrue(compute(parsed()).isEmpty());
+    }
+
+    /**
+     * Dataset for the partial apply: one update, one delete, two inserts.
+     */
+    private static List<Recipe> parsed() {
+        return Arrays.asList(
+            seeded("Dal", "https://example.com/dal", 35),
+            seeded("Poha", "https://example.com/poha", 15),
+            seeded("Upma", "https://example.com/upma", 20));
+    }
+}